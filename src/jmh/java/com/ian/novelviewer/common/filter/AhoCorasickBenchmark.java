@@ -0,0 +1,60 @@
+package com.ian.novelviewer.common.filter;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 크기별 금지어 검사 시간을 측정합니다.
+ * 실행: ./gradlew jmh
+ * <p>
+ * - 사전: 실제 형태와 비슷한 한글 단어 2,000개
+ * - 댓글: 금지어가 없는 한글/영문/공백이 섞인 문자열 (전체를 순회하는 최악의 경우)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AhoCorasickBenchmark {
+
+    private static final int DICTIONARY_SIZE = 2_000;
+    private static final String FILLER = "오늘 회차 정말 재밌네요 다음 화도 기대됩니다 good ";
+
+    @Param({"40", "200", "1000"})
+    private int commentLength;
+
+    private AhoCorasick automaton;
+    private String comment;
+
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>(DICTIONARY_SIZE);
+
+        for (int i = 0; i < DICTIONARY_SIZE; i++) {
+            int length = 2 + random.nextInt(3);
+            StringBuilder word = new StringBuilder();
+            for (int j = 0; j < length; j++) {
+                word.append((char) (0xAC00 + random.nextInt(11172)));
+            }
+            words.add(word.toString());
+        }
+        automaton = AhoCorasick.compile(words);
+
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < commentLength) {
+            sb.append(FILLER);
+        }
+        comment = sb.substring(0, commentLength);
+    }
+
+
+    @Benchmark
+    public void findFirst(Blackhole blackhole) {
+        blackhole.consume(automaton.findFirst(comment));
+    }
+}
@@ -2,6 +2,9 @@ package com.ian.novelviewer.admin.application;
 
 import com.ian.novelviewer.admin.dto.AdminDto;
 import com.ian.novelviewer.common.exception.CustomException;
+import com.ian.novelviewer.common.security.AuthenticatedUserCache;
+import com.ian.novelviewer.novel.application.NovelInfoCache;
+import com.ian.novelviewer.novel.application.NovelSearchIndex;
 import com.ian.novelviewer.user.domain.User;
 import com.ian.novelviewer.user.domain.UserRepository;
 import jakarta.transaction.Transactional;
@@ -19,6 +22,9 @@ import static com.ian.novelviewer.common.exception.ErrorCode.USER_NOT_FOUND;
 public class AdminService {
 
     private final UserRepository userRepository;
+    private final NovelSearchIndex novelSearchIndex;
+    private final NovelInfoCache novelInfoCache;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
 
     /**
@@ -27,6 +33,7 @@ public class AdminService {
      * - 사용자가 존재하지 않으면 예외를 발생시킵니다.
      * - 이미 '작가' 권한이 있는 경우 중복 승인을 방지하기 위해 예외를 발생시킵니다.
      * - 승인 후, 사용자 객체에 작가 권한을 부여하고 응답 DTO로 반환합니다.
+     * - 이미 발급된 토큰의 권한 클레임이 더 이상 사용되지 않도록 권한 변경을 기록합니다.
      *
      * @param userId 권한 승인을 요청한 사용자 ID
      * @return 승인된 사용자 정보를 포함한 응답 DTO
@@ -51,8 +58,23 @@ public class AdminService {
         }
 
         user.approveAuthorRole();
+        novelSearchIndex.reindexAuthor(user.getId());
+        authenticatedUserCache.invalidate(user.getId());
 
         log.debug("작가 권한 승인 완료 - 필명: {}, 권한: {}", user.getAuthorName(), user.getRoles());
         return AdminDto.RoleApprovalResponse.from(user);
     }
-}
\ No newline at end of file
+
+
+    /**
+     * 소설 상세 정보 캐시의 적중/미스 통계를 조회합니다.
+     *
+     * @return 로컬 캐시 및 Redis 캐시 통계 응답 DTO
+     */
+    public AdminDto.CacheStatsResponse getNovelCacheStats() {
+        NovelInfoCache.Stats stats = novelInfoCache.stats();
+
+        log.debug("소설 캐시 통계 조회 - {}", stats);
+        return AdminDto.CacheStatsResponse.from(stats);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ian.novelviewer.admin.dto;
 
 import com.ian.novelviewer.common.enums.Role;
+import com.ian.novelviewer.novel.application.NovelInfoCache;
 import com.ian.novelviewer.user.domain.User;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -32,4 +33,29 @@ public class AdminDto {
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CacheStatsResponse {
+
+        private long localSize;
+        private long localHits;
+        private long localMisses;
+        private long localEvictions;
+        private long redisHits;
+        private long redisMisses;
+
+        public static AdminDto.CacheStatsResponse from(NovelInfoCache.Stats stats) {
+            return CacheStatsResponse.builder()
+                    .localSize(stats.localSize())
+                    .localHits(stats.localHits())
+                    .localMisses(stats.localMisses())
+                    .localEvictions(stats.localEvictions())
+                    .redisHits(stats.redisHits())
+                    .redisMisses(stats.redisMisses())
+                    .build();
+        }
+    }
+}
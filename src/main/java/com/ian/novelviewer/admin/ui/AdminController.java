@@ -41,4 +41,19 @@ public class AdminController {
         log.info("작가 권한 승인 처리 완료 - 승인 대상 ID: {}", userId);
         return ResponseEntity.ok(response);
     }
+
+
+    /**
+     * 소설 상세 정보 캐시의 적중/미스 통계를 조회합니다.
+     *
+     * @return 로컬 캐시 및 Redis 캐시 통계
+     */
+    @GetMapping("/cache/novels")
+    public ResponseEntity<?> getNovelCacheStats() {
+        log.info("소설 캐시 통계 조회 요청 수신");
+
+        AdminDto.CacheStatsResponse response = adminService.getNovelCacheStats();
+
+        return ResponseEntity.ok(response);
+    }
 }
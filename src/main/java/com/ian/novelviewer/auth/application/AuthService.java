@@ -90,7 +90,7 @@ public class AuthService {
             throw new CustomException(INVALID_CREDENTIALS);
         }
 
-        String token = jwtProvider.generateToken(user.getLoginId(), user.getRoles());
+        String token = jwtProvider.generateToken(user.getId(), user.getLoginId(), user.getRoles());
 
         log.debug("로그인 성공 - loginId: {}", request.getLoginId());
         return AuthDto.SignInResponse.from(user, token);
@@ -0,0 +1,197 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요가 많은 댓글을 사용자 ID 비트맵과 별도 카운터로 보관하는 저장소입니다.
+ * <p>
+ * - 비트맵은 사용자 ID를 오프셋으로 사용하므로 크기가 (최대 사용자 ID / 8) 바이트로 고정됩니다.
+ *   좋아요가 적은 댓글은 Set(intset)이 훨씬 작으므로, 좋아요 수가 기준치에 도달한 댓글만 비트맵으로 전환합니다.
+ * - 전환된 댓글은 카운터 키가 존재하는 것으로 구분하며, 전환은 Lua 스크립트로 원자적으로 수행합니다.
+ * - 기준치는 (최대 사용자 ID / 8) / 60 바이트(Set 멤버당 대략의 크기) 근처로 두는 것이 좋습니다.
+ * - 좋아요 수는 카운터(전환 전에는 Set 크기)에 이월 좋아요 수를 더한 값입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.comment.like.store", havingValue = "bitmap")
+public class BitmapCommentLikeStore implements CommentLikeStore {
+
+    /**
+     * 카운터가 없고 Set 크기가 기준치 이상이면 비트맵으로 옮긴 뒤 Set을 삭제합니다.
+     */
+    private static final String PROMOTE_LUA = """
+            local function promote(setKey, bitmapKey, countKey, threshold)
+                if redis.call('EXISTS', countKey) == 1 then return 0 end
+                if redis.call('SCARD', setKey) < tonumber(threshold) then return 0 end
+                local members = redis.call('SMEMBERS', setKey)
+                for _, member in ipairs(members) do
+                    redis.call('SETBIT', bitmapKey, member, 1)
+                end
+                redis.call('SET', countKey, #members)
+                redis.call('DEL', setKey)
+                return 1
+            end
+            """;
+
+    /**
+     * KEYS: Set 키, 비트맵 키, 카운터 키 / ARGV: 기준치
+     */
+    private static final RedisScript<Long> PROMOTE_SCRIPT = new DefaultRedisScript<>(PROMOTE_LUA + """
+            return promote(KEYS[1], KEYS[2], KEYS[3], ARGV[1])
+            """, Long.class);
+
+    /**
+     * KEYS[3~6]: Set 키, 비트맵 키, 카운터 키, 이월 좋아요 수 / ARGV[4]: 기준치
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADD_SCRIPT = new DefaultRedisScript<>(
+            CommentLikeScripts.AFTER_CHANGE_LUA + CommentLikeScripts.BASE_LUA + PROMOTE_LUA + """
+            if not seeded() then return {-1, 0} end
+            if redis.call('EXISTS', KEYS[5]) == 1 then
+                if redis.call('SETBIT', KEYS[4], ARGV[1], 1) == 1 then
+                    return {0, withBase(tonumber(redis.call('GET', KEYS[5])))}
+                end
+                local count = redis.call('INCR', KEYS[5])
+                afterChange(1)
+                return {1, withBase(count)}
+            end
+            local added = redis.call('SADD', KEYS[3], ARGV[1])
+            local count = redis.call('SCARD', KEYS[3])
+            if added == 1 then
+                afterChange(1)
+                promote(KEYS[3], KEYS[4], KEYS[5], ARGV[4])
+            end
+            return {added, withBase(count)}
+            """, List.class);
+
+    /**
+     * KEYS[3~6]: Set 키, 비트맵 키, 카운터 키, 이월 좋아요 수
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            CommentLikeScripts.AFTER_CHANGE_LUA + CommentLikeScripts.BASE_LUA + """
+            if not seeded() then return {-1, 0} end
+            if redis.call('EXISTS', KEYS[5]) == 1 then
+                if redis.call('SETBIT', KEYS[4], ARGV[1], 0) == 0 then
+                    return {0, withBase(tonumber(redis.call('GET', KEYS[5])))}
+                end
+                local count = redis.call('DECR', KEYS[5])
+                afterChange(-1)
+                return {1, withBase(count)}
+            end
+            local removed = redis.call('SREM', KEYS[3], ARGV[1])
+            if removed == 1 then afterChange(-1) end
+            return {removed, withBase(redis.call('SCARD', KEYS[3]))}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${spring.comment.like.bitmap.promote-threshold}")
+    private long promoteThreshold;
+
+
+    @Override
+    public LikeStates getStates(List<Long> commentIds, Long userId) {
+        byte[] member = userId == null ? null : userId.toString().getBytes(StandardCharsets.UTF_8);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long id : commentIds) {
+                byte[] setKey = RedisKeyUtil.commentLikeKey(id).getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().get(RedisKeyUtil.commentLikeBaseKey(id).getBytes(StandardCharsets.UTF_8));
+                connection.stringCommands().get(RedisKeyUtil.commentLikeCountKey(id).getBytes(StandardCharsets.UTF_8));
+                connection.setCommands().sCard(setKey);
+                if (member != null) {
+                    connection.setCommands().sIsMember(setKey, member);
+                    connection.stringCommands().getBit(
+                            RedisKeyUtil.commentLikeBitmapKey(id).getBytes(StandardCharsets.UTF_8), userId);
+                }
+            }
+            return null;
+        });
+
+        int stride = member == null ? 3 : 5;
+        Map<Long, CommentLikeService.LikeState> states = new HashMap<>();
+        List<Long> unseeded = new ArrayList<>();
+
+        for (int i = 0; i < commentIds.size(); i++) {
+            int offset = i * stride;
+            Object carried = results.get(offset);
+            Object counter = results.get(offset + 1);
+            Object setSize = results.get(offset + 2);
+
+            if (carried == null) {
+                unseeded.add(commentIds.get(i));
+            }
+
+            long count = counter != null
+                    ? Long.parseLong(counter.toString())
+                    : setSize == null ? 0L : ((Number) setSize).longValue();
+            if (carried != null) {
+                count += Long.parseLong(carried.toString());
+            }
+            boolean liked = member != null
+                    && (Boolean.TRUE.equals(results.get(offset + 3)) || Boolean.TRUE.equals(results.get(offset + 4)));
+
+            states.put(commentIds.get(i), new CommentLikeService.LikeState(count, liked));
+        }
+
+        return new LikeStates(states, unseeded);
+    }
+
+
+    @Override
+    public LikeResult add(Long commentId, Long userId, String rankingKey) {
+        return CommentLikeScripts.result(redisTemplate.execute(ADD_SCRIPT,
+                CommentLikeScripts.keys(commentId, rankingKey, storeKeys(commentId)),
+                CommentLikeScripts.args(commentId, userId, String.valueOf(promoteThreshold))));
+    }
+
+
+    @Override
+    public LikeResult remove(Long commentId, Long userId, String rankingKey) {
+        return CommentLikeScripts.result(redisTemplate.execute(REMOVE_SCRIPT,
+                CommentLikeScripts.keys(commentId, rankingKey, storeKeys(commentId)),
+                CommentLikeScripts.args(commentId, userId)));
+    }
+
+
+    /**
+     * 기존 Set으로 보관된 댓글이 기준치 이상이면 비트맵으로 전환합니다.
+     *
+     * @param commentId 댓글 고유 ID
+     * @return 전환된 경우 true
+     */
+    public boolean promote(Long commentId) {
+        Long result = redisTemplate.execute(PROMOTE_SCRIPT, List.of(storeKeys(commentId)), String.valueOf(promoteThreshold));
+        boolean promoted = result != null && result > 0;
+        if (promoted) {
+            log.debug("[BitmapCommentLikeStore] 비트맵 전환 - commentId={}", commentId);
+        }
+        return promoted;
+    }
+
+
+    private static String[] storeKeys(Long commentId) {
+        return new String[]{
+                RedisKeyUtil.commentLikeKey(commentId),
+                RedisKeyUtil.commentLikeBitmapKey(commentId),
+                RedisKeyUtil.commentLikeCountKey(commentId)
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.common.exception.CustomException;
+import com.ian.novelviewer.common.filter.AhoCorasick;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.ian.novelviewer.common.exception.ErrorCode.FORBIDDEN_CONTENT;
+
+/**
+ * 댓글 내용에 금지어(욕설, 스팸 문구)가 포함되어 있는지 검사합니다.
+ * <p>
+ * - 금지어 사전을 Aho-Corasick 오토마톤으로 컴파일해 두고, 댓글 내용을 한 번만 순회하여 검사합니다.
+ * - 사전 파일이 수정되면 주기적인 확인에서 새 오토마톤을 만들어 교체합니다. 검사 중인 요청은 이전 오토마톤을 그대로 사용합니다.
+ * - 사전을 읽지 못하면 이전 오토마톤을 유지합니다.
+ */
+@Slf4j
+@Component
+public class CommentContentFilter {
+
+    private static final String COMMENT_PREFIX = "#";
+
+    @Value("${spring.comment.filter.dictionary}")
+    private Resource dictionary;
+
+    private volatile AhoCorasick automaton = AhoCorasick.compile(List.of());
+    private volatile long lastModified = -1;
+
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+
+    /**
+     * 댓글 내용에 금지어가 있으면 예외를 던집니다.
+     *
+     * @param content 댓글 내용
+     * @throws CustomException 금지어가 포함된 경우
+     */
+    public void checkOrThrow(String content) {
+        String word = automaton.findFirst(content);
+
+        if (word != null) {
+            log.warn("[CommentContentFilter] 금지어 포함 댓글 차단 - word={}", word);
+            throw new CustomException(FORBIDDEN_CONTENT);
+        }
+    }
+
+
+    /**
+     * 사전 파일이 수정되었으면 다시 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${spring.comment.filter.reload-interval-ms}")
+    public void reloadIfModified() {
+        long modified = lastModified();
+        if (modified > 0 && modified != lastModified) {
+            reload();
+        }
+    }
+
+
+    /**
+     * 사전 파일을 읽어 오토마톤을 새로 만들어 교체합니다.
+     */
+    public synchronized void reload() {
+        long modified = lastModified();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(dictionary.getInputStream(), StandardCharsets.UTF_8))) {
+            List<String> words = reader.lines()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith(COMMENT_PREFIX))
+                    .toList();
+
+            automaton = AhoCorasick.compile(words);
+            lastModified = modified;
+            log.info("[CommentContentFilter] 금지어 사전 로드 - {}개", automaton.size());
+        } catch (IOException e) {
+            log.error("[CommentContentFilter] 금지어 사전 로드 실패 - 이전 사전 유지 - {}", dictionary, e);
+        }
+    }
+
+
+    /**
+     * 사전 파일의 수정 시각을 반환합니다. jar 내부 리소스처럼 확인할 수 없으면 0을 반환합니다.
+     */
+    private long lastModified() {
+        try {
+            return dictionary.lastModified();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
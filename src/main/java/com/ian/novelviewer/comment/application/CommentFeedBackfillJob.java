@@ -0,0 +1,69 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 댓글 피드 도입 이전에 작성된 원 댓글을 백그라운드에서 배치 단위로 피드에 채웁니다.
+ * <p>
+ * - 한 번 실행할 때 한 배치만 처리하여 DB 부하와 트랜잭션 길이를 제한합니다.
+ * - 마지막으로 처리한 댓글 id와 완료 표시는 Redis에 남기므로, 재배포 후에도 처음부터 다시 조회하지 않고 이어서 처리합니다.
+ *   배치는 이미 피드에 있는 댓글을 건너뛰므로, 여러 서버가 같은 구간을 처리하거나 Redis가 비워져 처음부터 다시 실행되어도 안전합니다.
+ * - 새로 작성되는 원 댓글은 작성 시점에 피드에 추가되므로, 대상이 모두 소진되면 더 이상 조회하지 않습니다.
+ * - 백필이 끝나기 전에는 댓글 목록 조회가 피드에 없는 댓글을 댓글 테이블에서 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.comment.feed.backfill.enabled", havingValue = "true")
+public class CommentFeedBackfillJob {
+
+    private static final String DONE = "done";
+
+    private final CommentFeedBackfillService backfillService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${spring.comment.feed.backfill.batch-size}")
+    private int batchSize;
+
+    private volatile boolean completed = false;
+
+
+    @Scheduled(fixedDelayString = "${spring.comment.feed.backfill.interval-ms}")
+    public void run() {
+        if (completed) return;
+
+        String checkpointKey = RedisKeyUtil.commentFeedBackfillKey();
+        long lastId = 0L;
+
+        try {
+            String checkpoint = redisTemplate.opsForValue().get(checkpointKey);
+            if (DONE.equals(checkpoint)) {
+                completed = true;
+                return;
+            }
+            if (checkpoint != null) {
+                lastId = Long.parseLong(checkpoint);
+            }
+
+            Long batchLastId = backfillService.backfillBatch(lastId, batchSize);
+
+            if (batchLastId == null) {
+                redisTemplate.opsForValue().set(checkpointKey, DONE);
+                completed = true;
+                log.info("[CommentFeedBackfill] 댓글 피드 백필 완료 - 마지막 id={}", lastId);
+                return;
+            }
+
+            redisTemplate.opsForValue().set(checkpointKey, String.valueOf(batchLastId));
+        } catch (Exception e) {
+            log.error("[CommentFeedBackfill] 댓글 피드 백필 실패 - lastId={}", lastId, e);
+        }
+    }
+}
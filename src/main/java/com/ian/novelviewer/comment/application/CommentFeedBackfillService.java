@@ -0,0 +1,61 @@
+package com.ian.novelviewer.comment.application;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentFeedBackfillService {
+
+    private static final String SELECT_IDS_SQL = """
+            select id
+            from comments
+            where parent_id is null and id > ?
+            order by id
+            limit ?
+            """;
+
+    private static final String INSERT_SQL = """
+            insert into comment_feed
+                (comment_id, novel_id, episode_id, writer, content, like_count, reply_count, created_at)
+            select c.id, n.novel_id, e.episode_id, u.login_id, c.content, c.like_count,
+                   (select count(*) from comments r where r.parent_id = c.id),
+                   c.created_at
+            from comments c
+            join episodes e on e.id = c.episode_id
+            join novels n on n.id = e.novel_id
+            join users u on u.id = c.user_id
+            where c.parent_id is null
+              and c.id > ? and c.id <= ?
+              and not exists (select 1 from comment_feed f where f.comment_id = c.id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+
+    /**
+     * 댓글 피드에 없는 원 댓글을 한 배치만큼 피드에 채웁니다.
+     * 이미 피드에 있는 댓글은 건너뛰므로 여러 번 실행되어도 안전합니다.
+     *
+     * @param lastId    이전 배치에서 마지막으로 처리한 댓글 id
+     * @param batchSize 한 번에 처리할 원 댓글 수
+     * @return 이번 배치에서 마지막으로 처리한 댓글 id, 더 이상 대상이 없으면 null
+     */
+    @Transactional
+    public Long backfillBatch(long lastId, int batchSize) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_IDS_SQL, Long.class, lastId, batchSize);
+        if (ids.isEmpty()) return null;
+
+        Long batchLastId = ids.get(ids.size() - 1);
+        int inserted = jdbcTemplate.update(INSERT_SQL, lastId, batchLastId);
+
+        log.debug("댓글 피드 백필 - 대상={}건, 추가={}건, 마지막 id={}", ids.size(), inserted, batchLastId);
+        return batchLastId;
+    }
+}
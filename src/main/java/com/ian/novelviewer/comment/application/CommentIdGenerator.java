@@ -0,0 +1,40 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.comment.domain.CommentRepository;
+import com.ian.novelviewer.common.sequence.BlockIdAllocator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 접수 모드에서 DB 저장 전에 댓글 고유 ID를 발급합니다.
+ * MySQL에 예약한 번호 구간에서 발급하며, 구간을 예약할 때 실제 저장된 최대 댓글 ID 이후부터 예약합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.comment.ingest.mode", havingValue = "queued")
+public class CommentIdGenerator {
+
+    private static final String SEQUENCE = "comment";
+
+    private final BlockIdAllocator blockIdAllocator;
+    private final CommentRepository commentRepository;
+
+    @Value("${spring.comment.ingest.id-block-size}")
+    private int blockSize;
+
+
+    /**
+     * 다음 댓글 고유 ID를 발급합니다.
+     *
+     * @return 다음 댓글 고유 ID
+     */
+    public long next() {
+        long nextId = blockIdAllocator.next(SEQUENCE, blockSize, () -> commentRepository.findMaxId() + 1);
+        log.debug("다음 댓글 ID 생성 - nextCommentId={}", nextId);
+        return nextId;
+    }
+}
@@ -0,0 +1,245 @@
+package com.ian.novelviewer.comment.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ian.novelviewer.comment.domain.PendingComment;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * 접수된 댓글을 DB에 저장하기 전까지 보관하는 로컬 append-only 로그입니다.
+ * <p>
+ * - 댓글 한 건을 JSON 한 줄로 기록하고, 기록할 때마다 fsync 하므로 응답 이후 서버가 종료되어도 유실되지 않습니다.
+ * - DB 저장이 끝난 위치는 체크포인트 파일에 원자적으로 기록하며, 로그를 모두 소비하면 파일을 비웁니다.
+ * - 서버 시작 시 체크포인트 이후의 댓글부터 다시 읽으며, 기록 도중 종료되어 잘린 마지막 줄은 버립니다.
+ * - 서버마다 자신의 로그를 가지므로, 다른 서버의 로그는 해당 서버가 다시 시작되어야 저장됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.comment.ingest.mode", havingValue = "queued")
+public class CommentIngestLog {
+
+    private static final String LOG_FILE = "comments.log";
+    private static final String CHECKPOINT_FILE = "comments.checkpoint";
+    private static final int READ_CHUNK_SIZE = 64 * 1024;
+    private static final byte NEW_LINE = '\n';
+
+    private final ObjectMapper objectMapper;
+    private final Path checkpointPath;
+    private final FileChannel channel;
+
+    private long checkpoint;
+
+
+    public CommentIngestLog(
+            @Value("${spring.comment.ingest.log-dir}") String logDir,
+            ObjectMapper objectMapper
+    ) throws IOException {
+        Path dir = Path.of(logDir);
+        Files.createDirectories(dir);
+
+        this.objectMapper = objectMapper;
+        this.checkpointPath = dir.resolve(CHECKPOINT_FILE);
+        this.channel = FileChannel.open(dir.resolve(LOG_FILE), CREATE, READ, WRITE);
+        this.checkpoint = readCheckpoint();
+
+        recover();
+    }
+
+
+    /**
+     * 댓글을 로그 끝에 기록하고 디스크에 반영될 때까지 기다립니다.
+     * 기록에 실패하면 일부만 기록된 줄을 잘라내고 예외를 던집니다.
+     *
+     * @param comment 접수된 댓글
+     * @throws IOException 기록 또는 fsync 실패 시
+     */
+    public synchronized void append(PendingComment comment) throws IOException {
+        byte[] line = (objectMapper.writeValueAsString(comment) + "\n").getBytes(StandardCharsets.UTF_8);
+        long start = channel.size();
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            long position = start;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            channel.truncate(start);
+            throw e;
+        }
+    }
+
+
+    /**
+     * 체크포인트 이후의 댓글을 최대 max건 읽습니다. 체크포인트는 변경하지 않습니다.
+     * 읽을 수 없는 줄은 건너뛰고, 반환한 끝 위치에 포함하여 다시 읽지 않도록 합니다.
+     *
+     * @param max 읽을 최대 건수
+     * @return 읽은 댓글과 마지막으로 읽은 줄의 끝 위치
+     */
+    public synchronized Batch readBatch(int max) throws IOException {
+        List<PendingComment> entries = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK_SIZE);
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+        long size = channel.size();
+        long position = checkpoint;
+        long endOffset = checkpoint;
+
+        while (position < size && entries.size() < max) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) break;
+
+            for (int i = 0; i < read && entries.size() < max; i++) {
+                byte b = buffer.get(i);
+                if (b != NEW_LINE) {
+                    line.write(b);
+                    continue;
+                }
+
+                endOffset = position + i + 1;
+                parse(line.toByteArray(), endOffset, entries);
+                line.reset();
+            }
+            position += read;
+        }
+
+        return new Batch(entries, endOffset);
+    }
+
+
+    /**
+     * 주어진 위치까지 저장이 끝났음을 기록합니다.
+     * 로그 끝까지 저장되었으면 로그 파일을 비웁니다.
+     *
+     * @param offset {@link #readBatch}가 반환한 끝 위치
+     */
+    public synchronized void commit(long offset) throws IOException {
+        if (offset >= channel.size()) {
+            channel.truncate(0);
+            channel.force(true);
+            offset = 0;
+        }
+
+        writeCheckpoint(offset);
+        checkpoint = offset;
+    }
+
+
+    /**
+     * 저장을 기다리는 댓글이 없는지 확인합니다.
+     */
+    public synchronized boolean isEmpty() throws IOException {
+        return checkpoint >= channel.size();
+    }
+
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+
+    private void parse(byte[] line, long endOffset, List<PendingComment> entries) {
+        if (line.length == 0) return;
+
+        try {
+            entries.add(objectMapper.readValue(line, PendingComment.class));
+        } catch (IOException e) {
+            log.error("[CommentIngestLog] 읽을 수 없는 줄 건너뜀 - endOffset={}", endOffset, e);
+        }
+    }
+
+
+    /**
+     * 마지막 줄바꿈 이후의 잘린 기록을 제거하고, 로그보다 앞선 체크포인트를 바로잡습니다.
+     * 로그를 비운 직후 체크포인트를 기록하기 전에 종료된 경우 체크포인트가 로그 크기보다 클 수 있습니다.
+     */
+    private void recover() throws IOException {
+        long size = channel.size();
+        long validSize = lastLineEnd(size);
+
+        if (validSize < size) {
+            log.warn("[CommentIngestLog] 잘린 기록 제거 - {}bytes", size - validSize);
+            channel.truncate(validSize);
+            channel.force(true);
+        }
+
+        if (checkpoint > validSize) {
+            log.warn("[CommentIngestLog] 체크포인트 초기화 - checkpoint={}, size={}", checkpoint, validSize);
+            writeCheckpoint(0);
+            checkpoint = 0;
+        }
+
+        if (checkpoint < validSize) {
+            log.info("[CommentIngestLog] 저장되지 않은 댓글 로그 발견 - {}bytes", validSize - checkpoint);
+        }
+    }
+
+
+    private long lastLineEnd(long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_CHUNK_SIZE);
+        long end = size;
+
+        while (end > 0) {
+            long start = Math.max(0, end - READ_CHUNK_SIZE);
+            buffer.clear().limit((int) (end - start));
+            channel.read(buffer, start);
+
+            for (int i = buffer.position() - 1; i >= 0; i--) {
+                if (buffer.get(i) == NEW_LINE) return start + i + 1;
+            }
+            end = start;
+        }
+
+        return 0;
+    }
+
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointPath)) return 0;
+
+        String value = Files.readString(checkpointPath).trim();
+        return value.isEmpty() ? 0 : Long.parseLong(value);
+    }
+
+
+    private void writeCheckpoint(long offset) throws IOException {
+        Path tmp = checkpointPath.resolveSibling(CHECKPOINT_FILE + ".tmp");
+
+        try (FileChannel out = FileChannel.open(tmp, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            out.write(ByteBuffer.wrap(Long.toString(offset).getBytes(StandardCharsets.UTF_8)));
+            out.force(true);
+        }
+
+        Files.move(tmp, checkpointPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+
+    /**
+     * 로그에서 읽은 댓글 묶음
+     *
+     * @param entries   읽은 댓글
+     * @param endOffset 마지막으로 읽은 줄의 끝 위치 (저장 후 {@link #commit}에 전달)
+     */
+    public record Batch(List<PendingComment> entries, long endOffset) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.ian.novelviewer.comment.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ian.novelviewer.comment.domain.Comment;
+import com.ian.novelviewer.comment.domain.CommentRepository;
+import com.ian.novelviewer.comment.domain.PendingComment;
+import com.ian.novelviewer.comment.dto.CommentDto;
+import com.ian.novelviewer.common.exception.CustomException;
+import com.ian.novelviewer.common.security.CustomUserDetails;
+import com.ian.novelviewer.episode.domain.EpisodeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static com.ian.novelviewer.common.exception.ErrorCode.*;
+
+/**
+ * 댓글을 DB에 바로 저장하지 않고 접수만 한 뒤 즉시 응답합니다. ({@code spring.comment.ingest.mode=queued})
+ * <p>
+ * - 회차와 부모 댓글을 검증하고 댓글 ID를 미리 발급한 뒤, 로컬 접수 로그에 fsync 하여 기록하면 응답합니다.
+ * - DB 저장은 {@link CommentIngestWriter}가 배치 단위로 수행합니다.
+ * - 작성자는 저장 전에도 {@link PendingCommentOverlay}를 통해 자신의 댓글을 조회할 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.comment.ingest.mode", havingValue = "queued")
+public class CommentIngestService {
+
+    private final CommentRepository commentRepository;
+    private final EpisodeRepository episodeRepository;
+    private final CommentIdGenerator commentIdGenerator;
+    private final CommentIngestLog commentIngestLog;
+    private final PendingCommentOverlay pendingCommentOverlay;
+
+    @Value("${spring.comment.ingest.episode-cache-size}")
+    private long episodeCacheSize;
+
+    @Value("${spring.comment.ingest.episode-cache-ttl}")
+    private Duration episodeCacheTtl;
+
+    private Cache<String, Long> episodeIdCache;
+
+
+    @PostConstruct
+    public void init() {
+        episodeIdCache = Caffeine.newBuilder()
+                .maximumSize(episodeCacheSize)
+                .expireAfterWrite(episodeCacheTtl)
+                .build();
+    }
+
+
+    /**
+     * 댓글을 검증하고 접수 로그에 기록한 뒤 접수된 댓글을 반환합니다.
+     * 대댓글은 한 단계만 작성이 가능하며, 부모 댓글은 DB 또는 작성자 본인의 접수된 댓글이어야 합니다.
+     *
+     * @param novelId   소설 고유번호
+     * @param episodeId 회차 고유번호
+     * @param request   댓글 생성 요청 DTO
+     * @param user      인증된 사용자 정보
+     * @return 접수된 댓글 정보 DTO
+     */
+    public CommentDto.CommentResponse submit(
+            Long novelId,
+            Long episodeId,
+            CommentDto.CreateCommentRequest request,
+            CustomUserDetails user
+    ) {
+        Long userId = user.getUserId();
+        log.debug("[submit] 요청 - novelId={}, episodeId={}, userId={}, parentId={}",
+                novelId, episodeId, userId, request.getParentId());
+
+        Long episodePk = findEpisodePkOrThrow(novelId, episodeId);
+        if (request.getParentId() != null) {
+            checkParentOrThrow(novelId, episodeId, request.getParentId(), userId);
+        }
+
+        PendingComment comment = new PendingComment(
+                commentIdGenerator.next(),
+                novelId,
+                episodeId,
+                episodePk,
+                request.getParentId(),
+                userId,
+                user.getLoginId(),
+                request.getContent(),
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)
+        );
+
+        try {
+            commentIngestLog.append(comment);
+        } catch (IOException e) {
+            log.error("[submit] 접수 로그 기록 실패 - commentId={}", comment.id(), e);
+            throw new CustomException(COMMENT_INGEST_FAILED);
+        }
+
+        try {
+            pendingCommentOverlay.put(comment);
+        } catch (Exception e) {
+            log.warn("[submit] 오버레이 기록 실패 - 저장 후 조회 가능 - commentId={}", comment.id(), e);
+        }
+
+        log.debug("[submit] 댓글 접수 완료 - commentId={}", comment.id());
+        return CommentDto.CommentResponse.from(comment);
+    }
+
+
+    /**
+     * 사용자의 특정 회차에 접수된 댓글을 최신순으로 조회합니다.
+     * 오버레이 조회에 실패하면 빈 목록을 반환합니다.
+     *
+     * @param userId    사용자 고유 ID
+     * @param novelId   소설 고유번호
+     * @param episodeId 회차 고유번호
+     * @return 저장 대기 중인 댓글 목록
+     */
+    public List<PendingComment> findPending(Long userId, Long novelId, Long episodeId) {
+        try {
+            return pendingCommentOverlay.findAll(userId).stream()
+                    .filter(comment -> comment.belongsTo(novelId, episodeId))
+                    .toList();
+        } catch (Exception e) {
+            log.warn("[findPending] 오버레이 조회 실패 - userId={}", userId, e);
+            return List.of();
+        }
+    }
+
+
+    private Long findEpisodePkOrThrow(Long novelId, Long episodeId) {
+        Long episodePk = episodeIdCache.get(novelId + ":" + episodeId,
+                key -> episodeRepository.findIdByNovelIdAndEpisodeId(novelId, episodeId).orElse(null));
+
+        if (episodePk == null) {
+            log.error("[findEpisodePkOrThrow] 회차 조회 실패 - novelId={}, episodeId={}", novelId, episodeId);
+            throw new CustomException(EPISODE_NOT_FOUND);
+        }
+        return episodePk;
+    }
+
+
+    private void checkParentOrThrow(Long novelId, Long episodeId, Long parentId, Long userId) {
+        Optional<PendingComment> pendingParent = findPending(userId, novelId, episodeId).stream()
+                .filter(comment -> comment.id().equals(parentId))
+                .findFirst();
+
+        boolean isReply;
+        if (pendingParent.isPresent()) {
+            isReply = pendingParent.get().isReply();
+        } else {
+            Comment parent = commentRepository
+                    .findByIdAndEpisode_EpisodeIdAndEpisode_Novel_NovelId(parentId, episodeId, novelId)
+                    .orElseThrow(() -> {
+                        log.error("[checkParentOrThrow] 부모 댓글 조회 실패 - parentId={}", parentId);
+                        return new CustomException(COMMENT_NOT_FOUND);
+                    });
+            isReply = parent.getParent() != null;
+        }
+
+        if (isReply) {
+            log.warn("[checkParentOrThrow] 2단계 이상 대댓글 시도 차단 - parentId={}", parentId);
+            throw new CustomException(INVALID_COMMENT);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.comment.domain.CommentRepository;
+import com.ian.novelviewer.comment.domain.PendingComment;
+import com.ian.novelviewer.comment.dto.CommentDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * 접수 로그의 댓글을 주기적으로 MySQL에 배치 INSERT 합니다.
+ * <p>
+ * - 댓글, 댓글 피드, 대댓글 수를 한 트랜잭션에서 JDBC 배치로 반영하고, 커밋 이후 랭킹 색인 추가, 댓글 스트림 전파,
+ *   오버레이 제거를 수행합니다.
+ * - 저장 후 체크포인트를 기록하기 전에 종료되면 같은 댓글을 다시 읽으므로, 이미 저장된 ID는 건너뜁니다.
+ * - 배치 저장이 실패하면 한 건씩 저장하여, 저장할 수 없는 댓글(삭제된 회차 등)만 버리고 나머지는 저장합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.comment.ingest.mode", havingValue = "queued")
+public class CommentIngestWriter {
+
+    private static final String INSERT_COMMENT_SQL = """
+            insert into comments (id, content, user_id, episode_id, parent_id, like_count, created_at, updated_at)
+            values (?, ?, ?, ?, ?, 0, ?, ?)
+            """;
+
+    private static final String INSERT_FEED_SQL = """
+            insert into comment_feed (comment_id, novel_id, episode_id, writer, content, like_count, reply_count, created_at)
+            values (?, ?, ?, ?, ?, 0, 0, ?)
+            """;
+
+    private static final String UPDATE_REPLY_COUNT_SQL =
+            "update comment_feed set reply_count = reply_count + ? where comment_id = ?";
+
+    private final CommentIngestLog commentIngestLog;
+    private final PendingCommentOverlay pendingCommentOverlay;
+    private final CommentRepository commentRepository;
+    private final CommentRankingIndex commentRankingIndex;
+    private final CommentStreamService commentStreamService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.comment.ingest.batch-size}")
+    private int batchSize;
+
+
+    @Scheduled(fixedDelayString = "${spring.comment.ingest.interval-ms}")
+    public void run() {
+        long written = 0;
+
+        while (true) {
+            try {
+                CommentIngestLog.Batch batch = commentIngestLog.readBatch(batchSize);
+                if (batch.entries().isEmpty() && commentIngestLog.isEmpty()) break;
+
+                written += write(batch.entries());
+                commentIngestLog.commit(batch.endOffset());
+
+                if (batch.entries().size() < batchSize) break;
+            } catch (Exception e) {
+                log.error("[CommentIngestWriter] 접수 댓글 저장 실패 - 다음 실행에서 재시도", e);
+                return;
+            }
+        }
+
+        if (written > 0) {
+            log.debug("[CommentIngestWriter] 접수 댓글 저장 완료 - {}건", written);
+        }
+    }
+
+
+    private int write(List<PendingComment> entries) {
+        if (entries.isEmpty()) return 0;
+
+        Set<Long> existingIds = new HashSet<>(
+                commentRepository.findExistingIds(entries.stream().map(PendingComment::id).toList()));
+        List<PendingComment> comments = entries.stream()
+                .filter(comment -> !existingIds.contains(comment.id()))
+                .toList();
+
+        int written = comments.size();
+        if (!comments.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(comments));
+            } catch (Exception e) {
+                log.warn("[CommentIngestWriter] 배치 저장 실패 - {}건 개별 저장으로 전환", comments.size(), e);
+                written = insertEach(comments);
+            }
+        }
+
+        pendingCommentOverlay.removeAll(entries);
+        return written;
+    }
+
+
+    private int insertEach(List<PendingComment> comments) {
+        int inserted = 0;
+
+        for (PendingComment comment : comments) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(List.of(comment)));
+                inserted++;
+            } catch (Exception e) {
+                log.error("[CommentIngestWriter] 저장할 수 없는 댓글 버림 - commentId={}, episodePk={}, parentId={}",
+                        comment.id(), comment.episodePk(), comment.parentId(), e);
+            }
+        }
+
+        return inserted;
+    }
+
+
+    /**
+     * 댓글을 저장하고 원 댓글은 피드에 추가, 대댓글은 부모의 대댓글 수를 증가시킵니다.
+     * 랭킹 색인 추가와 댓글 스트림 전파는 트랜잭션 커밋 이후에 반영됩니다.
+     */
+    private void insert(List<PendingComment> comments) {
+        List<Object[]> commentRows = new ArrayList<>(comments.size());
+        List<Object[]> feedRows = new ArrayList<>();
+        Map<Long, Long> replyCounts = new LinkedHashMap<>();
+
+        for (PendingComment comment : comments) {
+            Timestamp createdAt = Timestamp.valueOf(comment.createdAt());
+            commentRows.add(new Object[]{comment.id(), comment.content(), comment.userId(), comment.episodePk(),
+                    comment.parentId(), createdAt, createdAt});
+
+            if (comment.isReply()) {
+                replyCounts.merge(comment.parentId(), 1L, Long::sum);
+            } else {
+                feedRows.add(new Object[]{comment.id(), comment.novelId(), comment.episodeId(), comment.writer(),
+                        comment.content(), createdAt});
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_COMMENT_SQL, commentRows);
+        if (!feedRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_FEED_SQL, feedRows);
+        }
+        if (!replyCounts.isEmpty()) {
+            List<Object[]> replyRows = new ArrayList<>(replyCounts.size());
+            replyCounts.forEach((parentId, count) -> replyRows.add(new Object[]{count, parentId}));
+            jdbcTemplate.batchUpdate(UPDATE_REPLY_COUNT_SQL, replyRows);
+        }
+
+        for (PendingComment comment : comments) {
+            if (!comment.isReply()) {
+                commentRankingIndex.add(comment.novelId(), comment.episodeId(), comment.id());
+            }
+            commentStreamService.publishComment(comment.novelId(), comment.episodeId(), comment.parentId(),
+                    CommentDto.CommentResponse.from(comment));
+        }
+    }
+}
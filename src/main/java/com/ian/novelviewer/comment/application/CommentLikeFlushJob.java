@@ -0,0 +1,89 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis의 댓글 좋아요 수를 주기적으로 MySQL의 {@code comments.like_count}와 댓글 피드에 반영합니다. (write-behind)
+ * <p>
+ * - 좋아요 스크립트가 변경된 댓글 ID를 대기 집합에 넣고, 이 작업이 SPOP으로 꺼내 배치 단위로 반영합니다.
+ * - SPOP은 원자적이므로 여러 서버에서 동시에 실행되어도 같은 댓글을 중복 처리하지 않습니다.
+ * - 반영 시점의 Redis 값을 그대로 기록하므로, 중간 변경이 여러 번 있어도 마지막 값만 한 번 기록됩니다.
+ * - DB 반영에 실패하면 꺼낸 ID를 대기 집합에 되돌려 다음 실행에서 다시 시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.comment.like.flush.enabled", havingValue = "true")
+public class CommentLikeFlushJob {
+
+    private static final String UPDATE_SQL = "update comments set like_count = ? where id = ?";
+    private static final String UPDATE_FEED_SQL = "update comment_feed set like_count = ? where comment_id = ?";
+
+    private final CommentLikeService commentLikeService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.comment.like.flush.batch-size}")
+    private int batchSize;
+
+
+    @Scheduled(fixedDelayString = "${spring.comment.like.flush.interval-ms}")
+    public void run() {
+        String dirtyKey = RedisKeyUtil.commentLikeDirtyKey();
+        long flushed = 0;
+
+        while (true) {
+            List<String> popped;
+            try {
+                popped = redisTemplate.opsForSet().pop(dirtyKey, batchSize);
+            } catch (Exception e) {
+                log.error("[CommentLikeFlush] 반영 대기 댓글 조회 실패", e);
+                return;
+            }
+
+            if (popped == null || popped.isEmpty()) break;
+
+            try {
+                flushed += flush(popped.stream().map(Long::valueOf).toList());
+            } catch (Exception e) {
+                log.error("[CommentLikeFlush] 좋아요 수 반영 실패 - {}건 재시도 예정", popped.size(), e);
+                redisTemplate.opsForSet().add(dirtyKey, popped.toArray(String[]::new));
+                return;
+            }
+
+            if (popped.size() < batchSize) break;
+        }
+
+        if (flushed > 0) {
+            log.debug("[CommentLikeFlush] 좋아요 수 반영 완료 - {}건", flushed);
+        }
+    }
+
+
+    private int flush(List<Long> commentIds) {
+        Map<Long, Long> counts = commentLikeService.getLikeCounts(commentIds);
+
+        List<Object[]> rows = new ArrayList<>(commentIds.size());
+        counts.forEach((commentId, count) -> rows.add(new Object[]{count, commentId}));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, rows);
+            jdbcTemplate.batchUpdate(UPDATE_FEED_SQL, rows);
+        });
+        return rows.size();
+    }
+}
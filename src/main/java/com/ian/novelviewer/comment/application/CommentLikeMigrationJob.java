@@ -0,0 +1,58 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비트맵 저장소로 바꾼 뒤, 기존 Set으로 남아 있는 좋아요 중 기준치 이상인 댓글을 비트맵으로 전환합니다.
+ * <p>
+ * - SCAN으로 좋아요 키를 훑으며, 전환 여부 판단과 전환은 저장소의 Lua 스크립트가 원자적으로 수행합니다.
+ * - 새로 기준치에 도달하는 댓글은 좋아요 시점에 전환되므로, 한 번 전체를 훑고 나면 더 이상 실행하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${spring.comment.like.store:set}' == 'bitmap' and ${spring.comment.like.migration.enabled:false}")
+public class CommentLikeMigrationJob {
+
+    private static final long SCAN_COUNT = 1000;
+
+    private final BitmapCommentLikeStore bitmapCommentLikeStore;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private volatile boolean completed = false;
+
+
+    @Scheduled(fixedDelayString = "${spring.comment.like.migration.interval-ms}")
+    public void run() {
+        if (completed) return;
+
+        long scanned = 0;
+        long promoted = 0;
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(RedisKeyUtil.commentLikeKeyPattern())
+                .count(SCAN_COUNT)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                scanned++;
+                if (bitmapCommentLikeStore.promote(RedisKeyUtil.commentIdFromLikeKey(cursor.next()))) {
+                    promoted++;
+                }
+            }
+
+            completed = true;
+            log.info("[CommentLikeMigration] 좋아요 비트맵 전환 완료 - 검사={}건, 전환={}건", scanned, promoted);
+        } catch (Exception e) {
+            log.error("[CommentLikeMigration] 좋아요 비트맵 전환 실패 - 검사={}건, 전환={}건", scanned, promoted, e);
+        }
+    }
+}
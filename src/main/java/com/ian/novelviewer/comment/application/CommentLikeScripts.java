@@ -0,0 +1,89 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 좋아요 저장소의 Lua 스크립트가 공통으로 사용하는 키/인자 구성과 후처리 함수입니다.
+ * <p>
+ * - KEYS[1]: 회차 랭킹 색인, KEYS[2]: DB 반영 대기 집합, KEYS[3~]: 저장소별 키, KEYS[#KEYS]: 이월 좋아요 수
+ * - ARGV[1]: 사용자 ID, ARGV[2]: 랭킹 색인 멤버, ARGV[3]: 댓글 ID, ARGV[4~]: 저장소별 인자
+ * - 이월 좋아요 수는 Redis에 누른 사용자가 남아 있지 않은 좋아요 수로, {@link CommentLikeService}가 DB의 좋아요 수로 채웁니다.
+ *   저장소가 반환하는 좋아요 수는 모두 이월 좋아요 수를 더한 값이며,
+ *   이월 좋아요 수가 아직 채워지지 않은 댓글은 변경하지 않고 {@link #UNSEEDED}를 반환합니다.
+ */
+final class CommentLikeScripts {
+
+    /**
+     * 이월 좋아요 수가 채워지지 않아 변경하지 않았음을 나타내는 스크립트 반환값입니다.
+     */
+    static final long UNSEEDED = -1;
+
+    /**
+     * 이월 좋아요 수 확인과 합산 함수입니다.
+     */
+    static final String BASE_LUA = """
+            local function seeded()
+                return redis.call('EXISTS', KEYS[#KEYS]) == 1
+            end
+            local function withBase(count)
+                return count + tonumber(redis.call('GET', KEYS[#KEYS]) or '0')
+            end
+            """;
+
+    /**
+     * 좋아요가 실제로 바뀌었을 때 랭킹 점수를 변경하고(색인에 있는 원 댓글만), DB 반영 대상으로 표시합니다.
+     */
+    static final String AFTER_CHANGE_LUA = """
+            local function afterChange(delta)
+                if redis.call('ZSCORE', KEYS[1], ARGV[2]) then
+                    redis.call('ZINCRBY', KEYS[1], delta, ARGV[2])
+                end
+                redis.call('SADD', KEYS[2], ARGV[3])
+            end
+            """;
+
+
+    static List<String> keys(Long commentId, String rankingKey, String... storeKeys) {
+        List<String> keys = new ArrayList<>(storeKeys.length + 3);
+        keys.add(rankingKey);
+        keys.add(RedisKeyUtil.commentLikeDirtyKey());
+        keys.addAll(List.of(storeKeys));
+        keys.add(RedisKeyUtil.commentLikeBaseKey(commentId));
+        return keys;
+    }
+
+
+    static Object[] args(Long commentId, Long userId, String... storeArgs) {
+        Object[] args = new Object[storeArgs.length + 3];
+        args[0] = userId.toString();
+        args[1] = CommentRankingIndex.member(commentId);
+        args[2] = commentId.toString();
+        System.arraycopy(storeArgs, 0, args, 3, storeArgs.length);
+        return args;
+    }
+
+
+    /**
+     * 스크립트가 반환한 {변경 여부, 좋아요 수}를 결과로 변환합니다.
+     *
+     * @return 이월 좋아요 수가 채워지지 않아 변경하지 않았으면 null
+     */
+    static CommentLikeStore.LikeResult result(List<?> result) {
+        if (result == null || result.size() < 2) {
+            return new CommentLikeStore.LikeResult(false, 0);
+        }
+        if (((Number) result.get(0)).longValue() == UNSEEDED) {
+            return null;
+        }
+        return new CommentLikeStore.LikeResult(
+                ((Number) result.get(0)).longValue() == 1,
+                ((Number) result.get(1)).longValue());
+    }
+
+
+    private CommentLikeScripts() {
+    }
+}
@@ -0,0 +1,195 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.comment.domain.CommentRepository;
+import com.ian.novelviewer.comment.domain.LikeCount;
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 댓글 좋아요 상태(좋아요 수, 사용자의 좋아요 여부)를 조회하고 변경합니다.
+ * 여러 댓글의 상태는 한 번에 조회하여, 댓글 수와 관계없이 Redis 왕복을 한 번으로 유지합니다.
+ * 실제 저장 방식은 {@link CommentLikeStore} 구현체가 담당합니다.
+ * <p>
+ * - Redis의 좋아요 기록이 유실되면 누른 사용자는 복구할 수 없으므로, DB의 {@code comments.like_count}를
+ *   댓글별 이월 좋아요 수로 채워 좋아요 수에 더합니다. 이후 write-behind 작업이 그 합계를 DB에 기록합니다.
+ * - 이월 좋아요 수가 없는 댓글은 조회 또는 변경 시점에 한 번 DB를 확인해 채웁니다.
+ *   DB 반영 대기 중인 댓글은 Redis가 최신이므로 0으로 채웁니다.
+ * - 이월 좋아요가 없는 댓글(0)은 표시를 일정 시간 뒤 만료시켜, 조회만 된 댓글의 키가 쌓이지 않도록 합니다.
+ * - 랭킹 색인은 재구성 시 {@link #getLikeCounts}를 사용하므로 이월 좋아요 수가 반영된 점수로 만들어집니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentLikeService {
+
+    private final CommentLikeStore commentLikeStore;
+    private final CommentRepository commentRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${spring.comment.like.seed-ttl}")
+    private Duration seedTtl;
+
+
+    /**
+     * 여러 댓글의 좋아요 상태를 한 번에 조회합니다.
+     *
+     * @param commentIds 댓글 고유 ID 목록
+     * @param userId     좋아요 여부를 확인할 사용자 고유 ID (없으면 좋아요 여부는 모두 false)
+     * @return 댓글 ID별 좋아요 상태
+     */
+    public Map<Long, LikeState> getLikeStates(Collection<Long> commentIds, Long userId) {
+        if (commentIds.isEmpty()) return Map.of();
+
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(commentIds));
+        CommentLikeStore.LikeStates result = commentLikeStore.getStates(ids, userId);
+        Map<Long, LikeState> states = result.unseeded().isEmpty()
+                ? result.states()
+                : seed(result.unseeded(), result.states());
+
+        log.debug("[getLikeStates] 댓글 {}건 좋아요 상태 조회 - userId={}", ids.size(), userId);
+        return states;
+    }
+
+
+    /**
+     * 여러 댓글의 좋아요 수를 한 번에 조회합니다.
+     *
+     * @param commentIds 댓글 고유 ID 목록
+     * @return 댓글 ID별 좋아요 수
+     */
+    public Map<Long, Long> getLikeCounts(Collection<Long> commentIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        getLikeStates(commentIds, null).forEach((id, state) -> counts.put(id, state.count()));
+        return counts;
+    }
+
+
+    /**
+     * 사용자의 좋아요를 추가합니다.
+     * 좋아요 수와 회차 랭킹 색인도 같은 스크립트에서 함께 변경됩니다.
+     *
+     * @return 변경 여부와 변경 후 좋아요 수
+     */
+    public CommentLikeStore.LikeResult addLike(Long novelId, Long episodeId, Long commentId, Long userId) {
+        String rankingKey = RedisKeyUtil.commentRankingKey(novelId, episodeId);
+        return changeSeeded(commentId, () -> commentLikeStore.add(commentId, userId, rankingKey));
+    }
+
+
+    /**
+     * 사용자의 좋아요를 취소합니다.
+     * 좋아요 수와 회차 랭킹 색인도 같은 스크립트에서 함께 변경됩니다.
+     *
+     * @return 변경 여부와 변경 후 좋아요 수
+     */
+    public CommentLikeStore.LikeResult removeLike(Long novelId, Long episodeId, Long commentId, Long userId) {
+        String rankingKey = RedisKeyUtil.commentRankingKey(novelId, episodeId);
+        return changeSeeded(commentId, () -> commentLikeStore.remove(commentId, userId, rankingKey));
+    }
+
+
+    /**
+     * 좋아요를 변경하고, 이월 좋아요 수가 채워지지 않아 거절되면 채운 뒤 한 번 더 시도합니다.
+     */
+    private CommentLikeStore.LikeResult changeSeeded(Long commentId, Supplier<CommentLikeStore.LikeResult> change) {
+        CommentLikeStore.LikeResult result = change.get();
+        if (result != null) return result;
+
+        CommentLikeStore.LikeStates current = commentLikeStore.getStates(List.of(commentId), null);
+        Map<Long, LikeState> seeded = seed(current.unseeded(), current.states());
+
+        result = change.get();
+        if (result != null) return result;
+
+        log.warn("[changeSeeded] 이월 좋아요 수를 채운 뒤에도 변경 거절 - commentId={}", commentId);
+        return new CommentLikeStore.LikeResult(false, seeded.get(commentId).count());
+    }
+
+
+    /**
+     * DB의 좋아요 수로 이월 좋아요 수를 채우고, 채운 값을 더한 좋아요 상태를 반환합니다.
+     * 이미 다른 요청이 채웠으면 덮어쓰지 않습니다(SET NX).
+     *
+     * @param commentIds 이월 좋아요 수가 채워지지 않은 댓글 ID
+     * @param states     저장소가 조회한 좋아요 상태 (이월 좋아요 수 제외)
+     */
+    private Map<Long, LikeState> seed(List<Long> commentIds, Map<Long, LikeState> states) {
+        if (commentIds.isEmpty()) return states;
+
+        Map<Long, Long> likeCounts = new HashMap<>();
+        for (LikeCount row : commentRepository.findLikeCountsByIdIn(commentIds)) {
+            likeCounts.put(row.commentId(), row.likeCount());
+        }
+
+        Set<Long> pending = findPending(likeCounts.keySet());
+        Map<Long, Long> carried = new HashMap<>();
+        for (Long id : commentIds) {
+            long count = pending.contains(id)
+                    ? 0L
+                    : Math.max(0L, likeCounts.getOrDefault(id, 0L) - states.get(id).count());
+            carried.put(id, count);
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            carried.forEach((id, count) -> connection.stringCommands().set(
+                    RedisKeyUtil.commentLikeBaseKey(id).getBytes(StandardCharsets.UTF_8),
+                    String.valueOf(count).getBytes(StandardCharsets.UTF_8),
+                    count > 0 ? Expiration.persistent() : Expiration.from(seedTtl),
+                    RedisStringCommands.SetOption.ifAbsent()));
+            return null;
+        });
+
+        Map<Long, LikeState> seeded = new HashMap<>(states);
+        carried.forEach((id, count) -> {
+            if (count > 0) {
+                LikeState state = states.get(id);
+                seeded.put(id, new LikeState(state.count() + count, state.liked()));
+            }
+        });
+
+        log.debug("[seed] 이월 좋아요 수 채움 - 댓글 {}건, DB 좋아요 보유 {}건", commentIds.size(), likeCounts.size());
+        return seeded;
+    }
+
+
+    /**
+     * DB 반영 대기 중인 댓글 ID를 조회합니다.
+     */
+    private Set<Long> findPending(Set<Long> commentIds) {
+        if (commentIds.isEmpty()) return Set.of();
+
+        Map<Object, Boolean> members = redisTemplate.opsForSet().isMember(
+                RedisKeyUtil.commentLikeDirtyKey(), commentIds.stream().map(String::valueOf).toArray());
+        if (members == null) return Set.of();
+
+        Set<Long> pending = new HashSet<>();
+        members.forEach((member, dirty) -> {
+            if (Boolean.TRUE.equals(dirty)) pending.add(Long.valueOf(member.toString()));
+        });
+        return pending;
+    }
+
+
+    /**
+     * 댓글의 좋아요 상태
+     *
+     * @param count 좋아요 수
+     * @param liked 요청 사용자의 좋아요 여부
+     */
+    public record LikeState(long count, boolean liked) {
+
+        public static final LikeState EMPTY = new LikeState(0, false);
+    }
+}
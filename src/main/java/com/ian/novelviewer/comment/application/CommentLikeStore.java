@@ -0,0 +1,67 @@
+package com.ian.novelviewer.comment.application;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 좋아요를 누른 사용자 목록을 보관하는 저장소입니다.
+ * <p>
+ * - 구현체는 {@code spring.comment.like.store} 설정(set, bitmap)으로 선택합니다.
+ * - 여러 댓글의 상태 조회는 Redis 왕복 한 번으로 처리해야 합니다.
+ * - 좋아요 추가/취소는 멤버십, 좋아요 수, 랭킹 색인, DB 반영 대기 표시를 하나의 스크립트로 원자적으로 변경합니다.
+ * - 좋아요 수에는 {@link CommentLikeService}가 DB에서 채운 이월 좋아요 수가 포함되며,
+ *   이월 좋아요 수가 채워지지 않은 댓글은 변경하지 않습니다.
+ */
+public interface CommentLikeStore {
+
+    /**
+     * 여러 댓글의 좋아요 상태를 한 번에 조회합니다.
+     *
+     * @param commentIds 중복 없는 댓글 고유 ID 목록
+     * @param userId     좋아요 여부를 확인할 사용자 고유 ID (없으면 좋아요 여부는 모두 false)
+     * @return 댓글 ID별 좋아요 상태와 이월 좋아요 수가 채워지지 않은 댓글 ID
+     */
+    LikeStates getStates(List<Long> commentIds, Long userId);
+
+
+    /**
+     * 사용자의 좋아요를 추가합니다.
+     *
+     * @param commentId  댓글 고유 ID
+     * @param userId     사용자 고유 ID
+     * @param rankingKey 댓글이 속한 회차의 랭킹 색인 키
+     * @return 변경 여부(이미 좋아요한 상태면 false)와 변경 후 좋아요 수, 이월 좋아요 수가 채워지지 않았으면 null
+     */
+    LikeResult add(Long commentId, Long userId, String rankingKey);
+
+
+    /**
+     * 사용자의 좋아요를 취소합니다.
+     *
+     * @param commentId  댓글 고유 ID
+     * @param userId     사용자 고유 ID
+     * @param rankingKey 댓글이 속한 회차의 랭킹 색인 키
+     * @return 변경 여부(좋아요하지 않은 상태면 false)와 변경 후 좋아요 수, 이월 좋아요 수가 채워지지 않았으면 null
+     */
+    LikeResult remove(Long commentId, Long userId, String rankingKey);
+
+
+    /**
+     * 여러 댓글의 좋아요 상태 조회 결과
+     *
+     * @param states   댓글 ID별 좋아요 상태
+     * @param unseeded 이월 좋아요 수가 채워지지 않은 댓글 ID
+     */
+    record LikeStates(Map<Long, CommentLikeService.LikeState> states, List<Long> unseeded) {
+    }
+
+
+    /**
+     * 좋아요 추가/취소 결과
+     *
+     * @param changed 실제로 변경되었는지 여부
+     * @param count   변경 후 좋아요 수
+     */
+    record LikeResult(boolean changed, long count) {
+    }
+}
@@ -0,0 +1,220 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.comment.domain.CommentRepository;
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.common.transaction.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 회차별 원 댓글을 좋아요 수로 정렬해 보관하는 Redis Sorted Set 색인입니다.
+ * <p>
+ * - 멤버는 0으로 채운 19자리 댓글 id이며, 좋아요 수가 같으면 최근 댓글이 먼저 오도록 사전순 역정렬을 이용합니다.
+ * - 색인이 없으면 DB와 좋아요 집합에서 다시 구성하며, 구성 여부를 표시하는 센티널 멤버를 함께 저장합니다.
+ * - 변경은 색인이 이미 있을 때만 반영하고, TTL이 지나면 다시 구성되어 어긋난 점수가 보정됩니다.
+ * - 색인이 없을 때 추가된 원 댓글은 대기 집합에 기록해 두고, 재구성이 끝나면 색인에 합칩니다.
+ *   DB 조회 이후 재구성이 끝나기 전에 커밋된 댓글이 TTL 동안 빠지지 않도록 하기 위함입니다.
+ * - 좋아요에 따른 점수 변경은 {@link CommentLikeStore}의 좋아요 스크립트가 함께 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentRankingIndex {
+
+    private static final String SENTINEL = "-";
+    private static final double SENTINEL_SCORE = -1;
+
+    /**
+     * 대기 집합 유지 시간(초). 색인 재구성에 걸리는 시간보다 충분히 길어야 합니다.
+     */
+    private static final String PENDING_TTL_SECONDS = "300";
+
+    /**
+     * 색인이 있으면 원 댓글을 좋아요 0으로 추가하고, 없으면 대기 집합에 기록합니다.
+     * KEYS = [색인, 대기 집합], ARGV = [멤버, 대기 집합 TTL]
+     */
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return redis.call('ZADD', KEYS[1], 'NX', 0, ARGV[1])
+            end
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return 0
+            """, Long.class);
+
+    /**
+     * 대기 집합의 원 댓글을 좋아요 0으로 색인에 합치고 대기 집합을 비웁니다.
+     * 이후 들어오는 좋아요가 바로 반영되도록 점수 보정보다 먼저 멤버를 추가합니다.
+     * KEYS = [색인, 대기 집합]
+     */
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local members = redis.call('SMEMBERS', KEYS[2])
+            redis.call('DEL', KEYS[2])
+            for _, member in ipairs(members) do
+                redis.call('ZADD', KEYS[1], 'NX', 0, member)
+            end
+            return members
+            """, List.class);
+
+    /**
+     * 색인에 남아있는 멤버의 점수를 더 클 때만 올립니다. 그 사이 삭제된 댓글은 다시 추가하지 않습니다.
+     * KEYS = [색인], ARGV = [멤버1, 점수1, 멤버2, 점수2, ...]
+     */
+    private static final RedisScript<Long> RAISE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #ARGV, 2 do
+                redis.call('ZADD', KEYS[1], 'XX', 'GT', ARGV[i + 1], ARGV[i])
+            end
+            return 0
+            """, Long.class);
+
+    private final CommentRepository commentRepository;
+    private final CommentLikeService commentLikeService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${spring.comment.ranking.ttl}")
+    private Duration ttl;
+
+
+    /**
+     * 좋아요 순으로 정렬된 원 댓글 id를 페이지 단위로 조회합니다.
+     *
+     * @param novelId   소설 고유번호
+     * @param episodeId 회차 고유번호
+     * @param offset    시작 위치
+     * @param size      조회할 개수
+     * @return 댓글 id와 좋아요 수 목록, 전체 원 댓글 수
+     */
+    public RankedPage page(Long novelId, Long episodeId, long offset, int size) {
+        String key = RedisKeyUtil.commentRankingKey(novelId, episodeId);
+
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            rebuild(key, novelId, episodeId);
+        }
+
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        Set<ZSetOperations.TypedTuple<String>> tuples = zSet.reverseRangeWithScores(key, offset, offset + size - 1);
+        Long card = zSet.zCard(key);
+
+        List<Entry> entries = new ArrayList<>();
+        if (tuples != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                if (SENTINEL.equals(tuple.getValue())) continue;
+                entries.add(new Entry(Long.parseLong(tuple.getValue()), tuple.getScore().longValue()));
+            }
+        }
+
+        long total = card == null ? 0 : Math.max(card - 1, 0);
+        return new RankedPage(entries, total);
+    }
+
+
+    /**
+     * 새 원 댓글을 색인에 추가합니다. 트랜잭션 커밋 이후에 반영됩니다.
+     */
+    public void add(Long novelId, Long episodeId, Long commentId) {
+        TransactionUtil.afterCommit(() -> {
+            try {
+                redisTemplate.execute(ADD_SCRIPT,
+                        List.of(RedisKeyUtil.commentRankingKey(novelId, episodeId),
+                                RedisKeyUtil.commentRankingPendingKey(novelId, episodeId)),
+                        member(commentId), PENDING_TTL_SECONDS);
+            } catch (Exception e) {
+                log.error("[CommentRankingIndex] 색인 갱신 실패 - novelId={}, episodeId={}", novelId, episodeId, e);
+            }
+        });
+    }
+
+
+    /**
+     * 삭제된 원 댓글을 색인에서 제거합니다. 트랜잭션 커밋 이후에 반영됩니다.
+     */
+    public void remove(Long novelId, Long episodeId, Long commentId) {
+        TransactionUtil.afterCommit(() -> {
+            try {
+                redisTemplate.opsForZSet().remove(RedisKeyUtil.commentRankingKey(novelId, episodeId), member(commentId));
+                redisTemplate.opsForSet().remove(RedisKeyUtil.commentRankingPendingKey(novelId, episodeId), member(commentId));
+            } catch (Exception e) {
+                log.error("[CommentRankingIndex] 색인 제거 실패 - commentId={}", commentId, e);
+            }
+        });
+    }
+
+
+    /**
+     * DB의 원 댓글 목록과 좋아요 집합 크기로 색인을 다시 구성합니다.
+     * 임시 키에 만든 뒤 RENAME으로 교체하므로, 구성 중인 색인이 조회되지 않습니다.
+     * 교체 후 구성 중에 대기 집합에 쌓인 원 댓글을 합칩니다.
+     */
+    private void rebuild(String key, Long novelId, Long episodeId) {
+        List<Long> ids = commentRepository.findParentIds(novelId, episodeId);
+        Map<Long, Long> counts = commentLikeService.getLikeCounts(ids);
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        tuples.add(new DefaultTypedTuple<>(SENTINEL, SENTINEL_SCORE));
+        for (Long id : ids) {
+            tuples.add(new DefaultTypedTuple<>(member(id), counts.getOrDefault(id, 0L).doubleValue()));
+        }
+
+        String temp = key + ":" + UUID.randomUUID();
+        redisTemplate.opsForZSet().add(temp, tuples);
+        redisTemplate.rename(temp, key);
+        redisTemplate.expire(key, ttl);
+
+        int merged = mergePending(key, novelId, episodeId);
+
+        log.debug("[CommentRankingIndex] 색인 재구성 - novelId={}, episodeId={}, 원 댓글 수={}, 대기 중 합친 수={}",
+                novelId, episodeId, ids.size(), merged);
+    }
+
+
+    /**
+     * 대기 집합의 원 댓글을 색인에 합치고, 그 사이 받은 좋아요 수로 점수를 보정합니다.
+     */
+    private int mergePending(String key, Long novelId, Long episodeId) {
+        List<?> members = redisTemplate.execute(DRAIN_SCRIPT,
+                List.of(key, RedisKeyUtil.commentRankingPendingKey(novelId, episodeId)));
+        if (members == null || members.isEmpty()) return 0;
+
+        List<Long> ids = members.stream().map(member -> Long.valueOf(member.toString())).toList();
+        Map<Long, Long> counts = commentLikeService.getLikeCounts(ids);
+
+        List<String> args = new ArrayList<>(ids.size() * 2);
+        counts.forEach((id, count) -> {
+            if (count > 0) {
+                args.add(member(id));
+                args.add(String.valueOf(count));
+            }
+        });
+
+        if (!args.isEmpty()) {
+            redisTemplate.execute(RAISE_SCRIPT, List.of(key), args.toArray());
+        }
+        return ids.size();
+    }
+
+
+    /**
+     * 색인의 멤버 값입니다. 좋아요 스크립트도 같은 형식으로 점수를 변경합니다.
+     */
+    static String member(Long commentId) {
+        return String.format("%019d", commentId);
+    }
+
+
+    public record Entry(long commentId, long likes) {
+    }
+
+
+    public record RankedPage(List<Entry> entries, long total) {
+    }
+}
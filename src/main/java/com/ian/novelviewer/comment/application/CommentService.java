@@ -1,11 +1,17 @@
 package com.ian.novelviewer.comment.application;
 
 import com.ian.novelviewer.comment.domain.Comment;
+import com.ian.novelviewer.comment.domain.CommentFeed;
+import com.ian.novelviewer.comment.domain.CommentFeedRepository;
 import com.ian.novelviewer.comment.domain.CommentRepository;
+import com.ian.novelviewer.comment.domain.CommentView;
+import com.ian.novelviewer.comment.domain.PendingComment;
+import com.ian.novelviewer.comment.domain.ReplyCount;
 import com.ian.novelviewer.comment.dto.CommentDto;
 import com.ian.novelviewer.common.enums.Role;
 import com.ian.novelviewer.common.exception.CustomException;
-import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.common.paging.Cursor;
+import com.ian.novelviewer.common.paging.CursorResponse;
 import com.ian.novelviewer.common.security.CustomUserDetails;
 import com.ian.novelviewer.episode.domain.Episode;
 import com.ian.novelviewer.episode.domain.EpisodeRepository;
@@ -13,12 +19,17 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.ian.novelviewer.common.enums.Role.ROLE_ADMIN;
 import static com.ian.novelviewer.common.exception.ErrorCode.*;
@@ -29,54 +40,225 @@ import static com.ian.novelviewer.common.exception.ErrorCode.*;
 public class CommentService {
 
     private final CommentRepository commentRepository;
+    private final CommentFeedRepository commentFeedRepository;
     private final EpisodeRepository episodeRepository;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final CommentRankingIndex commentRankingIndex;
+    private final CommentLikeService commentLikeService;
+    private final CommentStreamService commentStreamService;
+    private final CommentContentFilter commentContentFilter;
+    private final Optional<CommentIngestService> commentIngestService;
 
 
     /**
-     * 특정 회차의 댓글 목록을 Redis의 좋아요 수 기준으로 정렬하여 페이징된 형태로 반환합니다.
+     * 특정 회차의 원 댓글 목록을 좋아요 수 기준으로 정렬하여 페이징된 형태로 반환합니다.
+     * 정렬과 페이징은 Redis 랭킹 색인에서 수행하고, 해당 페이지의 댓글만 비정규화된 댓글 피드에서 조인 없이 조회합니다.
+     * 피드 백필이 끝나지 않아 피드에 없는 댓글은 댓글 테이블에서 조회합니다.
+     * 좋아요 수와 요청자의 좋아요 여부는 페이지 단위로 한 번에 조회합니다.
+     * 접수 모드에서는 첫 페이지 앞에 요청자의 저장 대기 중인 원 댓글을 함께 반환합니다.
      *
      * @param novelId   소설 고유번호
      * @param episodeId 회차 고유번호
      * @param page      요청 페이지 번호 (0부터 시작)
      * @param size      페이지당 항목 수
+     * @param userId    요청 사용자 고유 ID (비로그인 시 null)
      * @return 정렬된 댓글 목록의 페이징 결과
      */
     public Page<CommentDto.CommentResponse> getAllComments(
-            Long novelId, Long episodeId, int page, int size
+            Long novelId, Long episodeId, int page, int size, Long userId
     ) {
-        log.debug("[getAllComments] 요청 - novelId={}, episodeId={}, page={}, size={}",
-                novelId, episodeId, page, size);
+        log.debug("[getAllComments] 요청 - novelId={}, episodeId={}, page={}, size={}, userId={}",
+                novelId, episodeId, page, size, userId);
 
         Pageable pageable = PageRequest.of(page, size);
+        CommentRankingIndex.RankedPage ranked =
+                commentRankingIndex.page(novelId, episodeId, pageable.getOffset(), pageable.getPageSize());
 
-        List<Comment> comments = commentRepository
-                .findAllByEpisode_Novel_NovelIdAndEpisode_EpisodeIdAndParentIsNull(novelId, episodeId, pageable)
-                .getContent();
+        if (ranked.total() == 0 && !episodeRepository.existsByEpisodeIdAndNovel_NovelId(episodeId, novelId)) {
+            log.error("[getAllComments] 회차 조회 실패 - novelId={}, episodeId={}", novelId, episodeId);
+            throw new CustomException(EPISODE_NOT_FOUND);
+        }
+
+        List<Long> ids = ranked.entries().stream().map(CommentRankingIndex.Entry::commentId).toList();
+        Map<Long, CommentFeed> feeds = commentFeedRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CommentFeed::getCommentId, Function.identity()));
+
+        List<Long> missingIds = ids.stream().filter(id -> !feeds.containsKey(id)).toList();
+        Map<Long, Comment> comments = missingIds.isEmpty()
+                ? Map.of()
+                : commentRepository.findAllWithUserByIdIn(missingIds).stream()
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+        if (!missingIds.isEmpty()) {
+            log.debug("[getAllComments] 피드에 없는 댓글 {}건은 댓글 테이블에서 조회", missingIds.size());
+        }
 
-        log.debug("[getAllCommentsSortedByLikes] 댓글 수 = {}", comments.size());
+        List<Long> foundIds = ids.stream().filter(id -> feeds.containsKey(id) || comments.containsKey(id)).toList();
+        Map<Long, CommentLikeService.LikeState> likeStates = commentLikeService.getLikeStates(foundIds, userId);
 
-        List<CommentDto.CommentResponse> sortedResponses = comments.stream()
-                .map(comment -> {
-                    Long likes = getLikeCount(comment.getId());
-                    return CommentDto.CommentResponse.from(comment, likes != null ? likes : 0L);
-                })
-                .sorted(Comparator.comparingLong(CommentDto.CommentResponse::getLikes).reversed())
+        List<CommentDto.CommentResponse> responses = foundIds.stream()
+                .map(id -> feeds.containsKey(id)
+                        ? CommentDto.CommentResponse.from(feeds.get(id), likeStates.get(id))
+                        : CommentDto.CommentResponse.from(comments.get(id), likeStates.get(id)))
                 .toList();
 
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, sortedResponses.size());
-        List<CommentDto.CommentResponse> paged = sortedResponses.subList(fromIndex, toIndex);
+        long total = ranked.total();
+        if (page == 0) {
+            List<CommentDto.CommentResponse> pending = findPendingParents(userId, novelId, episodeId, foundIds);
+            responses = prependPending(pending, responses);
+            total += pending.size();
+        }
+
+        log.debug("[getAllComments] 조회 완료 - 반환={}건, 전체={}건", responses.size(), total);
+        return new PageImpl<>(responses, pageable, total);
+    }
+
+
+    /**
+     * 특정 회차의 원 댓글을 최신순으로 커서 기반 조회합니다.
+     * 비정규화된 댓글 피드의 (작품, 회차, 작성 시각) 인덱스 범위 조회 한 번으로 처리합니다.
+     * 접수 모드에서는 첫 페이지 앞에 요청자의 저장 대기 중인 원 댓글을 함께 반환합니다.
+     *
+     * @param novelId   소설 고유번호
+     * @param episodeId 회차 고유번호
+     * @param cursor    (선택) 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param size      페이지 크기
+     * @param userId    요청 사용자 고유 ID (비로그인 시 null)
+     * @return 원 댓글 목록과 다음 커서
+     */
+    public CursorResponse<CommentDto.CommentResponse> getLatestComments(
+            Long novelId, Long episodeId, String cursor, int size, Long userId
+    ) {
+        log.debug("[getLatestComments] 요청 - novelId={}, episodeId={}, cursor={}, size={}",
+                novelId, episodeId, cursor, size);
+
+        Cursor last = Cursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<CommentFeed> feeds = last == null
+                ? commentFeedRepository.findLatest(novelId, episodeId, pageable)
+                : commentFeedRepository.findLatestAfter(novelId, episodeId, last.sortKey(), last.id(), pageable);
+
+        Map<Long, CommentLikeService.LikeState> likeStates = commentLikeService.getLikeStates(
+                feeds.getContent().stream().map(CommentFeed::getCommentId).toList(), userId);
+
+        log.debug("[getLatestComments] 조회 완료 - 조회 수={}, hasNext={}", feeds.getNumberOfElements(), feeds.hasNext());
+        CursorResponse<CommentDto.CommentResponse> response = CursorResponse.of(
+                feeds,
+                feed -> CommentDto.CommentResponse.from(feed, likeStates.get(feed.getCommentId())),
+                feed -> new Cursor(feed.getCreatedAt(), feed.getCommentId())
+        );
 
-        log.debug("[getAllCommentsSortedByLikes] 정렬 완료 - 반환 범위: {} ~ {}", fromIndex, toIndex);
+        if (last != null) return response;
 
-        return new PageImpl<>(paged, PageRequest.of(page, size), sortedResponses.size());
+        List<CommentDto.CommentResponse> pending = findPendingParents(userId, novelId, episodeId,
+                feeds.getContent().stream().map(CommentFeed::getCommentId).toList());
+        return pending.isEmpty()
+                ? response
+                : new CursorResponse<>(prependPending(pending, response.getContent()),
+                response.getNextCursor(), response.isHasNext());
+    }
+
+
+    /**
+     * 특정 회차의 원 댓글을 좋아요 순으로 페이징하고, 원 댓글마다 앞선 대댓글 일부와 전체 대댓글 수를 함께 반환합니다.
+     * 원 댓글 수와 관계없이 대댓글 id 조회, 댓글 프로젝션 조회, 대댓글 수 집계의 SQL 3건으로 처리합니다.
+     * 나머지 대댓글은 repliesCursor로 {@link #getReplies}를 호출하여 이어서 조회합니다.
+     *
+     * @param novelId    소설 고유번호
+     * @param episodeId  회차 고유번호
+     * @param page       요청 페이지 번호 (0부터 시작)
+     * @param size       페이지당 원 댓글 수
+     * @param replyLimit 원 댓글마다 함께 조회할 대댓글 수
+     * @param userId     요청 사용자 고유 ID (비로그인 시 null)
+     * @return 원 댓글 스레드 목록의 페이징 결과
+     */
+    public Page<CommentDto.ThreadResponse> getThreads(
+            Long novelId, Long episodeId, int page, int size, int replyLimit, Long userId
+    ) {
+        log.debug("[getThreads] 요청 - novelId={}, episodeId={}, page={}, size={}, replyLimit={}, userId={}",
+                novelId, episodeId, page, size, replyLimit, userId);
+
+        Pageable pageable = PageRequest.of(page, size);
+        CommentRankingIndex.RankedPage ranked =
+                commentRankingIndex.page(novelId, episodeId, pageable.getOffset(), pageable.getPageSize());
+
+        if (ranked.total() == 0 && !episodeRepository.existsByEpisodeIdAndNovel_NovelId(episodeId, novelId)) {
+            log.error("[getThreads] 회차 조회 실패 - novelId={}, episodeId={}", novelId, episodeId);
+            throw new CustomException(EPISODE_NOT_FOUND);
+        }
+
+        List<Long> parentIds = ranked.entries().stream().map(CommentRankingIndex.Entry::commentId).toList();
+        if (parentIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ranked.total());
+        }
+
+        List<Long> ids = new ArrayList<>(parentIds);
+        if (replyLimit > 0) {
+            ids.addAll(commentRepository.findTopReplyIds(parentIds, replyLimit));
+        }
+
+        Map<Long, CommentView> views = commentRepository.findViewsByIdIn(ids).stream()
+                .collect(Collectors.toMap(CommentView::id, Function.identity()));
+        Map<Long, Long> replyCounts = commentRepository.countRepliesByParentIdIn(parentIds).stream()
+                .collect(Collectors.toMap(ReplyCount::parentId, ReplyCount::count));
+        Map<Long, CommentLikeService.LikeState> likeStates = commentLikeService.getLikeStates(views.keySet(), userId);
+
+        Map<Long, List<CommentView>> repliesByParent = views.values().stream()
+                .filter(view -> view.parentId() != null)
+                .sorted(Comparator.comparing(CommentView::createdAt).thenComparing(CommentView::id))
+                .collect(Collectors.groupingBy(CommentView::parentId));
+
+        List<CommentDto.ThreadResponse> responses = parentIds.stream()
+                .filter(views::containsKey)
+                .map(id -> toThreadResponse(views.get(id), repliesByParent.getOrDefault(id, List.of()),
+                        replyCounts.getOrDefault(id, 0L), likeStates))
+                .toList();
+
+        log.debug("[getThreads] 조회 완료 - 원 댓글={}건, 대댓글={}건, 전체={}건",
+                responses.size(), views.size() - responses.size(), ranked.total());
+        return new PageImpl<>(responses, pageable, ranked.total());
+    }
+
+
+    /**
+     * 원 댓글의 대댓글을 작성순으로 커서 기반 조회합니다.
+     *
+     * @param novelId   소설 고유번호
+     * @param episodeId 회차 고유번호
+     * @param commentId 원 댓글 고유 ID
+     * @param cursor    (선택) 이전 응답의 nextCursor 또는 스레드의 repliesCursor, 없으면 첫 페이지
+     * @param size      페이지 크기
+     * @param userId    요청 사용자 고유 ID (비로그인 시 null)
+     * @return 대댓글 목록과 다음 커서
+     */
+    public CursorResponse<CommentDto.CommentResponse> getReplies(
+            Long novelId, Long episodeId, Long commentId, String cursor, int size, Long userId
+    ) {
+        log.debug("[getReplies] 요청 - novelId={}, episodeId={}, commentId={}, cursor={}, size={}",
+                novelId, episodeId, commentId, cursor, size);
+
+        checkCommentExistsOrThrow(commentId, episodeId, novelId);
+
+        Cursor last = Cursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<CommentView> replies = last == null
+                ? commentRepository.findReplies(commentId, pageable)
+                : commentRepository.findRepliesAfter(commentId, last.sortKey(), last.id(), pageable);
+
+        Map<Long, CommentLikeService.LikeState> likeStates = commentLikeService.getLikeStates(
+                replies.getContent().stream().map(CommentView::id).toList(), userId);
+
+        log.debug("[getReplies] 조회 완료 - 조회 수={}, hasNext={}", replies.getNumberOfElements(), replies.hasNext());
+        return CursorResponse.of(
+                replies,
+                reply -> CommentDto.CommentResponse.from(reply, likeStates.get(reply.id())),
+                reply -> new Cursor(reply.createdAt(), reply.id())
+        );
     }
 
 
     /**
      * 댓글을 새로 생성합니다.
-     * 대댓글은 한 단계만 작성이 가능합니다,
+     * 대댓글은 한 단계만 작성이 가능하며, 금지어가 포함된 댓글은 작성할 수 없습니다.
+     * 접수 모드에서는 DB에 저장하지 않고 접수 로그에 기록한 뒤 바로 반환합니다.
      *
      * @param novelId   소설 고유번호
      * @param episodeId 회차 고유번호
@@ -92,7 +274,13 @@ public class CommentService {
             CustomUserDetails user
     ) {
         log.debug("[createComment] 요청 - novelId={}, episodeId={}, userId={}, parentId={}, content={}",
-                novelId, episodeId, user.getUser().getId(), request.getParentId(), request.getContent());
+                novelId, episodeId, user.getUserId(), request.getParentId(), request.getContent());
+
+        commentContentFilter.checkOrThrow(request.getContent());
+
+        if (commentIngestService.isPresent()) {
+            return commentIngestService.get().submit(novelId, episodeId, request, user);
+        }
 
         Episode episode = findEpisodeOrThrow(novelId, episodeId);
         log.debug("[createComment] 회차 확인 완료 - episodeId={}, title={}",
@@ -118,34 +306,79 @@ public class CommentService {
                         .build()
         );
 
+        if (parentComment == null) {
+            commentFeedRepository.save(CommentFeed.builder()
+                    .commentId(comment.getId())
+                    .novelId(novelId)
+                    .episodeId(episodeId)
+                    .writer(user.getLoginId())
+                    .content(comment.getContent())
+                    .createdAt(comment.getCreatedAt())
+                    .build());
+            commentRankingIndex.add(novelId, episodeId, comment.getId());
+        } else {
+            commentFeedRepository.addReplyCount(parentComment.getId(), 1);
+        }
+
         log.debug("[createComment] 댓글 생성 완료 - commentId={}, content={}",
                 comment.getId(), comment.getContent());
 
-        return CommentDto.CommentResponse.from(comment, getLikeCount(comment.getId()));
+        CommentDto.CommentResponse response = CommentDto.CommentResponse.from(comment, CommentLikeService.LikeState.EMPTY);
+        commentStreamService.publishComment(novelId, episodeId, request.getParentId(), response);
+        return response;
     }
 
 
     /**
      * 단일 댓글 정보를 조회합니다.
+     * 댓글과 대댓글은 작성자와 조인한 프로젝션 한 번으로, 좋아요 상태는 한 번에 조회합니다.
+     * 접수 모드에서는 요청자의 저장 대기 중인 댓글과 대댓글도 함께 조회됩니다.
      *
      * @param novelId   소설 고유번호
      * @param episodeId 회차 고유번호
      * @param commentId 댓글 고유 ID
+     * @param userId    요청 사용자 고유 ID (비로그인 시 null)
      * @return 댓글 응답 DTO
      */
-    public CommentDto.CommentInfoResponse getCommet(Long novelId, Long episodeId, Long commentId) {
-        log.debug("[getCommet] 요청 - novelId={}, episodeId={}, commentId={}",
-                novelId, episodeId, commentId);
-        Comment comment = findCommentOrThrow(commentId, episodeId, novelId);
+    public CommentDto.CommentInfoResponse getCommet(Long novelId, Long episodeId, Long commentId, Long userId) {
+        log.debug("[getCommet] 요청 - novelId={}, episodeId={}, commentId={}, userId={}",
+                novelId, episodeId, commentId, userId);
+        List<PendingComment> pending = findPending(userId, novelId, episodeId);
+        List<PendingComment> pendingChildren = pending.stream()
+                .filter(child -> commentId.equals(child.parentId()))
+                .sorted(Comparator.comparing(PendingComment::createdAt).thenComparing(PendingComment::id))
+                .toList();
 
-        log.debug("[getCommet] 댓글 조회 성공 - commentId={}", comment.getId());
-        return CommentDto.CommentInfoResponse.from(comment, getLikeCount(comment.getId()));
+        Optional<PendingComment> pendingComment = pending.stream()
+                .filter(candidate -> candidate.id().equals(commentId))
+                .findFirst();
+        if (pendingComment.isPresent()) {
+            log.debug("[getCommet] 저장 대기 중인 댓글 조회 - commentId={}", commentId);
+            return CommentDto.CommentInfoResponse.from(pendingComment.get(), pendingChildren);
+        }
+
+        List<CommentView> views = commentRepository.findViewWithReplies(commentId, episodeId, novelId);
+        CommentView comment = views.stream()
+                .filter(view -> view.id().equals(commentId))
+                .findFirst()
+                .orElseThrow(() -> {
+                    log.error("[getCommet] 댓글 조회 실패 - novelId={}, episodeId={}, commentId={}",
+                            novelId, episodeId, commentId);
+                    return new CustomException(COMMENT_NOT_FOUND);
+                });
+        List<CommentView> children = views.stream().filter(view -> commentId.equals(view.parentId())).toList();
+
+        List<Long> ids = views.stream().map(CommentView::id).toList();
+
+        log.debug("[getCommet] 댓글 조회 성공 - commentId={}, 대댓글 수={}", commentId, children.size());
+        return CommentDto.CommentInfoResponse.from(comment, children, commentLikeService.getLikeStates(ids, userId))
+                .withPendingChildren(pendingChildren.stream().filter(child -> !ids.contains(child.id())).toList());
     }
 
 
     /**
      * 댓글을 수정합니다.
-     * 댓글의 작성자만 수정할 수 있습니다.
+     * 댓글의 작성자만 수정할 수 있으며, 금지어가 포함된 내용으로는 수정할 수 없습니다.
      *
      * @param novelId   소설 고유번호
      * @param episodeId 회차 고유번호
@@ -174,11 +407,18 @@ public class CommentService {
         }
 
         if (StringUtils.hasText(request.getContent())) {
+            commentContentFilter.checkOrThrow(request.getContent());
             comment.changeContent(request.getContent());
+            if (comment.getParent() == null) {
+                commentFeedRepository.findById(commentId)
+                        .ifPresent(feed -> feed.changeContent(request.getContent()));
+            }
             log.debug("[updateComment] 내용 변경 완료 - commentId={}", commentId);
         }
 
-        return CommentDto.CommentResponse.from(comment, getLikeCount(comment.getId()));
+        Map<Long, CommentLikeService.LikeState> likeStates =
+                commentLikeService.getLikeStates(List.of(commentId), comment.getUser().getId());
+        return CommentDto.CommentResponse.from(comment, likeStates.get(commentId));
     }
 
 
@@ -200,7 +440,7 @@ public class CommentService {
         log.debug("[deleteComment] 댓글 조회 성공 - commentId={}, 작성자={}",
                 comment.getId(), comment.getUser().getLoginId());
 
-        boolean isAdmin = user.getUser().getRoles().contains(ROLE_ADMIN);
+        boolean isAdmin = user.getRoles().contains(ROLE_ADMIN);
         boolean isWriter = comment.getUser().getLoginId().equals(user.getUsername());
         log.debug("[deleteComment] 권한 체크 - isAdmin={}, isWriter={}", isAdmin, isWriter);
 
@@ -212,10 +452,88 @@ public class CommentService {
 
         commentRepository.delete(comment);
 
+        if (comment.getParent() == null) {
+            commentFeedRepository.deleteById(commentId);
+            commentRankingIndex.remove(novelId, episodeId, commentId);
+        } else {
+            commentFeedRepository.addReplyCount(comment.getParent().getId(), -1);
+        }
+
         log.debug("[deleteComment] 삭제 권한 확인 완료 - commentId={} 삭제 진행 가능", commentId);
     }
 
 
+    /**
+     * 요청자의 특정 회차에 저장 대기 중인 댓글을 최신순으로 조회합니다.
+     * 접수 모드가 아니거나 비로그인 요청이면 빈 목록을 반환합니다.
+     */
+    private List<PendingComment> findPending(Long userId, Long novelId, Long episodeId) {
+        if (userId == null || commentIngestService.isEmpty()) return List.of();
+        return commentIngestService.get().findPending(userId, novelId, episodeId);
+    }
+
+
+    /**
+     * 요청자의 저장 대기 중인 원 댓글 중 이미 조회된 댓글을 제외하고 응답으로 변환합니다.
+     * 저장이 끝난 직후 오버레이가 아직 제거되지 않은 경우를 위해 조회된 댓글 ID를 제외합니다.
+     */
+    private List<CommentDto.CommentResponse> findPendingParents(
+            Long userId, Long novelId, Long episodeId, List<Long> loadedIds
+    ) {
+        Set<Long> loaded = Set.copyOf(loadedIds);
+        return findPending(userId, novelId, episodeId).stream()
+                .filter(comment -> !comment.isReply() && !loaded.contains(comment.id()))
+                .map(CommentDto.CommentResponse::from)
+                .toList();
+    }
+
+
+    private static List<CommentDto.CommentResponse> prependPending(
+            List<CommentDto.CommentResponse> pending, List<CommentDto.CommentResponse> responses
+    ) {
+        if (pending.isEmpty()) return responses;
+
+        List<CommentDto.CommentResponse> merged = new ArrayList<>(pending.size() + responses.size());
+        merged.addAll(pending);
+        merged.addAll(responses);
+        return merged;
+    }
+
+
+    /**
+     * 원 댓글과 미리 조회한 대댓글로 스레드 응답을 만듭니다.
+     * 조회하지 않은 대댓글이 남아 있으면 마지막 대댓글 위치를 repliesCursor로 전달합니다.
+     * 대댓글을 함께 조회하지 않은 경우에는 커서 없이 {@link #getReplies}를 호출하면 됩니다.
+     */
+    private CommentDto.ThreadResponse toThreadResponse(
+            CommentView parent,
+            List<CommentView> replies,
+            long replyCount,
+            Map<Long, CommentLikeService.LikeState> likeStates
+    ) {
+        CommentLikeService.LikeState likeState = likeStates.get(parent.id());
+        String repliesCursor = null;
+        if (!replies.isEmpty() && replyCount > replies.size()) {
+            CommentView lastReply = replies.get(replies.size() - 1);
+            repliesCursor = new Cursor(lastReply.createdAt(), lastReply.id()).encode();
+        }
+
+        return CommentDto.ThreadResponse.builder()
+                .id(parent.id())
+                .content(parent.content())
+                .likes(likeState.count())
+                .liked(likeState.liked())
+                .writer(parent.writer())
+                .createdAt(parent.createdAt())
+                .replyCount(replyCount)
+                .replies(replies.stream()
+                        .map(reply -> CommentDto.CommentResponse.from(reply, likeStates.get(reply.id())))
+                        .toList())
+                .repliesCursor(repliesCursor)
+                .build();
+    }
+
+
     /**
      * 댓글 ID, 회차 고유번호, 소설 고유번호로 댓글을 조회합니다.
      * 일치하지 않으면 예외를 던집니다.
@@ -236,6 +554,23 @@ public class CommentService {
     }
 
 
+    /**
+     * 댓글 ID, 회차 고유번호, 소설 고유번호가 일치하는 댓글이 있는지 확인합니다.
+     * 엔티티를 불러오지 않고 존재 여부만 조회합니다.
+     *
+     * @param commentId 댓글 고유 ID
+     * @param episodeId 회차 고유번호
+     * @param novelId   소설 고유번호
+     */
+    private void checkCommentExistsOrThrow(Long commentId, Long episodeId, Long novelId) {
+        if (!commentRepository.existsByIdAndEpisode_EpisodeIdAndEpisode_Novel_NovelId(commentId, episodeId, novelId)) {
+            log.error("[checkCommentExistsOrThrow] 댓글 조회 실패 - novelId={}, episodeId={},commentId={}",
+                    novelId, episodeId, commentId);
+            throw new CustomException(COMMENT_NOT_FOUND);
+        }
+    }
+
+
     /**
      * 소설 고유번호와 회차 고유번호로 회차 정보를 조회합니다.
      * 없으면 예외를 던집니다.
@@ -254,74 +589,48 @@ public class CommentService {
     }
 
 
-    /**
-     * 댓글 ID를 기준으로 해당 댓글의 좋아요 수를 Redis에서 조회합니다.
-     *
-     * @param commentId 댓글 고유 ID
-     * @return 좋아요 수 (없으면 0)
-     */
-    public Long getLikeCount(Long commentId) {
-        String likeKey = RedisKeyUtil.commentLikeKey(commentId);
-        Long count = redisTemplate.opsForSet().size(likeKey);
-
-        log.debug("[getLikeCount] commentId={} → 좋아요 수={}", commentId, count);
-
-        return count;
-    }
-
-
-    /**
-     * 특정 사용자가 해당 댓글에 좋아요를 눌렀는지 여부를 확인합니다.
-     *
-     * @param commentId 댓글 고유 ID
-     * @param userId    사용자 고유 ID
-     * @return true = 이미 좋아요 함 / false = 아직 안 함
-     */
-    public boolean hasLiked(Long commentId, Long userId) {
-        String likeKey = RedisKeyUtil.commentLikeKey(commentId);
-        boolean liked = Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(likeKey, userId.toString()));
-
-        log.debug("[hasLiked] commentId={}, userId={} → hasLiked={}", commentId, userId, liked);
-
-        return liked;
-    }
-
-
     /**
      * 댓글에 좋아요를 추가합니다.
-     * 이미 눌렀다면 중복 반영되지 않습니다.
+     * 멤버십, 좋아요 수, 랭킹 색인은 하나의 Redis 스크립트에서 원자적으로 변경되며, 이미 눌렀다면 반영되지 않습니다.
      *
      * @param commentId 댓글 고유 ID
      * @param userId    사용자 고유 ID
+     * @return 변경 후 좋아요 상태 DTO
      */
-    public void like(Long commentId, Long episodeId, Long novelId, Long userId) {
-        findCommentOrThrow(commentId, episodeId, novelId);
-        String likeKey = RedisKeyUtil.commentLikeKey(commentId);
+    public CommentDto.LikeResponse like(Long commentId, Long episodeId, Long novelId, Long userId) {
+        checkCommentExistsOrThrow(commentId, episodeId, novelId);
 
-        if (!hasLiked(commentId, userId)) {
-            redisTemplate.opsForSet().add(likeKey, userId.toString());
-            log.debug("좋아요 완료. userId={}, commentId={}", userId, commentId);
-        } else {
-            log.debug("[like] 이미 좋아요한 상태 - commentId={}, userId={}", commentId, userId);
+        CommentLikeStore.LikeResult result = commentLikeService.addLike(novelId, episodeId, commentId, userId);
+        log.debug("[like] 좋아요 요청 처리 - commentId={}, userId={}, changed={}, likes={}",
+                commentId, userId, result.changed(), result.count());
+
+        if (result.changed()) {
+            commentStreamService.publishLike(novelId, episodeId, commentId, result.count());
         }
+
+        return CommentDto.LikeResponse.of(commentId, result.count(), true);
     }
 
 
     /**
      * 댓글에 눌렀던 좋아요를 취소합니다.
-     * 좋아요하지 않은 상태라면 무시됩니다.
+     * 좋아요하지 않은 상태라면 반영되지 않습니다.
      *
      * @param commentId 댓글 고유 ID
      * @param userId    사용자 고유 ID
+     * @return 변경 후 좋아요 상태 DTO
      */
-    public void unlike(Long commentId, Long episodeId, Long novelId, Long userId) {
-        String likeKey = RedisKeyUtil.commentLikeKey(commentId);
+    public CommentDto.LikeResponse unlike(Long commentId, Long episodeId, Long novelId, Long userId) {
+        checkCommentExistsOrThrow(commentId, episodeId, novelId);
 
-        if (hasLiked(commentId, userId)) {
-            redisTemplate.opsForSet().remove(likeKey, userId.toString());
-            log.debug("[unlike] 좋아요 취소 완료 - commentId={}, userId={}", commentId, userId);
-        } else {
-            log.debug("[unlike] 이미 좋아요하지 않은 상태 - commentId={}, userId={}", commentId, userId);
+        CommentLikeStore.LikeResult result = commentLikeService.removeLike(novelId, episodeId, commentId, userId);
+        log.debug("[unlike] 좋아요 취소 요청 처리 - commentId={}, userId={}, changed={}, likes={}",
+                commentId, userId, result.changed(), result.count());
+
+        if (result.changed()) {
+            commentStreamService.publishLike(novelId, episodeId, commentId, result.count());
         }
+
+        return CommentDto.LikeResponse.of(commentId, result.count(), false);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,231 @@
+package com.ian.novelviewer.comment.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ian.novelviewer.comment.dto.CommentDto;
+import com.ian.novelviewer.common.exception.CustomException;
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.common.transaction.TransactionUtil;
+import com.ian.novelviewer.episode.domain.EpisodeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.ian.novelviewer.common.exception.ErrorCode.EPISODE_NOT_FOUND;
+
+/**
+ * 회차별 새 댓글과 좋아요 수 변경을 Server-Sent Events로 전달합니다.
+ * <p>
+ * - 구독은 서버 메모리에 회차별로 보관하고, 변경은 Redis Pub/Sub으로 모든 서버에 전파한 뒤 각 서버가 자신의 구독자에게 전달합니다.
+ * - 좋아요 수는 서버별로 일정 간격 동안 댓글별 최신 값으로 합쳐 회차당 메시지 한 건으로 전파합니다.
+ * - 전송은 구독자마다 가상 스레드에서 수행하므로, 대기 중인 연결은 스레드를 점유하지 않습니다.
+ * <p>
+ * Pub/Sub 메시지는 유실될 수 있으므로, 클라이언트는 resync 이벤트나 재연결 시 목록을 다시 조회해야 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentStreamService implements MessageListener {
+
+    private static final String KEY_SEPARATOR = ":";
+
+    private final EpisodeRepository episodeRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.comment.stream.timeout}")
+    private Duration timeout;
+
+    @Value("${spring.comment.stream.buffer-size}")
+    private int bufferSize;
+
+    private final Map<String, Set<CommentStreamSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, Map<Long, Long>> pendingLikes = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtil.commentStreamChannel()));
+    }
+
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.emitter().complete();
+        }));
+        sender.shutdown();
+    }
+
+
+    /**
+     * 회차의 댓글 스트림을 구독합니다.
+     *
+     * @param novelId   소설 고유번호
+     * @param episodeId 회차 고유번호
+     * @return 이벤트를 전달할 SseEmitter
+     * @throws CustomException 존재하지 않는 회차인 경우
+     */
+    public SseEmitter subscribe(Long novelId, Long episodeId) {
+        if (!episodeRepository.existsByEpisodeIdAndNovel_NovelId(episodeId, novelId)) {
+            log.error("[subscribe] 회차 조회 실패 - novelId={}, episodeId={}", novelId, episodeId);
+            throw new CustomException(EPISODE_NOT_FOUND);
+        }
+
+        String key = episodeKey(novelId, episodeId);
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        CommentStreamSubscriber subscriber = new CommentStreamSubscriber(emitter, bufferSize);
+
+        subscribers.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(key, subscriber));
+        emitter.onTimeout(() -> unsubscribe(key, subscriber));
+        emitter.onError(e -> unsubscribe(key, subscriber));
+
+        log.debug("[subscribe] 댓글 스트림 구독 - novelId={}, episodeId={}", novelId, episodeId);
+        return emitter;
+    }
+
+
+    /**
+     * 새 댓글을 모든 서버의 구독자에게 전파합니다. 트랜잭션 커밋 이후에 전파됩니다.
+     *
+     * @param novelId   소설 고유번호
+     * @param episodeId 회차 고유번호
+     * @param parentId  부모 댓글 고유 ID (원 댓글이면 null)
+     * @param comment   새 댓글
+     */
+    public void publishComment(Long novelId, Long episodeId, Long parentId, CommentDto.CommentResponse comment) {
+        TransactionUtil.afterCommit(() ->
+                publish(new StreamMessage(novelId, episodeId, parentId, comment, null)));
+    }
+
+
+    /**
+     * 좋아요 수 변경을 댓글별 최신 값으로 모아둡니다. 모아둔 변경은 {@link #flushLikes}가 주기적으로 전파합니다.
+     *
+     * @param novelId   소설 고유번호
+     * @param episodeId 회차 고유번호
+     * @param commentId 댓글 고유 ID
+     * @param count     변경 후 좋아요 수
+     */
+    public void publishLike(Long novelId, Long episodeId, Long commentId, long count) {
+        pendingLikes.compute(episodeKey(novelId, episodeId), (key, counts) -> {
+            Map<Long, Long> merged = counts == null ? new HashMap<>() : counts;
+            merged.put(commentId, count);
+            return merged;
+        });
+    }
+
+
+    /**
+     * 모아둔 좋아요 수 변경을 회차마다 메시지 한 건으로 전파합니다.
+     */
+    @Scheduled(fixedDelayString = "${spring.comment.stream.like-flush-interval-ms}")
+    public void flushLikes() {
+        for (String key : pendingLikes.keySet()) {
+            Map<Long, Long> counts = pendingLikes.remove(key);
+            if (counts == null || counts.isEmpty()) continue;
+
+            String[] ids = key.split(KEY_SEPARATOR);
+            publish(new StreamMessage(Long.valueOf(ids[0]), Long.valueOf(ids[1]), null, null, counts));
+        }
+    }
+
+
+    /**
+     * 연결 유지를 위해 모든 구독자에게 heartbeat를 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${spring.comment.stream.heartbeat-interval-ms}")
+    public void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> {
+            if (subscriber.offerHeartbeat()) sender.execute(subscriber::drain);
+        }));
+    }
+
+
+    /**
+     * 다른 서버(자신 포함)에서 전파된 변경을 이 서버의 구독자에게 전달합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        StreamMessage streamMessage;
+        try {
+            streamMessage = objectMapper.readValue(message.getBody(), StreamMessage.class);
+        } catch (Exception e) {
+            log.error("[CommentStreamService] 잘못된 스트림 메시지", e);
+            return;
+        }
+
+        Set<CommentStreamSubscriber> targets =
+                subscribers.get(episodeKey(streamMessage.novelId(), streamMessage.episodeId()));
+        if (targets == null) return;
+
+        for (CommentStreamSubscriber subscriber : targets) {
+            boolean start = streamMessage.likes() != null
+                    ? subscriber.offerLikes(streamMessage.likes())
+                    : subscriber.offerComment(streamMessage.parentId(), streamMessage.comment());
+            if (start) sender.execute(subscriber::drain);
+        }
+    }
+
+
+    private void publish(StreamMessage message) {
+        try {
+            redisTemplate.convertAndSend(RedisKeyUtil.commentStreamChannel(), objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.error("[CommentStreamService] 스트림 메시지 변환 실패 - novelId={}, episodeId={}",
+                    message.novelId(), message.episodeId(), e);
+        } catch (Exception e) {
+            log.error("[CommentStreamService] 스트림 메시지 전파 실패 - novelId={}, episodeId={}",
+                    message.novelId(), message.episodeId(), e);
+        }
+    }
+
+
+    private void unsubscribe(String key, CommentStreamSubscriber subscriber) {
+        subscriber.close();
+        subscribers.computeIfPresent(key, (k, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+
+    private static String episodeKey(Long novelId, Long episodeId) {
+        return novelId + KEY_SEPARATOR + episodeId;
+    }
+
+
+    /**
+     * 서버 간 전파되는 스트림 메시지입니다. 새 댓글(comment) 또는 좋아요 수 변경(likes) 중 하나를 담습니다.
+     */
+    record StreamMessage(
+            Long novelId,
+            Long episodeId,
+            Long parentId,
+            CommentDto.CommentResponse comment,
+            Map<Long, Long> likes
+    ) {
+    }
+}
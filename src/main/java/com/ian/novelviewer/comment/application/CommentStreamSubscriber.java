@@ -0,0 +1,178 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.comment.dto.CommentDto;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 회차 댓글 스트림을 구독 중인 연결 하나와 전송 대기 중인 이벤트를 보관합니다.
+ * <p>
+ * - 새 댓글은 크기가 제한된 큐에 쌓고, 큐가 가득 차면 이후 댓글을 버리고 다음 전송에서 resync 이벤트를 보냅니다.
+ * - 좋아요 수는 댓글별 최신 값만 남기므로, 전송이 밀려도 댓글 수 이상으로 쌓이지 않습니다.
+ * - 전송은 한 번에 하나의 작업만 수행하며, 느린 연결이 다른 구독자나 메시지 수신 스레드를 막지 않습니다.
+ */
+class CommentStreamSubscriber {
+
+    static final String EVENT_COMMENT = "comment";
+    static final String EVENT_REPLY = "reply";
+    static final String EVENT_LIKES = "likes";
+    static final String EVENT_RESYNC = "resync";
+
+    private final SseEmitter emitter;
+    private final int bufferSize;
+
+    private final Deque<SseEmitter.SseEventBuilder> events = new ArrayDeque<>();
+    private final Map<Long, Long> likes = new LinkedHashMap<>();
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private boolean overflowed;
+    private boolean heartbeat;
+    private volatile boolean closed;
+
+
+    CommentStreamSubscriber(SseEmitter emitter, int bufferSize) {
+        this.emitter = emitter;
+        this.bufferSize = bufferSize;
+    }
+
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+
+    /**
+     * 새 댓글 이벤트를 큐에 추가합니다.
+     *
+     * @return 전송 작업을 새로 시작해야 하면 true
+     */
+    boolean offerComment(Long parentId, CommentDto.CommentResponse comment) {
+        synchronized (this) {
+            if (events.size() >= bufferSize) {
+                overflowed = true;
+            } else {
+                events.add(parentId == null
+                        ? SseEmitter.event().name(EVENT_COMMENT).data(comment)
+                        : SseEmitter.event().name(EVENT_REPLY).data(new ReplyEvent(parentId, comment)));
+            }
+        }
+        return markDraining();
+    }
+
+
+    /**
+     * 좋아요 수 변경을 댓글별 최신 값으로 합칩니다.
+     *
+     * @return 전송 작업을 새로 시작해야 하면 true
+     */
+    boolean offerLikes(Map<Long, Long> counts) {
+        synchronized (this) {
+            likes.putAll(counts);
+        }
+        return markDraining();
+    }
+
+
+    /**
+     * 연결 유지를 위한 heartbeat를 예약합니다. 끊어진 연결은 이 전송에서 감지됩니다.
+     *
+     * @return 전송 작업을 새로 시작해야 하면 true
+     */
+    boolean offerHeartbeat() {
+        synchronized (this) {
+            heartbeat = true;
+        }
+        return markDraining();
+    }
+
+
+    /**
+     * 대기 중인 이벤트를 모두 전송합니다. 전송에 실패하면 연결을 종료합니다.
+     * 전송 중 새로 들어온 이벤트는 같은 작업에서 이어서 전송합니다.
+     */
+    void drain() {
+        try {
+            while (true) {
+                List<SseEmitter.SseEventBuilder> batch = takeAll();
+
+                if (batch.isEmpty()) {
+                    draining.set(false);
+                    if (!hasPending() || !draining.compareAndSet(false, true)) return;
+                    continue;
+                }
+
+                for (SseEmitter.SseEventBuilder event : batch) {
+                    emitter.send(event);
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+            emitter.completeWithError(e);
+        }
+    }
+
+
+    boolean isClosed() {
+        return closed;
+    }
+
+
+    void close() {
+        closed = true;
+        synchronized (this) {
+            events.clear();
+            likes.clear();
+        }
+    }
+
+
+    private boolean markDraining() {
+        return !closed && draining.compareAndSet(false, true);
+    }
+
+
+    private synchronized boolean hasPending() {
+        return !events.isEmpty() || !likes.isEmpty() || overflowed || heartbeat;
+    }
+
+
+    private synchronized List<SseEmitter.SseEventBuilder> takeAll() {
+        List<SseEmitter.SseEventBuilder> batch = new ArrayList<>(events.size() + 3);
+
+        if (overflowed) {
+            events.clear();
+            batch.add(SseEmitter.event().name(EVENT_RESYNC).data(""));
+            overflowed = false;
+        }
+        batch.addAll(events);
+        events.clear();
+
+        if (!likes.isEmpty()) {
+            batch.add(SseEmitter.event().name(EVENT_LIKES).data(new LinkedHashMap<>(likes)));
+            likes.clear();
+        }
+        if (heartbeat) {
+            batch.add(SseEmitter.event().comment("ping"));
+            heartbeat = false;
+        }
+
+        return batch;
+    }
+
+
+    /**
+     * 대댓글 이벤트 데이터
+     *
+     * @param parentId 부모 댓글 고유 ID
+     * @param comment  대댓글
+     */
+    record ReplyEvent(Long parentId, CommentDto.CommentResponse comment) {
+    }
+}
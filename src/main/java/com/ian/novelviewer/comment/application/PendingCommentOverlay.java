@@ -0,0 +1,100 @@
+package com.ian.novelviewer.comment.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ian.novelviewer.comment.domain.PendingComment;
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 작성자가 자신의 접수된 댓글을 DB 저장 전에도 볼 수 있도록 Redis 해시에 보관합니다. (read-your-writes)
+ * <p>
+ * - 작성자별 해시(댓글 ID → 댓글 JSON)에 보관하므로, 어느 서버에서 조회해도 자신의 댓글이 보입니다.
+ * - DB 저장이 끝나면 제거하며, 저장이 늦어지더라도 TTL이 지나면 자동으로 사라집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.comment.ingest.mode", havingValue = "queued")
+public class PendingCommentOverlay {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.comment.ingest.overlay-ttl}")
+    private Duration ttl;
+
+
+    /**
+     * 접수된 댓글을 작성자의 오버레이에 추가합니다.
+     */
+    public void put(PendingComment comment) throws JsonProcessingException {
+        String key = RedisKeyUtil.userPendingCommentsKey(comment.userId());
+        String value = objectMapper.writeValueAsString(comment);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+            connection.hashCommands().hSet(rawKey, bytes(comment.id()), value.getBytes(StandardCharsets.UTF_8));
+            connection.keyCommands().expire(rawKey, ttl.toSeconds());
+            return null;
+        });
+    }
+
+
+    /**
+     * 사용자의 아직 저장되지 않은 댓글을 모두 조회합니다.
+     *
+     * @param userId 사용자 고유 ID
+     * @return 접수 시각 최신순 댓글 목록
+     */
+    public List<PendingComment> findAll(Long userId) {
+        List<String> values = redisTemplate.<String, String>opsForHash()
+                .values(RedisKeyUtil.userPendingCommentsKey(userId));
+
+        List<PendingComment> comments = new ArrayList<>(values.size());
+        for (String value : values) {
+            try {
+                comments.add(objectMapper.readValue(value, PendingComment.class));
+            } catch (JsonProcessingException e) {
+                log.warn("[PendingCommentOverlay] 읽을 수 없는 항목 무시 - userId={}", userId, e);
+            }
+        }
+
+        comments.sort(Comparator.comparing(PendingComment::createdAt).thenComparing(PendingComment::id).reversed());
+        return comments;
+    }
+
+
+    /**
+     * DB에 저장된 댓글을 작성자별 오버레이에서 한 번에 제거합니다.
+     */
+    public void removeAll(Collection<PendingComment> comments) {
+        if (comments.isEmpty()) return;
+
+        Map<Long, List<byte[]>> fieldsByUser = new HashMap<>();
+        comments.forEach(comment ->
+                fieldsByUser.computeIfAbsent(comment.userId(), key -> new ArrayList<>()).add(bytes(comment.id())));
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            fieldsByUser.forEach((userId, fields) -> connection.hashCommands().hDel(
+                    RedisKeyUtil.userPendingCommentsKey(userId).getBytes(StandardCharsets.UTF_8),
+                    fields.toArray(byte[][]::new)));
+            return null;
+        });
+    }
+
+
+    private static byte[] bytes(Long id) {
+        return id.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
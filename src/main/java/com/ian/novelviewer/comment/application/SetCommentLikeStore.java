@@ -0,0 +1,112 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글마다 좋아요한 사용자 ID를 Redis Set으로 보관하는 기본 저장소입니다.
+ * 좋아요가 적은 댓글은 Redis가 정수 집합(intset)으로 압축하므로 대부분의 댓글에 적합합니다.
+ * 좋아요 수는 Set 크기에 이월 좋아요 수를 더한 값입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.comment.like.store", havingValue = "set", matchIfMissing = true)
+public class SetCommentLikeStore implements CommentLikeStore {
+
+    /**
+     * KEYS[3]: 좋아요 Set, KEYS[4]: 이월 좋아요 수
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADD_SCRIPT = new DefaultRedisScript<>(
+            CommentLikeScripts.AFTER_CHANGE_LUA + CommentLikeScripts.BASE_LUA + """
+            if not seeded() then return {-1, 0} end
+            local added = redis.call('SADD', KEYS[3], ARGV[1])
+            if added == 1 then afterChange(1) end
+            return {added, withBase(redis.call('SCARD', KEYS[3]))}
+            """, List.class);
+
+    /**
+     * KEYS[3]: 좋아요 Set, KEYS[4]: 이월 좋아요 수
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            CommentLikeScripts.AFTER_CHANGE_LUA + CommentLikeScripts.BASE_LUA + """
+            if not seeded() then return {-1, 0} end
+            local removed = redis.call('SREM', KEYS[3], ARGV[1])
+            if removed == 1 then afterChange(-1) end
+            return {removed, withBase(redis.call('SCARD', KEYS[3]))}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+
+    @Override
+    public LikeStates getStates(List<Long> commentIds, Long userId) {
+        byte[] member = userId == null ? null : userId.toString().getBytes(StandardCharsets.UTF_8);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long id : commentIds) {
+                byte[] key = RedisKeyUtil.commentLikeKey(id).getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().get(RedisKeyUtil.commentLikeBaseKey(id).getBytes(StandardCharsets.UTF_8));
+                connection.setCommands().sCard(key);
+                if (member != null) {
+                    connection.setCommands().sIsMember(key, member);
+                }
+            }
+            return null;
+        });
+
+        int stride = member == null ? 2 : 3;
+        Map<Long, CommentLikeService.LikeState> states = new HashMap<>();
+        List<Long> unseeded = new ArrayList<>();
+
+        for (int i = 0; i < commentIds.size(); i++) {
+            int offset = i * stride;
+            Object carried = results.get(offset);
+            Object count = results.get(offset + 1);
+            boolean liked = member != null && Boolean.TRUE.equals(results.get(offset + 2));
+
+            if (carried == null) {
+                unseeded.add(commentIds.get(i));
+            }
+
+            long total = (count == null ? 0L : ((Number) count).longValue())
+                    + (carried == null ? 0L : Long.parseLong(carried.toString()));
+            states.put(commentIds.get(i), new CommentLikeService.LikeState(total, liked));
+        }
+
+        return new LikeStates(states, unseeded);
+    }
+
+
+    @Override
+    public LikeResult add(Long commentId, Long userId, String rankingKey) {
+        return execute(ADD_SCRIPT, commentId, userId, rankingKey);
+    }
+
+
+    @Override
+    public LikeResult remove(Long commentId, Long userId, String rankingKey) {
+        return execute(REMOVE_SCRIPT, commentId, userId, rankingKey);
+    }
+
+
+    @SuppressWarnings("rawtypes")
+    private LikeResult execute(RedisScript<List> script, Long commentId, Long userId, String rankingKey) {
+        return CommentLikeScripts.result(redisTemplate.execute(script,
+                CommentLikeScripts.keys(commentId, rankingKey, RedisKeyUtil.commentLikeKey(commentId)),
+                CommentLikeScripts.args(commentId, userId)));
+    }
+}
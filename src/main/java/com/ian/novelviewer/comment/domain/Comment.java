@@ -17,23 +17,31 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_user_created_at", columnList = "user_id, created_at, id")
+})
 public class Comment extends BaseEntity {
 
     @Column(nullable = false)
     private String content;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "episode_id", nullable = false)
     private Episode episode;
 
     @ManyToOne(fetch = FetchType.LAZY)
     private Comment parent;
 
+    /**
+     * Redis의 좋아요 수를 주기적으로 반영한 값입니다. 최신 값은 Redis에 있습니다.
+     */
+    @Column(name = "like_count", nullable = false, columnDefinition = "bigint default 0")
+    private long likeCount;
+
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> children = new ArrayList<>();
 
@@ -0,0 +1,64 @@
+package com.ian.novelviewer.comment.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록 조회용으로 원 댓글을 비정규화하여 보관하는 테이블입니다.
+ * <p>
+ * - 작품/회차 고유번호와 작성자 로그인 ID를 함께 저장하여, 조회 시 comments, episodes, novels, users 조인이 필요 없습니다.
+ * - {@code CommentService}의 쓰기 작업과 같은 트랜잭션에서 갱신되고, 좋아요 수는 write-behind 작업이 함께 반영합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "comment_feed", indexes = {
+        @Index(name = "idx_comment_feed_novel_episode_created_at", columnList = "novel_id, episode_id, created_at, comment_id")
+})
+public class CommentFeed {
+
+    @Id
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    @Column(name = "novel_id", nullable = false)
+    private Long novelId;
+
+    @Column(name = "episode_id", nullable = false)
+    private Long episodeId;
+
+    @Column(nullable = false)
+    private String writer;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
+    @Column(name = "reply_count", nullable = false)
+    private long replyCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    private CommentFeed(Long commentId, Long novelId, Long episodeId, String writer, String content,
+                        LocalDateTime createdAt) {
+        this.commentId = commentId;
+        this.novelId = novelId;
+        this.episodeId = episodeId;
+        this.writer = writer;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+
+    public void changeContent(String content) {
+        this.content = content;
+    }
+}
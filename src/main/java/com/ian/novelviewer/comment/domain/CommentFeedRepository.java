@@ -0,0 +1,46 @@
+package com.ian.novelviewer.comment.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface CommentFeedRepository extends JpaRepository<CommentFeed, Long> {
+
+    /**
+     * 특정 작품과 회차의 원 댓글 첫 페이지를 최신순으로 조회합니다. (인덱스 범위 조회)
+     */
+    @Query("""
+                select f
+                from CommentFeed f
+                where f.novelId = :novelId and f.episodeId = :episodeId
+                order by f.createdAt desc, f.commentId desc
+            """)
+    Slice<CommentFeed> findLatest(Long novelId, Long episodeId, Pageable pageable);
+
+    /**
+     * 특정 작품과 회차의 원 댓글 중 커서(createdAt, commentId) 이후를 최신순으로 조회합니다. (인덱스 범위 조회)
+     */
+    @Query("""
+                select f
+                from CommentFeed f
+                where f.novelId = :novelId and f.episodeId = :episodeId
+                  and (f.createdAt < :createdAt
+                   or (f.createdAt = :createdAt and f.commentId < :commentId))
+                order by f.createdAt desc, f.commentId desc
+            """)
+    Slice<CommentFeed> findLatestAfter(Long novelId, Long episodeId, LocalDateTime createdAt, Long commentId,
+                                       Pageable pageable);
+
+    /**
+     * 원 댓글의 대댓글 수를 변경합니다.
+     */
+    @Modifying
+    @Query("update CommentFeed f set f.replyCount = f.replyCount + :delta where f.commentId = :commentId")
+    int addReplyCount(Long commentId, long delta);
+}
@@ -2,9 +2,15 @@ package com.ian.novelviewer.comment.domain;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,9 +27,169 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     Optional<Comment> findByIdAndEpisode_EpisodeIdAndEpisode_Novel_NovelId
     (Long novelId, Long episodeId, Long commentId);
 
+    /**
+     * 작품, 회차, 댓글 ID가 모두 일치하는 댓글이 존재하는지 확인합니다.
+     */
+    boolean existsByIdAndEpisode_EpisodeIdAndEpisode_Novel_NovelId(Long commentId, Long episodeId, Long novelId);
+
     /**
      * 특정 사용자의 로그인 ID(loginId)를 기준으로 해당 사용자가 작성한 모든 댓글을 조회합니다.
      * 작성일(createdAt) 기준으로 내림차순 정렬하여 페이징 처리합니다.
      */
+    @EntityGraph(attributePaths = "episode")
     Page<Comment> findByUser_LoginIdOrderByCreatedAtDesc(String loginId, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 사용자가 작성한 댓글의 첫 페이지를 최신순으로 조회합니다.
+     * (user_id, created_at, id) 인덱스 범위 조회와 회차, 소설 조인 한 번으로 처리합니다.
+     */
+    @Query("""
+                select new com.ian.novelviewer.comment.domain.UserCommentView(
+                    c.id, n.novelId, n.title, e.episodeId, e.title, c.content, c.createdAt)
+                from Comment c
+                join c.episode e
+                join e.novel n
+                where c.user.id = :userId
+                order by c.createdAt desc, c.id desc
+            """)
+    Slice<UserCommentView> findUserComments(Long userId, Pageable pageable);
+
+    /**
+     * 사용자가 작성한 댓글 중 커서(createdAt, id) 이전을 최신순으로 조회합니다.
+     */
+    @Query("""
+                select new com.ian.novelviewer.comment.domain.UserCommentView(
+                    c.id, n.novelId, n.title, e.episodeId, e.title, c.content, c.createdAt)
+                from Comment c
+                join c.episode e
+                join e.novel n
+                where c.user.id = :userId
+                  and (c.createdAt < :createdAt
+                   or (c.createdAt = :createdAt and c.id < :id))
+                order by c.createdAt desc, c.id desc
+            """)
+    Slice<UserCommentView> findUserCommentsBefore(Long userId, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    /**
+     * 특정 작품(novelId)과 회차(episodeId)에 해당하는 부모 댓글의 id를 모두 조회합니다.
+     */
+    @Query("""
+                select c.id
+                from Comment c
+                join c.episode e
+                join e.novel n
+                where n.novelId = :novelId and e.episodeId = :episodeId and c.parent is null
+            """)
+    List<Long> findParentIds(Long novelId, Long episodeId);
+
+    /**
+     * 주어진 id 목록에 해당하는 댓글을 작성자와 함께 한 번에 조회합니다.
+     */
+    @Query("select c from Comment c join fetch c.user where c.id in :ids")
+    List<Comment> findAllWithUserByIdIn(Collection<Long> ids);
+
+    /**
+     * 주어진 id 목록에 해당하는 댓글을 작성자 로그인 ID와 함께 프로젝션으로 한 번에 조회합니다.
+     */
+    @Query("""
+                select new com.ian.novelviewer.comment.domain.CommentView(
+                    c.id, c.parent.id, c.content, u.loginId, c.createdAt)
+                from Comment c
+                join c.user u
+                where c.id in :ids
+            """)
+    List<CommentView> findViewsByIdIn(Collection<Long> ids);
+
+    /**
+     * 작품, 회차가 일치하는 댓글과 그 대댓글 전체를 작성자 로그인 ID와 함께 프로젝션으로 한 번에 조회합니다.
+     * 대댓글은 작성순으로 정렬됩니다.
+     */
+    @Query("""
+                select new com.ian.novelviewer.comment.domain.CommentView(
+                    c.id, c.parent.id, c.content, u.loginId, c.createdAt)
+                from Comment c
+                join c.user u
+                join c.episode e
+                join e.novel n
+                where (c.id = :commentId or c.parent.id = :commentId)
+                  and e.episodeId = :episodeId and n.novelId = :novelId
+                order by c.createdAt, c.id
+            """)
+    List<CommentView> findViewWithReplies(Long commentId, Long episodeId, Long novelId);
+
+    /**
+     * 원 댓글마다 작성순으로 앞선 대댓글을 최대 limit개씩 골라 id를 조회합니다.
+     */
+    @Query(value = """
+                select r.id
+                from (
+                    select c.id,
+                           row_number() over (partition by c.parent_id order by c.created_at, c.id) as rn
+                    from comments c
+                    where c.parent_id in (:parentIds)
+                ) r
+                where r.rn <= :limit
+            """, nativeQuery = true)
+    List<Long> findTopReplyIds(Collection<Long> parentIds, int limit);
+
+    /**
+     * 원 댓글별 대댓글 수를 집계합니다.
+     */
+    @Query("""
+                select new com.ian.novelviewer.comment.domain.ReplyCount(c.parent.id, count(c))
+                from Comment c
+                where c.parent.id in :parentIds
+                group by c.parent.id
+            """)
+    List<ReplyCount> countRepliesByParentIdIn(Collection<Long> parentIds);
+
+    /**
+     * 좋아요 수가 반영된 댓글의 DB 좋아요 수를 조회합니다. 좋아요가 없는 댓글은 포함하지 않습니다.
+     */
+    @Query("""
+                select new com.ian.novelviewer.comment.domain.LikeCount(c.id, c.likeCount)
+                from Comment c
+                where c.id in :ids and c.likeCount > 0
+            """)
+    List<LikeCount> findLikeCountsByIdIn(Collection<Long> ids);
+
+    /**
+     * 원 댓글의 대댓글 첫 페이지를 작성순으로 조회합니다.
+     */
+    @Query("""
+                select new com.ian.novelviewer.comment.domain.CommentView(
+                    c.id, c.parent.id, c.content, u.loginId, c.createdAt)
+                from Comment c
+                join c.user u
+                where c.parent.id = :parentId
+                order by c.createdAt, c.id
+            """)
+    Slice<CommentView> findReplies(Long parentId, Pageable pageable);
+
+    /**
+     * 원 댓글의 대댓글 중 커서(createdAt, id) 이후를 작성순으로 조회합니다.
+     */
+    @Query("""
+                select new com.ian.novelviewer.comment.domain.CommentView(
+                    c.id, c.parent.id, c.content, u.loginId, c.createdAt)
+                from Comment c
+                join c.user u
+                where c.parent.id = :parentId
+                  and (c.createdAt > :createdAt
+                   or (c.createdAt = :createdAt and c.id > :id))
+                order by c.createdAt, c.id
+            """)
+    Slice<CommentView> findRepliesAfter(Long parentId, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    /**
+     * 가장 큰 댓글 id를 조회합니다. 댓글이 없으면 0을 반환합니다.
+     */
+    @Query("select coalesce(max(c.id), 0) from Comment c")
+    long findMaxId();
+
+    /**
+     * 주어진 id 중 이미 저장된 댓글의 id를 조회합니다.
+     */
+    @Query("select c.id from Comment c where c.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+}
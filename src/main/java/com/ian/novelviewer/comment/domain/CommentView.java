@@ -0,0 +1,15 @@
+package com.ian.novelviewer.comment.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 스레드 응답에 필요한 컬럼만 작성자 테이블과 조인하여 한 번에 조회하는 프로젝션
+ */
+public record CommentView(
+        Long id,
+        Long parentId,
+        String content,
+        String writer,
+        LocalDateTime createdAt
+) {
+}
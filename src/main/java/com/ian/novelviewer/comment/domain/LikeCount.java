@@ -0,0 +1,10 @@
+package com.ian.novelviewer.comment.domain;
+
+/**
+ * 댓글별 DB에 반영된 좋아요 수 프로젝션
+ */
+public record LikeCount(
+        Long commentId,
+        Long likeCount
+) {
+}
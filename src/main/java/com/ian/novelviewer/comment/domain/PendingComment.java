@@ -0,0 +1,39 @@
+package com.ian.novelviewer.comment.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 접수되었지만 아직 DB에 저장되지 않은 댓글입니다.
+ * 접수 로그와 작성자별 read-your-writes 오버레이에 같은 형태로 기록됩니다.
+ *
+ * @param id        미리 발급한 댓글 고유 ID
+ * @param novelId   소설 고유번호
+ * @param episodeId 회차 고유번호
+ * @param episodePk 회차 id(PK)
+ * @param parentId  부모 댓글 고유 ID (원 댓글이면 null)
+ * @param userId    작성자 고유 ID
+ * @param writer    작성자 로그인 ID
+ * @param content   댓글 내용
+ * @param createdAt 접수 시각
+ */
+public record PendingComment(
+        Long id,
+        Long novelId,
+        Long episodeId,
+        Long episodePk,
+        Long parentId,
+        Long userId,
+        String writer,
+        String content,
+        LocalDateTime createdAt
+) {
+
+    public boolean isReply() {
+        return parentId != null;
+    }
+
+
+    public boolean belongsTo(Long novelId, Long episodeId) {
+        return this.novelId.equals(novelId) && this.episodeId.equals(episodeId);
+    }
+}
@@ -0,0 +1,10 @@
+package com.ian.novelviewer.comment.domain;
+
+/**
+ * 원 댓글별 대댓글 수 집계 프로젝션
+ */
+public record ReplyCount(
+        Long parentId,
+        Long count
+) {
+}
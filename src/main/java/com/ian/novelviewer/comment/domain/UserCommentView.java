@@ -0,0 +1,26 @@
+package com.ian.novelviewer.comment.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자의 작성 댓글 목록 조회용 프로젝션입니다.
+ * 댓글과 함께 회차 제목, 소설 제목을 한 번의 조인 쿼리로 조회합니다.
+ *
+ * @param commentId    댓글 고유 ID
+ * @param novelId      소설 고유번호
+ * @param novelTitle   소설 제목
+ * @param episodeId    회차 고유번호
+ * @param episodeTitle 회차 제목
+ * @param content      댓글 내용
+ * @param createdAt    작성 시각
+ */
+public record UserCommentView(
+        Long commentId,
+        Long novelId,
+        String novelTitle,
+        Long episodeId,
+        String episodeTitle,
+        String content,
+        LocalDateTime createdAt
+) {
+}
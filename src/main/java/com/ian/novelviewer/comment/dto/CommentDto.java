@@ -1,6 +1,10 @@
 package com.ian.novelviewer.comment.dto;
 
+import com.ian.novelviewer.comment.application.CommentLikeService;
 import com.ian.novelviewer.comment.domain.Comment;
+import com.ian.novelviewer.comment.domain.CommentFeed;
+import com.ian.novelviewer.comment.domain.CommentView;
+import com.ian.novelviewer.comment.domain.PendingComment;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,9 +13,8 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 public class CommentDto {
 
@@ -45,18 +48,56 @@ public class CommentDto {
         private Long id;
         private String content;
         private Long likes;
+        private boolean liked;
         private String writer;
         private LocalDateTime createdAt;
+        private Long replyCount;
 
-        public static CommentResponse from(Comment comment, Long likes) {
+        public static CommentResponse from(Comment comment, CommentLikeService.LikeState likeState) {
             return CommentResponse.builder()
                     .id(comment.getId())
                     .content(comment.getContent())
-                    .likes(likes != null ? likes : 0L)
+                    .likes(likeState.count())
+                    .liked(likeState.liked())
                     .writer(comment.getUser().getLoginId())
                     .createdAt(comment.getCreatedAt())
                     .build();
         }
+
+        public static CommentResponse from(CommentFeed feed, CommentLikeService.LikeState likeState) {
+            return CommentResponse.builder()
+                    .id(feed.getCommentId())
+                    .content(feed.getContent())
+                    .likes(likeState.count())
+                    .liked(likeState.liked())
+                    .writer(feed.getWriter())
+                    .createdAt(feed.getCreatedAt())
+                    .replyCount(feed.getReplyCount())
+                    .build();
+        }
+
+        public static CommentResponse from(CommentView comment, CommentLikeService.LikeState likeState) {
+            return CommentResponse.builder()
+                    .id(comment.id())
+                    .content(comment.content())
+                    .likes(likeState.count())
+                    .liked(likeState.liked())
+                    .writer(comment.writer())
+                    .createdAt(comment.createdAt())
+                    .build();
+        }
+
+        public static CommentResponse from(PendingComment comment) {
+            return CommentResponse.builder()
+                    .id(comment.id())
+                    .content(comment.content())
+                    .likes(0L)
+                    .liked(false)
+                    .writer(comment.writer())
+                    .createdAt(comment.createdAt())
+                    .replyCount(comment.isReply() ? null : 0L)
+                    .build();
+        }
     }
 
     @Getter
@@ -67,27 +108,92 @@ public class CommentDto {
         private Long id;
         private String content;
         private Long likes;
+        private boolean liked;
         private String writer;
         private Long parentId;
         private LocalDateTime createdAt;
         private List<CommentResponse> children;
 
-        public static CommentInfoResponse from(Comment comment, Long likes) {
+        public static CommentInfoResponse from(
+                CommentView comment,
+                List<CommentView> children,
+                Map<Long, CommentLikeService.LikeState> likeStates
+        ) {
+            CommentLikeService.LikeState likeState =
+                    likeStates.getOrDefault(comment.id(), CommentLikeService.LikeState.EMPTY);
+
             return CommentInfoResponse.builder()
-                    .id(comment.getId())
-                    .content(comment.getContent())
-                    .likes(likes != null ? likes : 0L)
-                    .writer(comment.getUser().getLoginId())
-                    .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
-                    .createdAt(comment.getCreatedAt())
-                    .children(
-                            Optional.ofNullable(comment.getChildren())
-                                    .orElseGet(Collections::emptyList)
-                                    .stream()
-                                    .map(child -> CommentResponse.from(child, null))
-                                    .toList()
-                    )
+                    .id(comment.id())
+                    .content(comment.content())
+                    .likes(likeState.count())
+                    .liked(likeState.liked())
+                    .writer(comment.writer())
+                    .parentId(comment.parentId())
+                    .createdAt(comment.createdAt())
+                    .children(children.stream()
+                            .map(child -> CommentResponse.from(child,
+                                    likeStates.getOrDefault(child.id(), CommentLikeService.LikeState.EMPTY)))
+                            .toList())
                     .build();
         }
+
+        public static CommentInfoResponse from(PendingComment comment, List<PendingComment> children) {
+            return CommentInfoResponse.builder()
+                    .id(comment.id())
+                    .content(comment.content())
+                    .likes(0L)
+                    .liked(false)
+                    .writer(comment.writer())
+                    .parentId(comment.parentId())
+                    .createdAt(comment.createdAt())
+                    .children(children.stream().map(CommentResponse::from).toList())
+                    .build();
+        }
+
+        /**
+         * 저장된 댓글 정보에 작성자 본인의 저장 대기 중인 대댓글을 덧붙입니다.
+         */
+        public CommentInfoResponse withPendingChildren(List<PendingComment> pendingChildren) {
+            if (pendingChildren.isEmpty()) return this;
+
+            List<CommentResponse> merged = new ArrayList<>(children);
+            pendingChildren.forEach(child -> merged.add(CommentResponse.from(child)));
+            this.children = merged;
+            return this;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class LikeResponse {
+        private Long commentId;
+        private Long likes;
+        private boolean liked;
+
+        public static LikeResponse of(Long commentId, long likes, boolean liked) {
+            return LikeResponse.builder()
+                    .commentId(commentId)
+                    .likes(likes)
+                    .liked(liked)
+                    .build();
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ThreadResponse {
+        private Long id;
+        private String content;
+        private Long likes;
+        private boolean liked;
+        private String writer;
+        private LocalDateTime createdAt;
+        private long replyCount;
+        private List<CommentResponse> replies;
+        private String repliesCursor;
     }
-}
\ No newline at end of file
+}
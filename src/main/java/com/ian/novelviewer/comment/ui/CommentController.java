@@ -1,16 +1,20 @@
 package com.ian.novelviewer.comment.ui;
 
 import com.ian.novelviewer.comment.application.CommentService;
+import com.ian.novelviewer.comment.application.CommentStreamService;
 import com.ian.novelviewer.comment.dto.CommentDto;
+import com.ian.novelviewer.common.paging.CursorResponse;
 import com.ian.novelviewer.common.security.CustomUserDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -19,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamService commentStreamService;
 
 
     /**
@@ -30,6 +35,7 @@ public class CommentController {
      * @param episodeId 회차 고유번호
      * @param page      페이지 번호 (기본값 0)
      * @param size      페이지 크기 (기본값 20)
+     * @param user      인증된 사용자 정보 (비로그인 시 null)
      * @return 댓글 목록 (Page 형태)
      */
     @GetMapping
@@ -37,18 +43,110 @@ public class CommentController {
             @PathVariable Long novelId,
             @PathVariable Long episodeId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails user
     ) {
         log.info("[GET] 댓글 목록 요청 - novelId={}, episodeId={}, page={}, size={}",
                 novelId, episodeId, page, size);
 
         Page<CommentDto.CommentResponse> responses =
-                commentService.getAllComments(novelId, episodeId, page, size);
+                commentService.getAllComments(novelId, episodeId, page, size, getUserIdOrNull(user));
+
+        return ResponseEntity.ok(responses);
+    }
+
+
+    /**
+     * 원 댓글 목록을 최신순으로 커서 기반 조회합니다.
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어지는 목록을 조회합니다.
+     *
+     * @param novelId   소설 고유번호
+     * @param episodeId 회차 고유번호
+     * @param cursor    (선택) 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param size      페이지 크기 (기본값 20)
+     * @param user      인증된 사용자 정보 (비로그인 시 null)
+     * @return 원 댓글 목록과 다음 커서
+     */
+    @GetMapping("/latest")
+    public ResponseEntity<?> getLatestComments(
+            @PathVariable Long novelId,
+            @PathVariable Long episodeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        log.info("[GET] 최신 댓글 목록 요청 - novelId={}, episodeId={}, cursor={}, size={}",
+                novelId, episodeId, cursor, size);
+
+        CursorResponse<CommentDto.CommentResponse> response =
+                commentService.getLatestComments(novelId, episodeId, cursor, size, getUserIdOrNull(user));
+
+        return ResponseEntity.ok(response);
+    }
+
+
+    /**
+     * 원 댓글 스레드 목록을 조회합니다.
+     * 원 댓글은 좋아요 수로 정렬되며, 원 댓글마다 작성순으로 앞선 대댓글과 전체 대댓글 수가 함께 조회됩니다.
+     *
+     * @param novelId   소설 고유번호
+     * @param episodeId 회차 고유번호
+     * @param page      페이지 번호 (기본값 0)
+     * @param size      페이지 크기 (기본값 20)
+     * @param replies   원 댓글마다 함께 조회할 대댓글 수 (기본값 3)
+     * @param user      인증된 사용자 정보 (비로그인 시 null)
+     * @return 원 댓글 스레드 목록 (Page 형태)
+     */
+    @GetMapping("/threads")
+    public ResponseEntity<?> getThreads(
+            @PathVariable Long novelId,
+            @PathVariable Long episodeId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replies,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        log.info("[GET] 댓글 스레드 목록 요청 - novelId={}, episodeId={}, page={}, size={}, replies={}",
+                novelId, episodeId, page, size, replies);
+
+        Page<CommentDto.ThreadResponse> responses =
+                commentService.getThreads(novelId, episodeId, page, size, replies, getUserIdOrNull(user));
 
         return ResponseEntity.ok(responses);
     }
 
 
+    /**
+     * 원 댓글의 대댓글을 작성순으로 커서 기반 조회합니다.
+     * 스레드 목록의 repliesCursor 또는 이전 응답의 nextCursor를 cursor로 전달하면 이어지는 대댓글을 조회합니다.
+     *
+     * @param novelId   소설 고유번호
+     * @param episodeId 회차 고유번호
+     * @param commentId 원 댓글 고유 ID
+     * @param cursor    (선택) 이어서 조회할 위치, 없으면 첫 페이지
+     * @param size      페이지 크기 (기본값 20)
+     * @param user      인증된 사용자 정보 (비로그인 시 null)
+     * @return 대댓글 목록과 다음 커서
+     */
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<?> getReplies(
+            @PathVariable Long novelId,
+            @PathVariable Long episodeId,
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        log.info("[GET] 대댓글 목록 요청 - novelId={}, episodeId={}, commentId={}, cursor={}, size={}",
+                novelId, episodeId, commentId, cursor, size);
+
+        CursorResponse<CommentDto.CommentResponse> response =
+                commentService.getReplies(novelId, episodeId, commentId, cursor, size, getUserIdOrNull(user));
+
+        return ResponseEntity.ok(response);
+    }
+
+
     /**
      * 새로운 댓글을 작성합니다.
      * 대댓글의 경우 parentId를 함께 전달해야 합니다.
@@ -68,7 +166,7 @@ public class CommentController {
             @AuthenticationPrincipal CustomUserDetails user
     ) {
         log.info("[POST] 댓글 작성 요청 - novelId={}, episodeId={}, userId={}, content={}",
-                novelId, episodeId, user.getUser().getId(), request.getContent());
+                novelId, episodeId, user.getUserId(), request.getContent());
 
         CommentDto.CommentResponse response =
                 commentService.createComment(novelId, episodeId, request, user);
@@ -84,18 +182,21 @@ public class CommentController {
      * @param novelId   소설 고유번호
      * @param episodeId 회차 고유번호
      * @param commentId 댓글 고유 ID
+     * @param user      인증된 사용자 정보 (비로그인 시 null)
      * @return 댓글 응답 DTO
      */
     @GetMapping("/{commentId}")
     public ResponseEntity<?> getComment(
             @PathVariable Long novelId,
             @PathVariable Long episodeId,
-            @PathVariable Long commentId
+            @PathVariable Long commentId,
+            @AuthenticationPrincipal CustomUserDetails user
     ) {
         log.info("[GET] 단일 댓글 조회 요청 - novelId={}, episodeId={}, commentId={}",
                 novelId, episodeId, commentId);
 
-        CommentDto.CommentInfoResponse response = commentService.getCommet(novelId, episodeId, commentId);
+        CommentDto.CommentInfoResponse response =
+                commentService.getCommet(novelId, episodeId, commentId, getUserIdOrNull(user));
 
         return ResponseEntity.ok(response);
     }
@@ -149,7 +250,7 @@ public class CommentController {
             @AuthenticationPrincipal CustomUserDetails user
     ) {
         log.info("[DELETE] 댓글 삭제 요청 - novelId={}, episodeId={}, commentId={}, userId={}",
-                novelId, episodeId, commentId, user.getUser().getId());
+                novelId, episodeId, commentId, user.getUserId());
 
         commentService.deleteComment(novelId, episodeId, commentId, user);
 
@@ -165,10 +266,10 @@ public class CommentController {
      * @param episodeId 회차 고유번호
      * @param commentId 댓글 고유 ID
      * @param user      인증된 사용자 정보
-     * @return 상태 200 OK (본문 없음)
+     * @return 변경 후 좋아요 수와 좋아요 여부
      */
     @PostMapping("/{commentId}/likes")
-    public ResponseEntity<Void> like(
+    public ResponseEntity<?> like(
             @PathVariable Long novelId,
             @PathVariable Long episodeId,
             @PathVariable Long commentId,
@@ -177,9 +278,9 @@ public class CommentController {
         Long userId = getUserId(user);
         log.info("[POST] 댓글 좋아요 요청 - commentId={}, userId={}", commentId, userId);
 
-        commentService.like(commentId, episodeId, novelId, userId);
+        CommentDto.LikeResponse response = commentService.like(commentId, episodeId, novelId, userId);
 
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(response);
     }
 
 
@@ -191,10 +292,10 @@ public class CommentController {
      * @param episodeId 회차 고유번호
      * @param commentId 댓글 고유 ID
      * @param user      인증된 사용자 정보
-     * @return 상태 200 OK (본문 없음)
+     * @return 변경 후 좋아요 수와 좋아요 여부
      */
     @DeleteMapping("/{commentId}/likes")
-    public ResponseEntity<Void> unlike(
+    public ResponseEntity<?> unlike(
             @PathVariable Long novelId,
             @PathVariable Long episodeId,
             @PathVariable Long commentId,
@@ -203,9 +304,28 @@ public class CommentController {
         Long userId = getUserId(user);
         log.info("[DELETE] 댓글 좋아요 취소 요청 - commentId={}, userId={}", commentId, userId);
 
-        commentService.unlike(commentId, episodeId, novelId, userId);
+        CommentDto.LikeResponse response = commentService.unlike(commentId, episodeId, novelId, userId);
+
+        return ResponseEntity.ok(response);
+    }
+
+
+    /**
+     * 회차의 새 댓글과 좋아요 수 변경을 Server-Sent Events로 구독합니다.
+     * comment(원 댓글), reply(대댓글), likes(댓글별 좋아요 수), resync(목록 재조회 필요) 이벤트가 전달됩니다.
+     *
+     * @param novelId   소설 고유번호
+     * @param episodeId 회차 고유번호
+     * @return 이벤트 스트림
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @PathVariable Long novelId,
+            @PathVariable Long episodeId
+    ) {
+        log.info("[GET] 댓글 스트림 구독 요청 - novelId={}, episodeId={}", novelId, episodeId);
 
-        return ResponseEntity.ok().build();
+        return commentStreamService.subscribe(novelId, episodeId);
     }
 
 
@@ -213,6 +333,14 @@ public class CommentController {
      * 사용자의 고유 ID를 추출합니다.
      */
     private static Long getUserId(CustomUserDetails user) {
-        return user.getUser().getId();
+        return user.getUserId();
+    }
+
+
+    /**
+     * 인증된 사용자라면 고유 ID를, 비로그인 요청이라면 null을 반환합니다.
+     */
+    private static Long getUserIdOrNull(CustomUserDetails user) {
+        return user == null ? null : getUserId(user);
     }
 }
\ No newline at end of file
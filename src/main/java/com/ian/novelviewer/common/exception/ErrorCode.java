@@ -15,14 +15,19 @@ public enum ErrorCode {
     INVALID_FILE_FORMAT("올바른 이미지 파일 형식이 아닙니다. (jpg, png, jpeg 등)", HttpStatus.INTERNAL_SERVER_ERROR),
     MAILGUN_SEND_FAILED("Mailgun 메일 전송에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     MAILGUN_NETWORK_ERROR("Mailgun 네트워크 연결에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    COMMENT_INGEST_FAILED("댓글을 접수하지 못했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.INTERNAL_SERVER_ERROR),
 
     // 400 BAD_REQUEST
     VALIDATION_ERROR("필드의 값이 유효한 형식이 아닙니다. 올바른 값을 입력해주세요.", HttpStatus.BAD_REQUEST),
     ALREADY_HAS_ROLE("이미 해당 권한을 보유하고 있습니다.", HttpStatus.BAD_REQUEST),
     INVALID_KEYWORD("검색어가 입력되지 않았습니다.", HttpStatus.BAD_REQUEST),
     INVALID_COMMENT("대댓글은 한 단계까지만 작성할 수 있습니다.", HttpStatus.BAD_REQUEST),
+    FORBIDDEN_CONTENT("금지어가 포함된 댓글은 작성할 수 없습니다.", HttpStatus.BAD_REQUEST),
     INVALID_TOKEN("유효하지 않은 토큰입니다.", HttpStatus.BAD_REQUEST),
     INVALID_VERIFICATION_CODE("인증번호가 일치하지 않습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR("페이지 커서가 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_IMPORT_ID("가져오기 ID 형식이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_IMPORT_LINE("가져오기 데이터에 올바르지 않은 회차가 있습니다.", HttpStatus.BAD_REQUEST),
 
     // 401 UNAUTHORIZED
     INVALID_CREDENTIALS("아이디 또는 비밀번호가 잘못되었습니다.", HttpStatus.UNAUTHORIZED),
@@ -36,6 +41,7 @@ public enum ErrorCode {
     NOVEL_NOT_FOUND("해당 작품을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     EPISODE_NOT_FOUND("해당 회차를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     COMMENT_NOT_FOUND("해당 댓글을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    IMPORT_NOT_FOUND("해당 가져오기 작업을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
 
     // 409 CONFLICT
     DUPLICATE_LOGIN_ID("이미 사용 중인 아이디입니다.", HttpStatus.CONFLICT),
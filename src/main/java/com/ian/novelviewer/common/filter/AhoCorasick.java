@@ -0,0 +1,223 @@
+package com.ian.novelviewer.common.filter;
+
+import java.util.*;
+
+/**
+ * 여러 단어를 한 번의 순회로 찾는 Aho-Corasick 오토마톤입니다.
+ * <p>
+ * - 단어와 검사할 문자열은 모두 {@link HangulNormalizer}로 정규화한 자모열로 비교합니다.
+ * - 공백으로 구분된 어절 사이에서는 단어를 찾지 않습니다. ("질병 신고"는 "병신"이 아닙니다)
+ *   어절 안의 숫자와 기호는 건너뛰고, 한 글자짜리 어절끼리는 이어 붙여 "씨 . 발", "S P A M" 같은 우회 입력을 찾습니다.
+ * - 단어는 글자의 첫 자모에서 시작해야 합니다. ("갓바위"의 받침 ㅅ에서 "ㅅㅂ"이 시작되지 않습니다)
+ * - 생성 시 상태별 전이를 정렬된 배열로 컴파일하고 실패 링크와 출력 링크를 미리 계산하므로,
+ *   검사는 문자열 길이에 비례하고 검사 중 객체를 생성하지 않습니다.
+ * - 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 사용할 수 있습니다.
+ */
+public final class AhoCorasick {
+
+    private static final int ROOT = 0;
+    private static final int NO_OUTPUT = -1;
+
+    private final String[] words;
+    private final int[] wordLengths;
+    private final char[][] edgeKeys;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    private final int[] terminal;
+    private final int[] outputLink;
+
+
+    private AhoCorasick(String[] words, int[] wordLengths, char[][] edgeKeys, int[][] edgeTargets,
+                        int[] fail, int[] terminal, int[] outputLink) {
+        this.words = words;
+        this.wordLengths = wordLengths;
+        this.edgeKeys = edgeKeys;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.terminal = terminal;
+        this.outputLink = outputLink;
+    }
+
+
+    /**
+     * 단어 목록으로 오토마톤을 생성합니다. 정규화 후 빈 문자열이 되는 단어는 무시합니다.
+     *
+     * @param words 찾을 단어 목록
+     * @return 컴파일된 오토마톤
+     */
+    public static AhoCorasick compile(Collection<String> words) {
+        List<String> originals = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<Integer> terminals = new ArrayList<>();
+        children.add(new HashMap<>());
+        terminals.add(NO_OUTPUT);
+
+        for (String word : words) {
+            String normalized = HangulNormalizer.normalize(word);
+            if (normalized.isEmpty()) continue;
+
+            int state = ROOT;
+            for (int i = 0; i < normalized.length(); i++) {
+                Integer next = children.get(state).get(normalized.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.add(new HashMap<>());
+                    terminals.add(NO_OUTPUT);
+                    children.get(state).put(normalized.charAt(i), next);
+                }
+                state = next;
+            }
+
+            if (terminals.get(state) == NO_OUTPUT) {
+                terminals.set(state, originals.size());
+                originals.add(word);
+                lengths.add(normalized.length());
+            }
+        }
+
+        int size = children.size();
+        char[][] edgeKeys = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            List<Character> keys = new ArrayList<>(children.get(state).keySet());
+            Collections.sort(keys);
+
+            edgeKeys[state] = new char[keys.size()];
+            edgeTargets[state] = new int[keys.size()];
+            for (int i = 0; i < keys.size(); i++) {
+                edgeKeys[state][i] = keys.get(i);
+                edgeTargets[state][i] = children.get(state).get(keys.get(i));
+            }
+        }
+
+        int[] fail = new int[size];
+        int[] terminal = terminals.stream().mapToInt(Integer::intValue).toArray();
+        int[] outputLink = new int[size];
+
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            fail[child] = ROOT;
+            outputLink[child] = ROOT;
+            queue.add(child);
+        }
+
+        AhoCorasick automaton = new AhoCorasick(originals.toArray(String[]::new),
+                lengths.stream().mapToInt(Integer::intValue).toArray(), edgeKeys, edgeTargets, fail, terminal, outputLink);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+
+            for (int i = 0; i < edgeKeys[state].length; i++) {
+                int child = edgeTargets[state][i];
+                fail[child] = automaton.next(fail[state], edgeKeys[state][i]);
+                outputLink[child] = terminal[fail[child]] != NO_OUTPUT ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+
+        return automaton;
+    }
+
+
+    /**
+     * 문자열에서 처음 발견되는 단어를 찾습니다.
+     *
+     * @param text 검사할 문자열
+     * @return 발견된 단어(등록한 원문), 없으면 null
+     */
+    public String findFirst(CharSequence text) {
+        int state = ROOT;
+        long starts = 0;
+        int previousLetters = 0;
+        boolean inWord = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSeparator(c)) {
+                inWord = false;
+                continue;
+            }
+
+            if (!inWord) {
+                inWord = true;
+
+                int letters = countLetters(text, i);
+                if (letters == 0) continue;
+
+                if (previousLetters != 1 || letters != 1) {
+                    state = ROOT;
+                    starts = 0;
+                }
+                previousLetters = letters;
+            }
+
+            long packed = HangulNormalizer.normalize(c);
+            for (long first = 1; packed != 0; packed >>>= 16, first = 0) {
+                state = next(state, (char) (packed & 0xFFFF));
+                starts = (starts << 1) | first;
+
+                String word = match(state, starts);
+                if (word != null) return word;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * 등록된 단어 수를 반환합니다.
+     */
+    public int size() {
+        return words.length;
+    }
+
+
+    /**
+     * 현재 상태에서 끝나는 단어 중 글자의 첫 자모에서 시작하는 단어를 찾습니다.
+     *
+     * @param starts 최근 자모들이 글자의 첫 자모인지를 나타내는 비트 (가장 최근 자모가 최하위 비트)
+     */
+    private String match(int state, long starts) {
+        int s = terminal[state] != NO_OUTPUT ? state : outputLink[state];
+
+        for (; s != ROOT; s = outputLink[s]) {
+            int word = terminal[s];
+            int length = wordLengths[word];
+            if (length > Long.SIZE || ((starts >>> (length - 1)) & 1) == 1) return words[word];
+        }
+
+        return null;
+    }
+
+
+    /**
+     * 어절(공백으로 구분된 구간)에 포함된 글자 수를 최대 2까지 셉니다.
+     */
+    private static int countLetters(CharSequence text, int from) {
+        int letters = 0;
+
+        for (int i = from; i < text.length() && letters < 2; i++) {
+            char c = text.charAt(i);
+            if (isSeparator(c)) break;
+            if (HangulNormalizer.normalize(c) != 0) letters++;
+        }
+
+        return letters;
+    }
+
+
+    private static boolean isSeparator(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+
+
+    private int next(int state, char c) {
+        while (true) {
+            int index = Arrays.binarySearch(edgeKeys[state], c);
+            if (index >= 0) return edgeTargets[state][index];
+            if (state == ROOT) return ROOT;
+            state = fail[state];
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.ian.novelviewer.common.filter;
+
+/**
+ * 금지어 검사를 위해 문자를 정규화합니다.
+ * <p>
+ * - 한글 음절과 조합형 자모는 호환 자모로 분해합니다. (예: "씨" → "ㅆㅣ")
+ *   음절로 쓰든 자모로 나누어 쓰든 같은 자모열이 되므로 "ㅆㅣ발" 같은 우회 입력도 검사됩니다.
+ * - 영문은 소문자로, 전각 문자는 반각으로 바꾸고, 문자가 아닌 공백, 숫자, 기호는 건너뜁니다.
+ * <p>
+ * 문자 하나의 결과(최대 3개의 자모)를 long 하나에 담아 반환하므로, 검사 중 객체를 생성하지 않습니다.
+ */
+public final class HangulNormalizer {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final char CHO_BASE = 0x1100;
+    private static final char JUNG_BASE = 0x1161;
+    private static final char JONG_BASE = 0x11A7;
+
+    private static final char FULLWIDTH_FIRST = 0xFF01;
+    private static final char FULLWIDTH_LAST = 0xFF5E;
+    private static final int FULLWIDTH_OFFSET = 0xFEE0;
+
+    private static final char[] CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    private static final char[] JONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+
+    /**
+     * 문자 하나를 정규화합니다.
+     *
+     * @param c 원본 문자
+     * @return 정규화된 문자를 16비트씩 앞에서부터 담은 값, 건너뛸 문자면 0
+     */
+    public static long normalize(char c) {
+        if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+            int index = c - SYLLABLE_BASE;
+            int jong = index % JONG_COUNT;
+            int jung = (index / JONG_COUNT) % JUNG_COUNT;
+            int cho = index / (JONG_COUNT * JUNG_COUNT);
+
+            long packed = CHO[cho] | ((long) JUNG[jung] << 16);
+            return jong == 0 ? packed : packed | ((long) JONG[jong] << 32);
+        }
+
+        if (c >= CHO_BASE && c < CHO_BASE + CHO.length) return CHO[c - CHO_BASE];
+        if (c >= JUNG_BASE && c < JUNG_BASE + JUNG.length) return JUNG[c - JUNG_BASE];
+        if (c > JONG_BASE && c < JONG_BASE + JONG.length) return JONG[c - JONG_BASE];
+
+        if (c >= FULLWIDTH_FIRST && c <= FULLWIDTH_LAST) {
+            c = (char) (c - FULLWIDTH_OFFSET);
+        }
+
+        return Character.isLetter(c) ? Character.toLowerCase(c) : 0;
+    }
+
+
+    /**
+     * 문자열 전체를 정규화합니다. 사전 단어를 등록할 때 사용합니다.
+     *
+     * @param text 원본 문자열
+     * @return 정규화된 문자열
+     */
+    public static String normalize(CharSequence text) {
+        StringBuilder sb = new StringBuilder(text.length() * 2);
+
+        for (int i = 0; i < text.length(); i++) {
+            for (long packed = normalize(text.charAt(i)); packed != 0; packed >>>= 16) {
+                sb.append((char) (packed & 0xFFFF));
+            }
+        }
+
+        return sb.toString();
+    }
+
+
+    private HangulNormalizer() {
+    }
+}
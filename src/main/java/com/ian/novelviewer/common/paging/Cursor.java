@@ -0,0 +1,53 @@
+package com.ian.novelviewer.common.paging;
+
+import com.ian.novelviewer.common.exception.CustomException;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.ian.novelviewer.common.exception.ErrorCode.INVALID_CURSOR;
+
+/**
+ * 커서 기반 페이징에서 마지막으로 조회한 행의 (정렬 키, id)를 나타냅니다.
+ * 클라이언트에는 내부 구조를 드러내지 않도록 Base64(URL-safe)로 인코딩한 문자열로 전달합니다.
+ *
+ * @param sortKey 정렬 기준 시각
+ * @param id      정렬 키가 같을 때 순서를 결정하는 고유 id
+ */
+public record Cursor(LocalDateTime sortKey, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+
+    public String encode() {
+        String raw = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * 인코딩된 커서를 해석합니다. 값이 비어있으면 첫 페이지를 의미하므로 null을 반환합니다.
+     *
+     * @param encoded 인코딩된 커서 문자열
+     * @return 해석된 커서 (첫 페이지이면 null)
+     * @throws CustomException 커서 형식이 올바르지 않은 경우
+     */
+    public static Cursor decode(String encoded) {
+        if (!StringUtils.hasText(encoded)) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new CustomException(INVALID_CURSOR);
+        }
+    }
+}
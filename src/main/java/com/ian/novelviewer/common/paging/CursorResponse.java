@@ -0,0 +1,40 @@
+package com.ian.novelviewer.common.paging;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorResponse<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * Slice 결과와 마지막 행에서 커서를 추출하는 함수로 응답을 생성합니다.
+     * 다음 페이지가 없으면 nextCursor는 null 입니다.
+     */
+    public static <S, T> CursorResponse<T> of(
+            Slice<S> slice, Function<S, T> mapper, Function<S, Cursor> cursorExtractor
+    ) {
+        List<S> rows = slice.getContent();
+        String nextCursor = slice.hasNext() && !rows.isEmpty()
+                ? cursorExtractor.apply(rows.get(rows.size() - 1)).encode()
+                : null;
+
+        return CursorResponse.<T>builder()
+                .content(rows.stream().map(mapper).toList())
+                .nextCursor(nextCursor)
+                .hasNext(slice.hasNext())
+                .build();
+    }
+}
@@ -5,31 +5,225 @@ public final class RedisKeyUtil {
     private static final String PREFIX_COMMENT = "comment";
     private static final String PREFIX_USER = "user";
     private static final String PREFIX_EMAIL = "email";
+    private static final String PREFIX_EPISODE = "episode";
+    private static final String PREFIX_BOOKMARK = "bookmark";
+    private static final String PREFIX_NOTIFICATION = "notification";
 
-    private static final String SUFFIX_EPISODE = "episodeId";
     private static final String SUFFIX_LIKE = "likes";
     private static final String SUFFIX_BOOKMARK = "bookmark";
+    private static final String SUFFIX_BOOKMARKS = "bookmarks";
     private static final String SUFFIX_VERIFY = "verify";
+    private static final String SUFFIX_INFO = "info";
+    private static final String SUFFIX_TOC = "toc";
+    private static final String SUFFIX_VERSION = "version";
+    private static final String SUFFIX_CHANGES = "changes";
+    private static final String SUFFIX_IMPORT = "import";
+    private static final String SUFFIX_COMMENTS = "comments";
+    private static final String SUFFIX_RANKING = "ranking";
+    private static final String SUFFIX_BITMAP = "bitmap";
+    private static final String SUFFIX_COUNT = "count";
+    private static final String SUFFIX_BASE = "base";
+    private static final String SUFFIX_DIRTY = "dirty";
+    private static final String SUFFIX_PENDING_COMMENTS = "pending-comments";
+    private static final String SUFFIX_PENDING = "pending";
+    private static final String SUFFIX_HYDRATED = "hydrated";
+    private static final String SUFFIX_BACKFILLED = "backfilled";
+    private static final String SUFFIX_FEED = "feed";
+    private static final String SUFFIX_BACKFILL = "backfill";
+    private static final String SUFFIX_CATEGORY = "category";
+    private static final String SUFFIX_BOOKMARKERS = "bookmarkers";
+    private static final String SUFFIX_SEEDED = "seeded";
+    private static final String SUFFIX_SEEDING = "seeding";
+    private static final String SUFFIX_INBOX = "inbox";
+    private static final String SUFFIX_RELEASES = "releases";
+    private static final String SUFFIX_PULL_NOVELS = "pull-novels-until";
+    private static final String SUFFIX_ROLES_CHANGED_AT = "roles-changed-at";
 
-    private static final String SEPARATOR = ":";
+    private static final String CHANNEL_SEARCH_INDEX = "search-index";
+    private static final String CHANNEL_CACHE_INVALIDATION = "cache-invalidation";
+    private static final String CHANNEL_STREAM = "stream";
 
+    private static final String SEPARATOR = ":";
 
-    public static String episodeIdKey(Long novelId) {
-        return PREFIX_NOVEL + SEPARATOR + novelId + SEPARATOR + SUFFIX_EPISODE;
-    }
 
     public static String commentLikeKey(Long commentId) {
         return PREFIX_COMMENT + SEPARATOR + commentId + SEPARATOR + SUFFIX_LIKE;
     }
 
+    public static String commentLikeKeyPattern() {
+        return PREFIX_COMMENT + SEPARATOR + "*" + SEPARATOR + SUFFIX_LIKE;
+    }
+
+    public static Long commentIdFromLikeKey(String likeKey) {
+        return Long.valueOf(likeKey.substring(PREFIX_COMMENT.length() + 1, likeKey.lastIndexOf(SEPARATOR)));
+    }
+
+    public static String commentLikeBitmapKey(Long commentId) {
+        return commentLikeKey(commentId) + SEPARATOR + SUFFIX_BITMAP;
+    }
+
+    public static String commentLikeCountKey(Long commentId) {
+        return commentLikeKey(commentId) + SEPARATOR + SUFFIX_COUNT;
+    }
+
+    public static String commentLikeBaseKey(Long commentId) {
+        return commentLikeKey(commentId) + SEPARATOR + SUFFIX_BASE;
+    }
+
+    public static String commentLikeDirtyKey() {
+        return PREFIX_COMMENT + SEPARATOR + SUFFIX_LIKE + SEPARATOR + SUFFIX_DIRTY;
+    }
+
+    public static String commentFeedBackfillKey() {
+        return PREFIX_COMMENT + SEPARATOR + SUFFIX_FEED + SEPARATOR + SUFFIX_BACKFILL;
+    }
+
+    public static String commentRankingKey(Long novelId, Long episodeId) {
+        return PREFIX_NOVEL + SEPARATOR + novelId + SEPARATOR + PREFIX_EPISODE + SEPARATOR + episodeId
+                + SEPARATOR + SUFFIX_COMMENTS + SEPARATOR + SUFFIX_RANKING;
+    }
+
+    public static String commentRankingPendingKey(Long novelId, Long episodeId) {
+        return commentRankingKey(novelId, episodeId) + SEPARATOR + SUFFIX_PENDING;
+    }
+
     public static String userBookmarkKey(Long userId) {
         return PREFIX_USER + SEPARATOR + userId + SEPARATOR + SUFFIX_BOOKMARK;
     }
 
+    public static String userBookmarkKeyPattern() {
+        return PREFIX_USER + SEPARATOR + "*" + SEPARATOR + SUFFIX_BOOKMARK;
+    }
+
+    public static Long userIdFromBookmarkKey(String bookmarkKey) {
+        return Long.valueOf(bookmarkKey.substring(PREFIX_USER.length() + 1, bookmarkKey.lastIndexOf(SEPARATOR)));
+    }
+
+    public static String userBookmarksKey(Long userId) {
+        return PREFIX_USER + SEPARATOR + userId + SEPARATOR + SUFFIX_BOOKMARKS;
+    }
+
+    public static String userBookmarksKeyPattern() {
+        return PREFIX_USER + SEPARATOR + "*" + SEPARATOR + SUFFIX_BOOKMARKS;
+    }
+
+    public static String bookmarkDirtyKey() {
+        return PREFIX_BOOKMARK + SEPARATOR + SUFFIX_DIRTY;
+    }
+
+    public static String bookmarkDirtyMemberPrefix(Long userId) {
+        return userId + SEPARATOR;
+    }
+
+    public static String bookmarkDirtyMember(Long userId, Long novelId) {
+        return bookmarkDirtyMemberPrefix(userId) + novelId;
+    }
+
+    public static Long userIdFromBookmarkDirtyMember(String member) {
+        return Long.valueOf(member.substring(0, member.indexOf(SEPARATOR)));
+    }
+
+    public static Long novelIdFromBookmarkDirtyMember(String member) {
+        return Long.valueOf(member.substring(member.indexOf(SEPARATOR) + 1));
+    }
+
+    public static String bookmarkHydratedKey() {
+        return PREFIX_BOOKMARK + SEPARATOR + SUFFIX_HYDRATED;
+    }
+
+    public static String bookmarkBackfilledKey() {
+        return PREFIX_BOOKMARK + SEPARATOR + SUFFIX_BACKFILLED;
+    }
+
+    public static String novelBookmarkCountKey() {
+        return PREFIX_NOVEL + SEPARATOR + SUFFIX_BOOKMARKS + SEPARATOR + SUFFIX_COUNT;
+    }
+
+    public static String novelBookmarkCountSeededKey() {
+        return novelBookmarkCountKey() + SEPARATOR + SUFFIX_SEEDED;
+    }
+
+    public static String novelBookmarkSeedingKey(String counterKey) {
+        return counterKey + SEPARATOR + SUFFIX_SEEDING;
+    }
+
+    public static String novelBookmarkRankingKey(String category) {
+        return PREFIX_NOVEL + SEPARATOR + SUFFIX_CATEGORY + SEPARATOR + category
+                + SEPARATOR + SUFFIX_BOOKMARKS + SEPARATOR + SUFFIX_RANKING;
+    }
+
+    public static String novelBookmarkersKey(Long novelId) {
+        return PREFIX_NOVEL + SEPARATOR + novelId + SEPARATOR + SUFFIX_BOOKMARKERS;
+    }
+
+    public static String userInboxKey(Long userId) {
+        return PREFIX_USER + SEPARATOR + userId + SEPARATOR + SUFFIX_INBOX;
+    }
+
+    public static String novelReleasesKey(Long novelId) {
+        return PREFIX_NOVEL + SEPARATOR + novelId + SEPARATOR + SUFFIX_RELEASES;
+    }
+
+    public static String notificationKey(Long episodeId) {
+        return PREFIX_NOTIFICATION + SEPARATOR + episodeId;
+    }
+
+    public static String notificationPullNovelsKey() {
+        return PREFIX_NOTIFICATION + SEPARATOR + SUFFIX_PULL_NOVELS;
+    }
+
+    public static String userPendingCommentsKey(Long userId) {
+        return PREFIX_USER + SEPARATOR + userId + SEPARATOR + SUFFIX_PENDING_COMMENTS;
+    }
+
+    public static String userRolesChangedKey(Long userId) {
+        return PREFIX_USER + SEPARATOR + userId + SEPARATOR + SUFFIX_ROLES_CHANGED_AT;
+    }
+
     public static String emailVerifyKey(String email) {
         return PREFIX_EMAIL + SEPARATOR + email + SEPARATOR + SUFFIX_VERIFY;
     }
 
+    public static String novelInfoKey(Long novelId) {
+        return PREFIX_NOVEL + SEPARATOR + novelId + SEPARATOR + SUFFIX_INFO;
+    }
+
+    public static String novelInfoVersionKey(Long novelId) {
+        return novelInfoKey(novelId) + SEPARATOR + SUFFIX_VERSION;
+    }
+
+    public static String episodeTocKey(Long novelId) {
+        return PREFIX_NOVEL + SEPARATOR + novelId + SEPARATOR + SUFFIX_TOC;
+    }
+
+    public static String episodeTocVersionKey(Long novelId) {
+        return episodeTocKey(novelId) + SEPARATOR + SUFFIX_VERSION;
+    }
+
+    public static String episodeTocChangesKey(Long novelId) {
+        return episodeTocKey(novelId) + SEPARATOR + SUFFIX_CHANGES;
+    }
+
+    public static String episodeImportKey(Long novelId, String importId) {
+        return PREFIX_NOVEL + SEPARATOR + novelId + SEPARATOR + SUFFIX_IMPORT + SEPARATOR + importId;
+    }
+
+    public static String novelCacheInvalidationChannel() {
+        return PREFIX_NOVEL + SEPARATOR + CHANNEL_CACHE_INVALIDATION;
+    }
+
+    public static String userCacheInvalidationChannel() {
+        return PREFIX_USER + SEPARATOR + CHANNEL_CACHE_INVALIDATION;
+    }
+
+    public static String novelSearchIndexChannel() {
+        return PREFIX_NOVEL + SEPARATOR + CHANNEL_SEARCH_INDEX;
+    }
+
+    public static String commentStreamChannel() {
+        return PREFIX_COMMENT + SEPARATOR + CHANNEL_STREAM;
+    }
+
     private RedisKeyUtil() {
     }
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.ian.novelviewer.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ian.novelviewer.common.exception.CustomException;
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.common.transaction.TransactionUtil;
+import com.ian.novelviewer.user.domain.User;
+import com.ian.novelviewer.user.domain.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static com.ian.novelviewer.common.exception.ErrorCode.USER_NOT_FOUND;
+
+/**
+ * JWT 인증 사용자의 엔티티를 위한 로컬 캐시와 권한 변경 기록을 관리합니다.
+ * <p>
+ * - 사용자 엔티티가 필요한 요청(작품/댓글 작성 등)만 캐시를 거쳐 읽으며, TTL을 짧게 두어 오래된 값이 남는 시간을 제한합니다.
+ * - 권한이 바뀌면 커밋 이후 변경 시각을 Redis에 기록하고, Pub/Sub으로 모든 서버의 로컬 캐시를 무효화합니다.
+ *   인증 필터는 변경 시각 이전에 발급된 토큰의 권한 클레임을 사용하지 않고 DB에서 다시 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthenticatedUserCache implements MessageListener {
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${spring.jwt.user-cache.max-size}")
+    private long maxSize;
+
+    @Value("${spring.jwt.user-cache.ttl}")
+    private Duration ttl;
+
+    @Value("${spring.jwt.token-validity-in-ms}")
+    private long tokenValidityInMs;
+
+    private Cache<Long, User> cache;
+
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtil.userCacheInvalidationChannel()));
+    }
+
+
+    /**
+     * 사용자 엔티티를 조회합니다. 로컬 캐시에 없으면 DB에서 읽어 저장합니다.
+     *
+     * @param userId 사용자 고유 ID
+     * @return 사용자 엔티티
+     * @throws CustomException 사용자가 존재하지 않는 경우
+     */
+    public User get(Long userId) {
+        return cache.get(userId, id -> userRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.error("[AuthenticatedUserCache] 존재하지 않는 사용자 - userId={}", id);
+                    return new CustomException(USER_NOT_FOUND);
+                }));
+    }
+
+
+    /**
+     * 사용자의 권한 변경을 기록하고 캐시를 무효화합니다. 트랜잭션 커밋 이후에 반영됩니다.
+     * 변경 기록은 토큰 유효 시간 동안만 유지되며, 그 이후에는 변경 이전에 발급된 토큰이 모두 만료됩니다.
+     *
+     * @param userId 사용자 고유 ID
+     */
+    public void invalidate(Long userId) {
+        TransactionUtil.afterCommit(() -> {
+            cache.invalidate(userId);
+
+            try {
+                redisTemplate.opsForValue().set(RedisKeyUtil.userRolesChangedKey(userId),
+                        String.valueOf(System.currentTimeMillis()), Duration.ofMillis(tokenValidityInMs));
+                redisTemplate.convertAndSend(RedisKeyUtil.userCacheInvalidationChannel(), userId.toString());
+            } catch (Exception e) {
+                log.error("[AuthenticatedUserCache] 권한 변경 기록 실패 - userId={}", userId, e);
+            }
+
+            log.debug("[AuthenticatedUserCache] 캐시 무효화 - userId={}", userId);
+        });
+    }
+
+
+    /**
+     * 다른 서버에서 전파된 무효화 메시지를 받아 로컬 캐시에서 제거합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            cache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.error("[AuthenticatedUserCache] 잘못된 무효화 메시지 - body={}", body);
+        }
+    }
+}
@@ -1,36 +1,77 @@
 package com.ian.novelviewer.common.security;
 
+import com.ian.novelviewer.common.enums.Role;
 import com.ian.novelviewer.user.domain.User;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
 
+/**
+ * 인증된 사용자 정보입니다.
+ * <p>
+ * - JWT 인증 시에는 토큰 클레임(사용자 고유 ID, 로그인 ID, 권한)만으로 생성하며, 사용자 엔티티를 조회하지 않습니다.
+ * - 사용자 엔티티가 필요한 경우에만 {@link #getUser()}가 loader로 한 번 읽어옵니다.
+ */
 @Getter
-@RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final Long userId;
+    private final String loginId;
+    private final List<Role> roles;
+
+    @Getter(AccessLevel.NONE)
+    private final Function<Long, User> userLoader;
+
+    @Getter(AccessLevel.NONE)
+    private User user;
+
+
+    public CustomUserDetails(User user) {
+        this(user.getId(), user.getLoginId(), List.copyOf(user.getRoles()), id -> user);
+        this.user = user;
+    }
+
+
+    public CustomUserDetails(Long userId, String loginId, List<Role> roles, Function<Long, User> userLoader) {
+        this.userId = userId;
+        this.loginId = loginId;
+        this.roles = roles;
+        this.userLoader = userLoader;
+    }
+
+
+    /**
+     * 사용자 엔티티를 반환합니다. 토큰 클레임으로 생성된 경우 처음 호출될 때 loader로 읽어옵니다.
+     */
+    public User getUser() {
+        if (user == null) {
+            user = userLoader.apply(userId);
+        }
+        return user;
+    }
+
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles()
-                .stream()
+        return roles.stream()
                 .map(role -> new SimpleGrantedAuthority(role.name()))
                 .toList();
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return user == null ? null : user.getPassword();
     }
 
     @Override
     public String getUsername() {
-        return user.getLoginId();
+        return loginId;
     }
 
     @Override
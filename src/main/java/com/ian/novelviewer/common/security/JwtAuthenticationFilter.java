@@ -1,5 +1,6 @@
 package com.ian.novelviewer.common.security;
 
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,9 +18,17 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
+/**
+ * 요청 헤더의 JWT로 인증 정보를 설정합니다.
+ * <p>
+ * - 서명이 검증된 토큰의 클레임(사용자 고유 ID, 로그인 ID, 권한)만으로 인증 정보를 만들며, 요청마다 사용자를 조회하지 않습니다.
+ * - 로그아웃 블랙리스트와 권한 변경 시각은 한 번의 Redis 조회(MGET)로 확인합니다.
+ * - 권한 변경 이전에 발급된 토큰이나 사용자 고유 ID가 없는 이전 형식의 토큰은 DB에서 사용자를 읽어 인증합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -27,6 +36,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final AuthenticatedUserCache authenticatedUserCache;
     private final RedisTemplate<String, String> redisTemplate;
 
 
@@ -38,10 +48,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = jwtProvider.resolveToken(request);
 
         if (StringUtils.hasText(token) && jwtProvider.validateToken(token)) {
-            String isSignout = redisTemplate.opsForValue().get(token);
+            Authentication authentication = getAuthentication(token);
 
-            if (ObjectUtils.isEmpty(isSignout)) {
-                Authentication authentication = getAuthentication(token);
+            if (authentication != null) {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }
@@ -51,7 +60,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 
     private Authentication getAuthentication(String token) {
-        String loginId = jwtProvider.getLoginId(token);
+        JwtProvider.TokenClaims claims = jwtProvider.getTokenClaims(token);
+
+        if (claims.userId() == null) {
+            if (!ObjectUtils.isEmpty(redisTemplate.opsForValue().get(token))) return null;
+
+            return loadAuthentication(claims.loginId());
+        }
+
+        List<String> values = redisTemplate.opsForValue()
+                .multiGet(List.of(token, RedisKeyUtil.userRolesChangedKey(claims.userId())));
+        String isSignout = values == null ? null : values.get(0);
+        String rolesChangedAt = values == null ? null : values.get(1);
+
+        if (!ObjectUtils.isEmpty(isSignout)) return null;
+
+        if (rolesChangedAt != null && claims.issuedAt() <= Long.parseLong(rolesChangedAt)) {
+            log.debug("권한 변경 이전에 발급된 토큰 - DB에서 사용자 조회: {}", claims.loginId());
+            return loadAuthentication(claims.loginId());
+        }
+
+        CustomUserDetails userDetails = new CustomUserDetails(
+                claims.userId(), claims.loginId(), claims.roles(), authenticatedUserCache::get);
+
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+
+    private Authentication loadAuthentication(String loginId) {
         UserDetails userDetails = userDetailsService.loadUserByUsername(loginId);
 
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
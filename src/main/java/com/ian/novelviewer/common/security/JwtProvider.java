@@ -28,6 +28,7 @@ public class JwtProvider {
     public static final String TOKEN_HEADER = AUTHORIZATION;
     public static final String TOKEN_PREFIX = "Bearer ";
     private static final String KEY_ROLE = "roles";
+    private static final String KEY_USER_ID = "uid";
 
     @Value("${spring.jwt.token-validity-in-ms}")
     private long tokenValidityInMs;
@@ -44,7 +45,11 @@ public class JwtProvider {
     }
 
 
-    public String generateToken(String loginId, List<Role> roles) {
+    /**
+     * 사용자 고유 ID, 로그인 ID, 권한을 담은 토큰을 생성합니다.
+     * 인증 필터는 이 클레임만으로 인증 정보를 만들므로 요청마다 사용자를 조회하지 않습니다.
+     */
+    public String generateToken(Long userId, String loginId, List<Role> roles) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + tokenValidityInMs);
 
@@ -54,6 +59,7 @@ public class JwtProvider {
 
         return Jwts.builder()
                 .subject(loginId)
+                .claim(KEY_USER_ID, userId)
                 .claim(KEY_ROLE, authorities)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
@@ -67,6 +73,28 @@ public class JwtProvider {
     }
 
 
+    /**
+     * 서명이 검증된 토큰의 클레임을 반환합니다.
+     * 사용자 고유 ID가 없는 토큰(이전 형식)은 userId가 null입니다.
+     */
+    public TokenClaims getTokenClaims(String token) {
+        Claims claims = parseClaims(token);
+
+        Number userId = claims.get(KEY_USER_ID, Number.class);
+        List<?> authorities = claims.get(KEY_ROLE, List.class);
+        List<Role> roles = authorities == null ? List.of() : authorities.stream()
+                .map(authority -> Role.valueOf(authority.toString()))
+                .toList();
+
+        return new TokenClaims(
+                userId == null ? null : userId.longValue(),
+                claims.getSubject(),
+                roles,
+                claims.getIssuedAt().getTime()
+        );
+    }
+
+
     public boolean validateToken(String token) {
         try {
             parseClaims(token);
@@ -109,4 +137,8 @@ public class JwtProvider {
         Date expiration = parseClaims(token).getExpiration();
         return expiration.getTime() - System.currentTimeMillis();
     }
-}
\ No newline at end of file
+
+
+    public record TokenClaims(Long userId, String loginId, List<Role> roles, long issuedAt) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.ian.novelviewer.common.sequence;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * MySQL에 예약한 번호 구간을 메모리에서 발급하는 ID 할당기입니다.
+ * <p>
+ * - 시퀀스별로 blockSize만큼 구간을 예약해두고, 구간이 소진될 때만 DB에 접근합니다.
+ * - 예약 시 floor(실제 저장된 최대 번호 + 1)를 함께 확인하므로, 시퀀스 행이 없거나 뒤처져 있어도 중복 번호를 발급하지 않습니다.
+ * - 애플리케이션 종료 시 사용하지 않은 구간을 반납합니다. 비정상 종료 시에는 남은 구간만큼 번호가 비게 됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlockIdAllocator {
+
+    private final IdBlockService idBlockService;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+
+    /**
+     * 시퀀스에서 다음 번호 하나를 발급합니다.
+     *
+     * @param name      시퀀스 이름
+     * @param blockSize 한 번에 예약할 번호 수
+     * @param floor     예약 가능한 가장 작은 번호를 계산하는 함수 (예약할 때만 호출)
+     * @return 발급된 번호
+     */
+    public long next(String name, int blockSize, LongSupplier floor) {
+        return allocate(name, 1, blockSize, floor).start();
+    }
+
+
+    /**
+     * 시퀀스에서 연속된 번호 count개를 발급합니다.
+     * 남은 구간이 부족하면 남은 구간을 반납하고 count 이상을 새로 예약합니다.
+     *
+     * @param name      시퀀스 이름
+     * @param count     발급할 번호 수
+     * @param blockSize 한 번에 예약할 최소 번호 수
+     * @param floor     예약 가능한 가장 작은 번호를 계산하는 함수 (예약할 때만 호출)
+     * @return 발급된 번호 구간
+     */
+    public IdRange allocate(String name, int count, int blockSize, LongSupplier floor) {
+        Block block = blocks.computeIfAbsent(name, key -> new Block());
+
+        synchronized (block) {
+            if (block.remaining() < count) {
+                if (block.remaining() > 0) {
+                    idBlockService.release(name, block.unused());
+                }
+
+                block.reset(idBlockService.reserve(name, Math.max(count, blockSize), floor));
+            }
+
+            return block.take(count);
+        }
+    }
+
+
+    /**
+     * 애플리케이션 종료 시 사용하지 않은 구간을 반납합니다.
+     */
+    @PreDestroy
+    public void releaseAll() {
+        blocks.forEach((name, block) -> {
+            synchronized (block) {
+                if (block.remaining() == 0) return;
+
+                try {
+                    idBlockService.release(name, block.unused());
+                    block.reset(new IdRange(0, 0));
+                } catch (Exception e) {
+                    log.warn("[BlockIdAllocator] 번호 구간 반납 실패 - name={}", name, e);
+                }
+            }
+        });
+    }
+
+
+    private static final class Block {
+        private long next;
+        private long end;
+
+        long remaining() {
+            return end - next;
+        }
+
+        IdRange unused() {
+            return new IdRange(next, end);
+        }
+
+        void reset(IdRange range) {
+            next = range.start();
+            end = range.end();
+        }
+
+        IdRange take(int count) {
+            IdRange taken = new IdRange(next, next + count);
+            next += count;
+            return taken;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.ian.novelviewer.common.sequence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시퀀스별로 다음에 예약할 번호를 보관하는 테이블입니다.
+ * 서버는 이 행을 잠근 상태에서 번호 구간을 예약하고, 예약한 구간은 메모리에서 발급합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "id_blocks")
+public class IdBlock {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private Long nextValue;
+
+    /**
+     * [시작, 시작 + size) 구간을 예약합니다.
+     * 실제 저장된 번호(floor)가 예약 위치보다 앞서 있으면 floor부터 예약합니다.
+     */
+    public IdRange reserve(long floor, int size) {
+        long start = Math.max(nextValue, floor);
+        nextValue = start + size;
+        return new IdRange(start, nextValue);
+    }
+
+    /**
+     * 사용하지 않은 구간을 반납합니다.
+     * 반납할 구간 뒤로 다른 서버가 예약하지 않은 경우에만 되돌립니다.
+     */
+    public boolean release(IdRange unused) {
+        if (nextValue != unused.end()) return false;
+
+        nextValue = unused.start();
+        return true;
+    }
+}
@@ -0,0 +1,27 @@
+package com.ian.novelviewer.common.sequence;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface IdBlockRepository extends JpaRepository<IdBlock, String> {
+    /**
+     * 번호 구간 예약을 위해 시퀀스 행을 쓰기 잠금으로 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from IdBlock b where b.name = :name")
+    Optional<IdBlock> findForUpdate(String name);
+
+    /**
+     * 시퀀스 행이 없을 때만 생성 (이미 있거나 다른 트랜잭션이 먼저 생성하면 무시)
+     */
+    @Modifying
+    @Query(value = "insert ignore into id_blocks (name, next_value) values (:name, :nextValue)", nativeQuery = true)
+    int insertIfAbsent(String name, long nextValue);
+}
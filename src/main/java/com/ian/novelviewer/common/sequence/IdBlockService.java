@@ -0,0 +1,84 @@
+package com.ian.novelviewer.common.sequence;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.function.LongSupplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdBlockService {
+
+    private final IdBlockRepository idBlockRepository;
+
+
+    /**
+     * 시퀀스에서 번호 구간을 예약합니다.
+     * 호출한 트랜잭션과 별도로 커밋되므로, 잠금은 예약하는 동안에만 유지됩니다.
+     *
+     * @param name  시퀀스 이름
+     * @param size  예약할 번호 수
+     * @param floor 예약 가능한 가장 작은 번호 (이미 저장된 최대 번호 + 1)
+     * @return 예약된 번호 구간
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public IdRange reserve(String name, int size, LongSupplier floor) {
+        return lockAndReserve(name, size, floor);
+    }
+
+
+    /**
+     * 호출한 트랜잭션 안에서 시퀀스에서 번호 구간을 예약합니다.
+     * 별도 커넥션을 사용하지 않으며, 잠금은 호출한 트랜잭션이 끝날 때까지 유지됩니다.
+     * 호출한 트랜잭션이 롤백되면 예약도 함께 취소되므로, 예약한 번호를 메모리에 보관하지 않는 경우에만 사용합니다.
+     *
+     * @param name  시퀀스 이름
+     * @param size  예약할 번호 수
+     * @param floor 예약 가능한 가장 작은 번호 (이미 저장된 최대 번호 + 1)
+     * @return 예약된 번호 구간
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public IdRange reserveInCurrentTransaction(String name, int size, LongSupplier floor) {
+        return lockAndReserve(name, size, floor);
+    }
+
+
+    /**
+     * 사용하지 않은 번호 구간을 시퀀스에 반납합니다.
+     *
+     * @param name   시퀀스 이름
+     * @param unused 사용하지 않은 번호 구간
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void release(String name, IdRange unused) {
+        idBlockRepository.findForUpdate(name).ifPresent(block -> {
+            boolean released = block.release(unused);
+            log.debug("[IdBlock] 번호 구간 반납 - name={}, range=[{}, {}), 반납 여부={}",
+                    name, unused.start(), unused.end(), released);
+        });
+    }
+
+
+    /**
+     * 시퀀스 행을 잠그고 번호 구간을 예약합니다.
+     * 행이 없으면 생성한 뒤 다시 잠가 읽으므로, 여러 요청이 동시에 첫 행을 만들어도 중복 키 오류가 나지 않습니다.
+     */
+    private IdRange lockAndReserve(String name, int size, LongSupplier floor) {
+        long minimum = floor.getAsLong();
+
+        IdBlock block = idBlockRepository.findForUpdate(name)
+                .orElseGet(() -> {
+                    if (idBlockRepository.insertIfAbsent(name, minimum) > 0) {
+                        log.info("[IdBlock] 시퀀스 생성 - name={}, 시작 번호={}", name, minimum);
+                    }
+                    return idBlockRepository.findForUpdate(name).orElseThrow();
+                });
+
+        IdRange range = block.reserve(minimum, size);
+        log.debug("[IdBlock] 번호 구간 예약 - name={}, range=[{}, {})", name, range.start(), range.end());
+        return range;
+    }
+}
@@ -0,0 +1,11 @@
+package com.ian.novelviewer.common.sequence;
+
+/**
+ * 예약된 번호 구간 [start, end)
+ */
+public record IdRange(long start, long end) {
+
+    public long size() {
+        return end - start;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ian.novelviewer.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtil {
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후에 작업을 실행합니다.
+     * 활성화된 트랜잭션이 없으면 즉시 실행합니다.
+     *
+     * @param task 커밋 이후 실행할 작업
+     */
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private TransactionUtil() {
+    }
+}
@@ -0,0 +1,50 @@
+package com.ian.novelviewer.episode.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 압축 저장 이전의 회차 본문을 백그라운드에서 배치 단위로 전환합니다.
+ * <p>
+ * - 한 번 실행할 때 한 배치만 처리하여 DB 부하와 트랜잭션 길이를 제한합니다.
+ * - 새로 등록/수정되는 회차는 처음부터 압축 저장되므로, 대상이 모두 소진되면 더 이상 조회하지 않습니다.
+ * - 여러 서버에서 동시에 실행되어도 이미 전환된 회차는 변경하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.episode.content-migration.enabled", havingValue = "true")
+public class EpisodeContentMigrationJob {
+
+    private final EpisodeContentMigrationService migrationService;
+
+    @Value("${spring.episode.content-migration.batch-size}")
+    private int batchSize;
+
+    private long lastId = 0L;
+    private volatile boolean completed = false;
+
+
+    @Scheduled(fixedDelayString = "${spring.episode.content-migration.interval-ms}")
+    public void run() {
+        if (completed) return;
+
+        try {
+            Long batchLastId = migrationService.migrateBatch(lastId, batchSize);
+
+            if (batchLastId == null) {
+                completed = true;
+                log.info("[EpisodeContentMigration] 회차 본문 압축 전환 완료 - 마지막 id={}", lastId);
+                return;
+            }
+
+            lastId = batchLastId;
+        } catch (Exception e) {
+            log.error("[EpisodeContentMigration] 회차 본문 압축 전환 실패 - lastId={}", lastId, e);
+        }
+    }
+}
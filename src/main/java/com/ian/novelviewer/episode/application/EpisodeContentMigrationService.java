@@ -0,0 +1,53 @@
+package com.ian.novelviewer.episode.application;
+
+import com.ian.novelviewer.episode.domain.EpisodeContentCodec;
+import com.ian.novelviewer.episode.domain.EpisodeRepository;
+import com.ian.novelviewer.episode.domain.LegacyEpisodeContent;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EpisodeContentMigrationService {
+
+    private final EpisodeRepository episodeRepository;
+
+
+    /**
+     * 압축 저장 이전의 회차 본문을 한 배치만큼 압축 저장 형식으로 변환합니다.
+     *
+     * @param lastId    이전 배치에서 마지막으로 처리한 회차 id(PK)
+     * @param batchSize 한 번에 처리할 회차 수
+     * @return 이번 배치에서 마지막으로 처리한 회차 id(PK), 더 이상 대상이 없으면 null
+     */
+    @Transactional
+    public Long migrateBatch(long lastId, int batchSize) {
+        List<LegacyEpisodeContent> rows = episodeRepository.findLegacyContentsAfter(lastId, PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) return null;
+
+        long rawBytes = 0;
+        long storedBytes = 0;
+        int migrated = 0;
+
+        for (LegacyEpisodeContent row : rows) {
+            String content = row.getContent();
+            byte[] data = EpisodeContentCodec.encode(content);
+
+            migrated += episodeRepository.migrateContent(row.getId(), data, content.length());
+            rawBytes += content.getBytes(StandardCharsets.UTF_8).length;
+            storedBytes += data.length;
+        }
+
+        Long batchLastId = rows.get(rows.size() - 1).getId();
+        log.debug("회차 본문 압축 전환 - 처리={}건, 마지막 id={}, 원본={}B, 저장={}B",
+                migrated, batchLastId, rawBytes, storedBytes);
+        return batchLastId;
+    }
+}
@@ -0,0 +1,70 @@
+package com.ian.novelviewer.episode.application;
+
+import com.ian.novelviewer.common.sequence.BlockIdAllocator;
+import com.ian.novelviewer.common.sequence.IdBlockService;
+import com.ian.novelviewer.common.sequence.IdRange;
+import com.ian.novelviewer.episode.domain.EpisodeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작품별 회차 고유번호를 발급합니다.
+ * 구간을 예약할 때 실제 저장된 최대 회차 번호 이후부터 예약합니다.
+ * <p>
+ * - 회차 하나를 등록할 때는 등록 트랜잭션 안에서 시퀀스 행을 잠그고 바로 예약합니다.
+ *   별도 트랜잭션(커넥션)을 열지 않으며, 등록이 롤백되면 예약도 함께 취소되어 번호가 비지 않습니다.
+ * - 여러 회차를 가져올 때는 MySQL에 예약한 번호 구간을 메모리에서 발급합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EpisodeIdGenerator {
+
+    private static final String SEQUENCE_PREFIX = "episode:";
+
+    private final BlockIdAllocator blockIdAllocator;
+    private final IdBlockService idBlockService;
+    private final EpisodeRepository episodeRepository;
+
+    @Value("${spring.episode.id-block-size}")
+    private int blockSize;
+
+
+    /**
+     * 작품의 다음 회차 고유번호를 발급합니다. 회차 등록 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param novelId 작품 id(PK)
+     * @return 다음 회차 고유번호
+     */
+    public long next(Long novelId) {
+        long nextId = idBlockService.reserveInCurrentTransaction(sequence(novelId), 1, () -> floor(novelId)).start();
+        log.debug("다음 회차 ID 생성 - novelId={}, nextEpisodeId={}", novelId, nextId);
+        return nextId;
+    }
+
+
+    /**
+     * 작품의 연속된 회차 고유번호 count개를 한 번에 발급합니다.
+     *
+     * @param novelId 작품 id(PK)
+     * @param count   발급할 번호 수
+     * @return 발급된 번호 구간
+     */
+    public IdRange allocate(Long novelId, int count) {
+        IdRange range = blockIdAllocator.allocate(sequence(novelId), count, blockSize, () -> floor(novelId));
+        log.debug("회차 ID 구간 생성 - novelId={}, range=[{}, {})", novelId, range.start(), range.end());
+        return range;
+    }
+
+
+    private long floor(Long novelId) {
+        return episodeRepository.findMaxEpisodeId(novelId) + 1;
+    }
+
+
+    private static String sequence(Long novelId) {
+        return SEQUENCE_PREFIX + novelId;
+    }
+}
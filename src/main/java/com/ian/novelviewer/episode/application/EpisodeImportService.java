@@ -0,0 +1,259 @@
+package com.ian.novelviewer.episode.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ian.novelviewer.common.exception.CustomException;
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.common.sequence.IdRange;
+import com.ian.novelviewer.episode.domain.EpisodeContentCodec;
+import com.ian.novelviewer.episode.dto.EpisodeDto;
+import com.ian.novelviewer.novel.domain.Novel;
+import com.ian.novelviewer.novel.domain.NovelRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static com.ian.novelviewer.common.exception.ErrorCode.*;
+
+/**
+ * 여러 회차를 한 번에 등록하는 가져오기 기능을 담당합니다.
+ * <p>
+ * - 요청 본문은 한 줄에 회차 하나({"title": ..., "content": ...})인 JSON Lines 형식이며, 스트림으로 읽습니다.
+ * - 작품 소유권은 처음 한 번만 확인하고, 회차 번호는 배치 단위로 한 번에 예약합니다.
+ * - 회차는 JDBC 배치 INSERT로 저장하며, 배치마다 커밋하고 진행 상황을 Redis에 기록합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EpisodeImportService {
+
+    private static final Pattern IMPORT_ID_PATTERN = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    private static final String INSERT_SQL = """
+            insert into episodes
+                (episode_id, title, content, content_data, content_length, novel_id, created_at, updated_at)
+            values (?, ?, '', ?, ?, ?, ?, ?)
+            """;
+
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_IMPORTED = "imported";
+    private static final String FIELD_FAILED_LINE = "failedLine";
+
+    private final NovelRepository novelRepository;
+    private final EpisodeIdGenerator episodeIdGenerator;
+    private final EpisodeTocService episodeTocService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.episode.import.batch-size}")
+    private int batchSize;
+
+    @Value("${spring.episode.import.progress-ttl}")
+    private Duration progressTtl;
+
+
+    /**
+     * JSON Lines 스트림으로 전달된 회차들을 등록합니다.
+     * 배치 단위로 커밋하므로, 중간에 실패하면 그 전까지 등록된 회차는 유지되고 진행 상황에 실패한 줄 번호가 남습니다.
+     *
+     * @param novelId  작품 고유번호
+     * @param importId 진행 상황 조회에 사용할 가져오기 ID (없으면 새로 생성)
+     * @param body     요청 본문 스트림
+     * @param loginId  요청자 로그인 ID
+     * @return 가져오기 결과 DTO
+     * @throws CustomException 작품이 없거나, 권한이 없거나, 올바르지 않은 줄이 있는 경우
+     */
+    public EpisodeDto.ImportResponse importEpisodes(Long novelId, String importId, InputStream body, String loginId) {
+        String id = importId == null ? UUID.randomUUID().toString() : importId;
+        if (!IMPORT_ID_PATTERN.matcher(id).matches()) {
+            log.error("올바르지 않은 가져오기 ID: {}", id);
+            throw new CustomException(INVALID_IMPORT_ID);
+        }
+
+        log.debug("회차 가져오기 요청 - novelId={}, importId={}, 요청자={}", novelId, id, loginId);
+
+        Novel novel = findOwnedNovel(novelId, loginId);
+
+        String progressKey = RedisKeyUtil.episodeImportKey(novelId, id);
+        writeProgress(progressKey, Map.of(FIELD_STATUS, EpisodeDto.ImportStatus.RUNNING.name(), FIELD_IMPORTED, "0"));
+
+        long imported = 0;
+        long lineNumber = 0;
+        List<EpisodeDto.CreateEpisodeRequest> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) continue;
+
+                batch.add(parseLine(line, lineNumber));
+
+                if (batch.size() == batchSize) {
+                    imported += insertBatch(novel, batch);
+                    writeProgress(progressKey, Map.of(FIELD_IMPORTED, String.valueOf(imported)));
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                imported += insertBatch(novel, batch);
+            }
+        } catch (CustomException e) {
+            fail(progressKey, imported, lineNumber);
+            throw e;
+        } catch (IOException e) {
+            log.error("회차 가져오기 본문 읽기 실패 - importId={}, line={}", id, lineNumber, e);
+            fail(progressKey, imported, lineNumber);
+            throw new CustomException(FILE_PROCESSING_ERROR);
+        } catch (RuntimeException e) {
+            log.error("회차 가져오기 저장 실패 - importId={}, line={}", id, lineNumber, e);
+            fail(progressKey, imported, lineNumber);
+            throw e;
+        } finally {
+            if (imported > 0) {
+                episodeTocService.reset(novelId);
+            }
+        }
+
+        writeProgress(progressKey, Map.of(
+                FIELD_STATUS, EpisodeDto.ImportStatus.COMPLETED.name(),
+                FIELD_IMPORTED, String.valueOf(imported)));
+
+        log.debug("회차 가져오기 완료 - novelId={}, importId={}, 등록 회차 수={}", novelId, id, imported);
+        return EpisodeDto.ImportResponse.builder()
+                .importId(id)
+                .status(EpisodeDto.ImportStatus.COMPLETED)
+                .imported(imported)
+                .build();
+    }
+
+
+    /**
+     * 가져오기 진행 상황을 조회합니다.
+     *
+     * @param novelId  작품 고유번호
+     * @param importId 가져오기 ID
+     * @param loginId  요청자 로그인 ID
+     * @return 가져오기 진행 상황 DTO
+     * @throws CustomException 작품이 없거나, 권한이 없거나, 진행 상황이 없거나 만료된 경우
+     */
+    public EpisodeDto.ImportResponse getImportStatus(Long novelId, String importId, String loginId) {
+        if (!IMPORT_ID_PATTERN.matcher(importId).matches()) {
+            throw new CustomException(INVALID_IMPORT_ID);
+        }
+
+        findOwnedNovel(novelId, loginId);
+
+        Map<Object, Object> progress = redisTemplate.opsForHash().entries(RedisKeyUtil.episodeImportKey(novelId, importId));
+        if (progress.isEmpty()) {
+            log.error("존재하지 않는 가져오기 작업 - novelId={}, importId={}", novelId, importId);
+            throw new CustomException(IMPORT_NOT_FOUND);
+        }
+
+        Object failedLine = progress.get(FIELD_FAILED_LINE);
+        return EpisodeDto.ImportResponse.builder()
+                .importId(importId)
+                .status(EpisodeDto.ImportStatus.valueOf((String) progress.get(FIELD_STATUS)))
+                .imported(Long.parseLong((String) progress.get(FIELD_IMPORTED)))
+                .failedLine(failedLine == null ? null : Long.valueOf((String) failedLine))
+                .build();
+    }
+
+
+    private Novel findOwnedNovel(Long novelId, String loginId) {
+        Novel novel = novelRepository.findByNovelId(novelId)
+                .orElseThrow(() -> {
+                    log.error("존재하지 않는 작품: {}", novelId);
+                    return new CustomException(NOVEL_NOT_FOUND);
+                });
+
+        if (!novel.getAuthor().getLoginId().equals(loginId)) {
+            log.error("회차 가져오기 권한 없음 - 작가: {}, 요청자: {}", novel.getAuthor().getLoginId(), loginId);
+            throw new CustomException(NO_PERMISSION);
+        }
+        return novel;
+    }
+
+
+    private EpisodeDto.CreateEpisodeRequest parseLine(String line, long lineNumber) {
+        try {
+            EpisodeDto.CreateEpisodeRequest request = objectMapper.readValue(line, EpisodeDto.CreateEpisodeRequest.class);
+            if (StringUtils.hasText(request.getTitle()) && StringUtils.hasText(request.getContent())) {
+                return request;
+            }
+        } catch (IOException e) {
+            log.debug("회차 가져오기 JSON 해석 실패 - line={}", lineNumber);
+        }
+
+        log.error("올바르지 않은 회차 데이터 - line={}", lineNumber);
+        throw new CustomException(INVALID_IMPORT_LINE);
+    }
+
+
+    /**
+     * 회차 번호를 한 번에 예약한 뒤 한 트랜잭션에서 JDBC 배치로 저장합니다.
+     */
+    private int insertBatch(Novel novel, List<EpisodeDto.CreateEpisodeRequest> batch) {
+        IdRange ids = episodeIdGenerator.allocate(novel.getId(), batch.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            EpisodeDto.CreateEpisodeRequest request = batch.get(i);
+            rows.add(new Object[]{
+                    ids.start() + i,
+                    request.getTitle(),
+                    EpisodeContentCodec.encode(request.getContent()),
+                    request.getContent().length(),
+                    novel.getId(),
+                    now,
+                    now
+            });
+        }
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows));
+
+        log.debug("회차 배치 저장 - novelId={}, range=[{}, {})", novel.getNovelId(), ids.start(), ids.end());
+        return rows.size();
+    }
+
+
+    private void fail(String progressKey, long imported, long lineNumber) {
+        writeProgress(progressKey, Map.of(
+                FIELD_STATUS, EpisodeDto.ImportStatus.FAILED.name(),
+                FIELD_IMPORTED, String.valueOf(imported),
+                FIELD_FAILED_LINE, String.valueOf(lineNumber)));
+    }
+
+
+    private void writeProgress(String progressKey, Map<String, String> fields) {
+        try {
+            redisTemplate.opsForHash().putAll(progressKey, fields);
+            redisTemplate.expire(progressKey, progressTtl);
+        } catch (Exception e) {
+            log.error("회차 가져오기 진행 상황 기록 실패 - key={}", progressKey, e);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.ian.novelviewer.episode.application;
 
 import com.ian.novelviewer.common.exception.CustomException;
-import com.ian.novelviewer.common.redis.RedisKeyUtil;
 import com.ian.novelviewer.common.security.CustomUserDetails;
 import com.ian.novelviewer.episode.domain.Episode;
+import com.ian.novelviewer.episode.domain.EpisodeBody;
 import com.ian.novelviewer.episode.domain.EpisodeRepository;
+import com.ian.novelviewer.episode.domain.EpisodeTitle;
 import com.ian.novelviewer.episode.dto.EpisodeDto;
+import com.ian.novelviewer.notification.application.NotificationService;
+import com.ian.novelviewer.notification.domain.EpisodeRelease;
 import com.ian.novelviewer.novel.domain.Novel;
 import com.ian.novelviewer.novel.domain.NovelRepository;
 import jakarta.transaction.Transactional;
@@ -15,10 +18,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+
 import static com.ian.novelviewer.common.enums.Role.ROLE_ADMIN;
 import static com.ian.novelviewer.common.exception.ErrorCode.*;
 
@@ -29,24 +33,32 @@ public class EpisodeService {
 
     private final NovelRepository novelRepository;
     private final EpisodeRepository episodeRepository;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final EpisodeTocService episodeTocService;
+    private final EpisodeIdGenerator episodeIdGenerator;
+    private final NotificationService notificationService;
 
 
     /**
      * 특정 작품의 전체 회차 목록을 페이징하여 조회합니다.
+     * 회차 id, 제목, 등록일만 조회하며 본문은 읽지 않습니다.
+     * 결과가 비어있을 때만 작품 존재 여부를 따로 확인합니다.
      *
      * @param novelId 작품 고유번호
      * @param page    페이지 번호
      * @param size    페이지 크기
      * @return 에피소드 타이틀 응답의 Page 객체
+     * @throws CustomException 존재하지 않는 작품인 경우
      */
     public Page<EpisodeDto.EpisodeTitleResponse> getAllEpisodes(Long novelId, int page, int size) {
         log.debug("회차 목록 요청 - novelId={}, page={}, size={}", novelId, page, size);
 
         Pageable pageable = getPageable(page, size);
-        Novel novel = findNovelOrThrow(novelId);
+        Page<EpisodeTitle> episodes = episodeRepository.findTitlesByNovelId(novelId, pageable);
 
-        Page<Episode> episodes = episodeRepository.findByNovel(novel, pageable);
+        if (episodes.isEmpty() && !novelRepository.existsByNovelId(novelId)) {
+            log.error("존재하지 않는 작품: {}", novelId);
+            throw new CustomException(NOVEL_NOT_FOUND);
+        }
 
         log.debug("회차 목록 조회 완료 - novelId={}, 총 회차 수={}", novelId, episodes.getTotalElements());
         return episodes.map(EpisodeDto.EpisodeTitleResponse::from);
@@ -76,7 +88,7 @@ public class EpisodeService {
         Novel novel = findNovelOrThrow(novelId);
         checkPermissionOrThrow(loginId, novel);
 
-        Long episodeId = getNextEpisodeId(novel.getId());
+        Long episodeId = episodeIdGenerator.next(novel.getId());
         log.debug("회차 ID 생성 완료 - episodeId={}", episodeId);
 
         Episode episode = episodeRepository.save(
@@ -88,6 +100,10 @@ public class EpisodeService {
                         .build()
         );
 
+        episodeTocService.recordUpsert(novelId, EpisodeDto.TocEntry.from(episode));
+        notificationService.publishEpisode(new EpisodeRelease(
+                episode.getId(), novelId, novel.getTitle(), episodeId, episode.getTitle(), LocalDateTime.now()));
+
         log.debug("회차 등록 완료 - episodeId={}", episode.getEpisodeId());
         return EpisodeDto.EpisodeInfoResponse.from(episode);
     }
@@ -110,6 +126,33 @@ public class EpisodeService {
     }
 
 
+    /**
+     * 특정 회차의 본문을 저장된 바이트 그대로 조회합니다.
+     * 본문을 문자열로 변환하지 않으며, gzip으로 저장된 본문은 클라이언트가 허용하면 압축된 상태로 반환합니다.
+     *
+     * @param novelId     작품 고유번호
+     * @param episodeId   회차 고유번호
+     * @param acceptsGzip 클라이언트의 gzip 응답 허용 여부
+     * @return 회차 본문 바이트 응답 DTO
+     * @throws CustomException 존재하지 않는 회차인 경우
+     */
+    public EpisodeDto.EpisodeBodyResponse getEpisodeBody(Long novelId, Long episodeId, boolean acceptsGzip) {
+        log.debug("회차 본문 조회 요청 - novelId={}, episodeId={}, gzip={}", novelId, episodeId, acceptsGzip);
+
+        EpisodeBody body = episodeRepository.findBody(novelId, episodeId)
+                .orElseThrow(() -> {
+                    log.error("존재하지 않는 회차: {}", episodeId);
+                    return new CustomException(EPISODE_NOT_FOUND);
+                });
+
+        EpisodeDto.EpisodeBodyResponse response = EpisodeDto.EpisodeBodyResponse.from(body, acceptsGzip);
+
+        log.debug("회차 본문 조회 성공 - episodeId={}, 크기={}B, gzip={}",
+                episodeId, response.getData().length, response.isGzipEncoded());
+        return response;
+    }
+
+
     /**
      * 특정 회차를 수정합니다.
      *
@@ -143,6 +186,8 @@ public class EpisodeService {
             episode.changeContent(request.getContent());
         }
 
+        episodeTocService.recordUpsert(novelId, EpisodeDto.TocEntry.from(episode));
+
         log.debug("회차 수정 완료 - episodeId={}", episode.getEpisodeId());
         return EpisodeDto.EpisodeInfoResponse.from(episode);
     }
@@ -163,7 +208,7 @@ public class EpisodeService {
         Novel novel = findNovelOrThrow(novelId);
         Episode episode = findEpisodeOrThrow(novelId, episodeId);
 
-        boolean isAdmin = user.getUser().getRoles().contains(ROLE_ADMIN);
+        boolean isAdmin = user.getRoles().contains(ROLE_ADMIN);
         boolean isAuthor = novel.getAuthor().getLoginId().equals(user.getUsername());
         log.debug("권한 확인 - isAdmin={}, isAuthor={}", isAdmin, isAuthor);
 
@@ -173,6 +218,8 @@ public class EpisodeService {
         }
 
         episodeRepository.delete(episode);
+        episodeTocService.recordDelete(novelId, episodeId);
+        notificationService.removeEpisode(episode.getId());
         log.debug("회차 삭제 완료 - episodeId={}", episodeId);
     }
 
@@ -223,18 +270,4 @@ public class EpisodeService {
             throw new CustomException(NO_PERMISSION);
         }
     }
-
-
-    /**
-     * Redis를 사용해 작품별로 다음 회차 고유번호를 생성합니다.
-     *
-     * @param novelId 작품 고유번호
-     * @return 다음 회차 고유번호
-     */
-    public Long getNextEpisodeId(Long novelId) {
-        String key = RedisKeyUtil.episodeIdKey(novelId);
-        Long nextId = redisTemplate.opsForValue().increment(key);
-        log.debug("다음 회차 ID 생성 - novelId={}, nextEpisodeId={}", novelId, nextId);
-        return nextId;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,342 @@
+package com.ian.novelviewer.episode.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ian.novelviewer.common.exception.CustomException;
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.common.transaction.TransactionUtil;
+import com.ian.novelviewer.episode.domain.EpisodeRepository;
+import com.ian.novelviewer.episode.domain.EpisodeTitle;
+import com.ian.novelviewer.episode.dto.EpisodeDto;
+import com.ian.novelviewer.novel.domain.NovelRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.ian.novelviewer.common.exception.ErrorCode.NOVEL_NOT_FOUND;
+
+/**
+ * 소설별 회차 목차(TOC)를 버전과 함께 관리합니다.
+ * <p>
+ * - 목차는 Redis와 서버 메모리에 버전이 붙은 스냅샷으로 보관하며, 버전이 바뀐 경우에만 DB에서 다시 구성합니다.
+ * - 회차가 등록/수정/삭제되면 커밋 이후 버전을 올리고, 변경 내역을 최근 N건까지 Redis 리스트에 남깁니다.
+ * - 버전 키가 사라진 경우 현재 시각으로 다시 시작하므로, 이전에 발급된 버전과 겹치지 않습니다.
+ * - Redis 스냅샷에는 TTL을 두어, 커밋 이후 버전 갱신이 실패해 오래된 스냅샷이 남더라도 만료 후 DB에서 다시 구성됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EpisodeTocService {
+
+    private static final String CHANGE_SEPARATOR = "|";
+
+    /**
+     * 버전 증가, 변경 내역 기록, 오래된 내역 정리, 스냅샷 삭제를 한 번에 수행합니다.
+     * 버전 키가 없으면 내역을 비우고 전달받은 시작값으로 초기화합니다.
+     */
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('SET', KEYS[1], ARGV[3])
+                redis.call('DEL', KEYS[2])
+            end
+            local version = redis.call('INCR', KEYS[1])
+            redis.call('LPUSH', KEYS[2], version .. '|' .. ARGV[1])
+            redis.call('LTRIM', KEYS[2], 0, tonumber(ARGV[2]) - 1)
+            redis.call('DEL', KEYS[3])
+            return version
+            """, Long.class);
+
+    /**
+     * 버전을 올리고 변경 내역과 스냅샷을 모두 삭제합니다.
+     * 이전 버전을 가진 클라이언트는 변경 내역 대신 전체 목차를 받게 됩니다.
+     */
+    private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('SET', KEYS[1], ARGV[1])
+            end
+            local version = redis.call('INCR', KEYS[1])
+            redis.call('DEL', KEYS[2], KEYS[3])
+            return version
+            """, Long.class);
+
+    private final NovelRepository novelRepository;
+    private final EpisodeRepository episodeRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.episode.toc.local-max-size}")
+    private long localMaxSize;
+
+    @Value("${spring.episode.toc.local-ttl}")
+    private Duration localTtl;
+
+    @Value("${spring.episode.toc.change-log-size}")
+    private int changeLogSize;
+
+    @Value("${spring.episode.toc.snapshot-ttl}")
+    private Duration snapshotTtl;
+
+    private Cache<Long, EpisodeDto.TocResponse> localCache;
+
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterAccess(localTtl)
+                .build();
+    }
+
+
+    /**
+     * 목차의 현재 버전을 반환합니다. DB는 조회하지 않습니다.
+     *
+     * @param novelId 소설 고유번호
+     * @return 현재 버전, 아직 목차가 만들어진 적 없으면 null
+     */
+    public Long getVersion(Long novelId) {
+        String version = redisTemplate.opsForValue().get(RedisKeyUtil.episodeTocVersionKey(novelId));
+        return version == null ? null : Long.valueOf(version);
+    }
+
+
+    /**
+     * 소설의 전체 목차를 조회합니다.
+     * 서버 메모리 → Redis 순서로 현재 버전의 스냅샷을 찾고, 없으면 DB에서 다시 구성합니다.
+     *
+     * @param novelId 소설 고유번호
+     * @return 버전이 포함된 목차
+     * @throws CustomException 존재하지 않는 작품인 경우
+     */
+    public EpisodeDto.TocResponse getToc(Long novelId) {
+        long version = getOrInitVersion(novelId);
+
+        EpisodeDto.TocResponse local = localCache.getIfPresent(novelId);
+        if (local != null && local.getVersion() == version) {
+            return local;
+        }
+
+        EpisodeDto.TocResponse snapshot = readSnapshot(novelId);
+        if (snapshot == null || snapshot.getVersion() != version) {
+            snapshot = rebuild(novelId, version);
+        }
+
+        localCache.put(novelId, snapshot);
+        return snapshot;
+    }
+
+
+    /**
+     * 주어진 버전 이후의 목차 변경 내역을 조회합니다.
+     * 보관된 내역으로 이어붙일 수 없을 만큼 오래된 버전이면 전체 목차를 대신 반환합니다.
+     *
+     * @param novelId 소설 고유번호
+     * @param since   클라이언트가 가진 목차 버전
+     * @return 변경 내역 또는 전체 목차
+     * @throws CustomException 존재하지 않는 작품인 경우
+     */
+    public EpisodeDto.TocChangesResponse getChanges(Long novelId, long since) {
+        long version = getOrInitVersion(novelId);
+
+        if (since == version) {
+            return EpisodeDto.TocChangesResponse.builder()
+                    .version(version)
+                    .changes(List.of())
+                    .build();
+        }
+
+        List<EpisodeDto.TocChange> changes = since < version ? readChanges(novelId, since, version) : List.of();
+
+        if (changes.size() != version - since) {
+            log.debug("목차 변경 내역 부족, 전체 목차 반환 - novelId={}, since={}, version={}", novelId, since, version);
+            EpisodeDto.TocResponse toc = getToc(novelId);
+
+            return EpisodeDto.TocChangesResponse.builder()
+                    .version(toc.getVersion())
+                    .full(true)
+                    .changes(List.of())
+                    .episodes(toc.getEpisodes())
+                    .build();
+        }
+
+        return EpisodeDto.TocChangesResponse.builder()
+                .version(version)
+                .changes(changes)
+                .build();
+    }
+
+
+    /**
+     * 회차 등록/수정을 목차에 반영합니다. 트랜잭션 커밋 이후에 버전이 올라갑니다.
+     *
+     * @param novelId 소설 고유번호
+     * @param entry   등록 또는 수정된 회차의 목차 항목
+     */
+    public void recordUpsert(Long novelId, EpisodeDto.TocEntry entry) {
+        record(novelId, EpisodeDto.TocChange.builder()
+                .type(EpisodeDto.TocChange.ChangeType.UPSERT)
+                .episodeId(entry.getEpisodeId())
+                .episode(entry)
+                .build());
+    }
+
+
+    /**
+     * 회차 삭제를 목차에 반영합니다. 트랜잭션 커밋 이후에 버전이 올라갑니다.
+     *
+     * @param novelId   소설 고유번호
+     * @param episodeId 삭제된 회차 고유번호
+     */
+    public void recordDelete(Long novelId, Long episodeId) {
+        record(novelId, EpisodeDto.TocChange.builder()
+                .type(EpisodeDto.TocChange.ChangeType.DELETE)
+                .episodeId(episodeId)
+                .build());
+    }
+
+
+    /**
+     * 여러 회차가 한꺼번에 바뀐 경우 개별 변경 내역 대신 목차 전체를 다시 받도록 합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     *
+     * @param novelId 소설 고유번호
+     */
+    public void reset(Long novelId) {
+        TransactionUtil.afterCommit(() -> {
+            try {
+                Long version = redisTemplate.execute(
+                        RESET_SCRIPT,
+                        List.of(RedisKeyUtil.episodeTocVersionKey(novelId),
+                                RedisKeyUtil.episodeTocChangesKey(novelId),
+                                RedisKeyUtil.episodeTocKey(novelId)),
+                        String.valueOf(System.currentTimeMillis())
+                );
+
+                localCache.invalidate(novelId);
+                log.debug("목차 초기화 - novelId={}, version={}", novelId, version);
+            } catch (Exception e) {
+                log.error("목차 초기화 실패 - novelId={}", novelId, e);
+            }
+        });
+    }
+
+
+    private void record(Long novelId, EpisodeDto.TocChange change) {
+        TransactionUtil.afterCommit(() -> {
+            try {
+                Long version = redisTemplate.execute(
+                        BUMP_SCRIPT,
+                        List.of(RedisKeyUtil.episodeTocVersionKey(novelId),
+                                RedisKeyUtil.episodeTocChangesKey(novelId),
+                                RedisKeyUtil.episodeTocKey(novelId)),
+                        objectMapper.writeValueAsString(change),
+                        String.valueOf(changeLogSize),
+                        String.valueOf(System.currentTimeMillis())
+                );
+
+                localCache.invalidate(novelId);
+                log.debug("목차 버전 갱신 - novelId={}, version={}, type={}", novelId, version, change.getType());
+            } catch (Exception e) {
+                log.error("목차 버전 갱신 실패 - novelId={}", novelId, e);
+            }
+        });
+    }
+
+
+    /**
+     * 현재 버전을 반환하고, 버전 키가 없으면 작품 존재 여부를 확인한 뒤 현재 시각으로 초기화합니다.
+     */
+    private long getOrInitVersion(Long novelId) {
+        Long version = getVersion(novelId);
+        if (version != null) return version;
+
+        if (!novelRepository.existsByNovelId(novelId)) {
+            log.error("존재하지 않는 작품: {}", novelId);
+            throw new CustomException(NOVEL_NOT_FOUND);
+        }
+
+        String key = RedisKeyUtil.episodeTocVersionKey(novelId);
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+        return Long.parseLong(redisTemplate.opsForValue().get(key));
+    }
+
+
+    /**
+     * DB에서 목차를 다시 구성해 Redis에 저장합니다.
+     * 버전을 먼저 읽은 뒤 DB를 조회하므로, 스냅샷 내용은 항상 붙은 버전과 같거나 더 최신입니다.
+     */
+    private EpisodeDto.TocResponse rebuild(Long novelId, long version) {
+        List<EpisodeTitle> rows = episodeRepository.findTocByNovelId(novelId);
+
+        EpisodeDto.TocResponse toc = EpisodeDto.TocResponse.builder()
+                .version(version)
+                .episodes(rows.stream().map(EpisodeDto.TocEntry::from).toList())
+                .build();
+
+        try {
+            redisTemplate.opsForValue().set(
+                    RedisKeyUtil.episodeTocKey(novelId), objectMapper.writeValueAsString(toc), snapshotTtl);
+        } catch (Exception e) {
+            log.error("목차 스냅샷 저장 실패 - novelId={}", novelId, e);
+        }
+
+        log.debug("목차 재구성 완료 - novelId={}, version={}, 회차 수={}", novelId, version, rows.size());
+        return toc;
+    }
+
+
+    private EpisodeDto.TocResponse readSnapshot(Long novelId) {
+        try {
+            String json = redisTemplate.opsForValue().get(RedisKeyUtil.episodeTocKey(novelId));
+            return json == null ? null : objectMapper.readValue(json, EpisodeDto.TocResponse.class);
+        } catch (Exception e) {
+            log.error("목차 스냅샷 조회 실패 - novelId={}", novelId, e);
+            return null;
+        }
+    }
+
+
+    /**
+     * 보관된 변경 내역 중 (since, version] 구간을 버전 오름차순으로 반환합니다.
+     */
+    private List<EpisodeDto.TocChange> readChanges(Long novelId, long since, long version) {
+        List<String> values = redisTemplate.opsForList().range(RedisKeyUtil.episodeTocChangesKey(novelId), 0, -1);
+        if (values == null) return List.of();
+
+        List<EpisodeDto.TocChange> changes = new ArrayList<>();
+
+        for (String value : values) {
+            int separator = value.indexOf(CHANGE_SEPARATOR);
+            long changeVersion = Long.parseLong(value.substring(0, separator));
+            if (changeVersion <= since || changeVersion > version) continue;
+
+            try {
+                EpisodeDto.TocChange change = objectMapper.readValue(
+                        value.substring(separator + 1), EpisodeDto.TocChange.class);
+                changes.add(EpisodeDto.TocChange.builder()
+                        .version(changeVersion)
+                        .type(change.getType())
+                        .episodeId(change.getEpisodeId())
+                        .episode(change.getEpisode())
+                        .build());
+            } catch (Exception e) {
+                log.error("목차 변경 내역 해석 실패 - novelId={}, version={}", novelId, changeVersion, e);
+                return List.of();
+            }
+        }
+
+        changes.sort(Comparator.comparing(EpisodeDto.TocChange::getVersion));
+        return changes;
+    }
+}
@@ -3,17 +3,17 @@ package com.ian.novelviewer.episode.domain;
 import com.ian.novelviewer.common.base.BaseEntity;
 import com.ian.novelviewer.novel.domain.Novel;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
 @Entity
-@Table(name = "episodes")
+@Table(name = "episodes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_episodes_novel_id_episode_id", columnNames = {"novel_id", "episode_id"})
+})
 public class Episode extends BaseEntity {
 
     @Column(nullable = false)
@@ -22,18 +22,60 @@ public class Episode extends BaseEntity {
     @Column(nullable = false)
     private String title;
 
+    /**
+     * 압축 저장 이전의 본문 컬럼입니다. 압축 저장된 회차는 빈 문자열을 가집니다.
+     */
+    @Getter(AccessLevel.NONE)
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    /**
+     * 코덱 바이트가 붙은 본문 데이터입니다. ({@link EpisodeContentCodec})
+     */
+    @Column(columnDefinition = "LONGBLOB")
+    private byte[] contentData;
+
+    private Integer contentLength;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "novel_id", nullable = false)
     private Novel novel;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private String decodedContent;
+
+    @Builder
+    private Episode(Long episodeId, String title, String content, Novel novel) {
+        this.episodeId = episodeId;
+        this.title = title;
+        this.novel = novel;
+        changeContent(content);
+    }
+
+    /**
+     * 회차 본문을 반환합니다. 압축 저장된 본문은 처음 접근할 때 한 번만 복원합니다.
+     */
+    public String getContent() {
+        if (contentData == null) {
+            return content;
+        }
+
+        if (decodedContent == null) {
+            decodedContent = EpisodeContentCodec.decode(contentData);
+        }
+
+        return decodedContent;
+    }
+
     public void changeTitle(String title) {
         this.title = title;
     }
 
     public void changeContent(String content) {
-        this.content = content;
+        this.content = "";
+        this.contentData = EpisodeContentCodec.encode(content);
+        this.contentLength = content.length();
+        this.decodedContent = content;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package com.ian.novelviewer.episode.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회차 본문 전송용 프로젝션
+ * 압축 저장된 본문은 contentData에, 압축 저장 이전 회차의 본문은 content에 있습니다.
+ */
+public interface EpisodeBody {
+    byte[] getContentData();
+
+    String getContent();
+
+    LocalDateTime getUpdatedAt();
+}
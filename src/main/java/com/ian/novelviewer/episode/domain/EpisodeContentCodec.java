@@ -0,0 +1,117 @@
+package com.ian.novelviewer.episode.domain;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 회차 본문을 저장용 바이트 배열로 변환합니다.
+ * <p>
+ * 첫 바이트는 코덱을 나타내고, 나머지는 본문 데이터입니다.
+ * - {@link #RAW}: UTF-8 원문
+ * - {@link #GZIP}: UTF-8 원문을 gzip으로 압축한 값 (HTTP 응답에 그대로 실어 보낼 수 있는 형식)
+ * <p>
+ * 압축해도 크기가 줄지 않는 짧은 본문은 원문으로 저장합니다.
+ */
+public final class EpisodeContentCodec {
+
+    public static final byte RAW = 0;
+    public static final byte GZIP = 1;
+
+    private static final int HEADER_SIZE = 1;
+    private static final int MIN_COMPRESS_BYTES = 256;
+
+
+    /**
+     * 본문을 코덱 바이트가 붙은 저장 형식으로 변환합니다.
+     */
+    public static byte[] encode(String content) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+
+        if (raw.length >= MIN_COMPRESS_BYTES) {
+            byte[] compressed = gzip(raw);
+            if (compressed.length < raw.length) {
+                return withHeader(GZIP, compressed);
+            }
+        }
+
+        return withHeader(RAW, raw);
+    }
+
+
+    /**
+     * 저장 형식의 바이트 배열을 본문 문자열로 복원합니다.
+     */
+    public static String decode(byte[] data) {
+        return new String(decodeBytes(data), StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * 저장 형식의 바이트 배열을 UTF-8 본문 바이트로 복원합니다. 문자열로 변환하지 않습니다.
+     */
+    public static byte[] decodeBytes(byte[] data) {
+        byte[] payload = payload(data);
+
+        return switch (codec(data)) {
+            case RAW -> payload;
+            case GZIP -> gunzip(payload);
+            default -> throw new IllegalArgumentException("알 수 없는 본문 코덱: " + codec(data));
+        };
+    }
+
+
+    /**
+     * 저장 형식의 코덱 바이트를 반환합니다.
+     */
+    public static byte codec(byte[] data) {
+        return data[0];
+    }
+
+
+    /**
+     * 코덱 바이트를 제외한 본문 데이터를 반환합니다.
+     */
+    public static byte[] payload(byte[] data) {
+        return Arrays.copyOfRange(data, HEADER_SIZE, data.length);
+    }
+
+
+    private static byte[] withHeader(byte codec, byte[] payload) {
+        byte[] data = new byte[payload.length + HEADER_SIZE];
+        data[0] = codec;
+        System.arraycopy(payload, 0, data, HEADER_SIZE, payload.length);
+        return data;
+    }
+
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return out.toByteArray();
+    }
+
+
+    private static byte[] gunzip(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    private EpisodeContentCodec() {
+    }
+}
@@ -4,8 +4,11 @@ import com.ian.novelviewer.novel.domain.Novel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,8 +18,91 @@ public interface EpisodeRepository extends JpaRepository<Episode, Long> {
      */
     Page<Episode> findByNovel(Novel novel, Pageable pageable);
 
+    /**
+     * 소설 고유번호(novelId)로 회차 목록을 페이징하여 조회
+     * 소설 조회를 같은 쿼리의 조인으로 처리하며, 본문(content) 컬럼은 읽지 않음
+     */
+    @Query(value = """
+                select new com.ian.novelviewer.episode.domain.EpisodeTitle(
+                    e.id, e.episodeId, e.title, e.createdAt, e.contentLength)
+                from Episode e
+                join e.novel n
+                where n.novelId = :novelId
+            """,
+            countQuery = "select count(e) from Episode e join e.novel n where n.novelId = :novelId")
+    Page<EpisodeTitle> findTitlesByNovelId(Long novelId, Pageable pageable);
+
+    /**
+     * 목차 구성을 위해 소설의 전체 회차를 회차 번호 오름차순으로 조회
+     * 글자 수가 기록되지 않은 이전 회차만 본문 길이를 DB에서 계산
+     */
+    @Query("""
+                select new com.ian.novelviewer.episode.domain.EpisodeTitle(
+                    e.id, e.episodeId, e.title, e.createdAt, coalesce(e.contentLength, length(e.content)))
+                from Episode e
+                join e.novel n
+                where n.novelId = :novelId
+                order by e.episodeId
+            """)
+    List<EpisodeTitle> findTocByNovelId(Long novelId);
+
     /**
      * 주어진 소설 ID와 에피소드 ID에 해당하는 에피소드를 조회
      */
     Optional<Episode> findByEpisodeIdAndNovel_NovelId(Long NovelId, Long episodeId);
-}
\ No newline at end of file
+
+    /**
+     * 주어진 소설 ID와 에피소드 ID에 해당하는 에피소드의 id(PK)만 조회
+     */
+    @Query("""
+                select e.id
+                from Episode e
+                where e.novel.novelId = :novelId and e.episodeId = :episodeId
+            """)
+    Optional<Long> findIdByNovelIdAndEpisodeId(Long novelId, Long episodeId);
+
+    /**
+     * 주어진 소설 ID와 에피소드 ID에 해당하는 에피소드가 존재하는지 확인
+     */
+    boolean existsByEpisodeIdAndNovel_NovelId(Long episodeId, Long novelId);
+
+    /**
+     * 압축 저장 이전의 회차 본문을 id 오름차순으로 조회
+     */
+    @Query("""
+                select e.id as id, e.content as content
+                from Episode e
+                where e.contentData is null and e.id > :lastId
+                order by e.id
+            """)
+    List<LegacyEpisodeContent> findLegacyContentsAfter(Long lastId, Pageable pageable);
+
+    /**
+     * 회차 본문을 압축 저장 형식으로 변경
+     * 그 사이 본문이 수정되어 이미 압축 저장된 회차는 변경하지 않음
+     */
+    @Modifying
+    @Query("""
+                update Episode e
+                set e.contentData = :contentData, e.contentLength = :contentLength, e.content = ''
+                where e.id = :id and e.contentData is null
+            """)
+    int migrateContent(Long id, byte[] contentData, Integer contentLength);
+
+    /**
+     * 본문 전송을 위해 회차의 저장된 본문 데이터와 수정 시각만 조회
+     */
+    @Query("""
+                select e.contentData as contentData, e.content as content, e.updatedAt as updatedAt
+                from Episode e
+                join e.novel n
+                where n.novelId = :novelId and e.episodeId = :episodeId
+            """)
+    Optional<EpisodeBody> findBody(Long novelId, Long episodeId);
+
+    /**
+     * 소설(id)에 저장된 가장 큰 회차 번호를 조회 (회차가 없으면 0)
+     */
+    @Query("select coalesce(max(e.episodeId), 0) from Episode e where e.novel.id = :novelId")
+    long findMaxEpisodeId(Long novelId);
+}
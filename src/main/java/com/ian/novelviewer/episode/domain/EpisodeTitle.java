@@ -0,0 +1,16 @@
+package com.ian.novelviewer.episode.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회차 목록(목차) 조회용 프로젝션
+ * 본문(content) 컬럼은 조회하지 않습니다.
+ */
+public record EpisodeTitle(
+        Long id,
+        Long episodeId,
+        String title,
+        LocalDateTime createdAt,
+        Integer contentLength
+) {
+}
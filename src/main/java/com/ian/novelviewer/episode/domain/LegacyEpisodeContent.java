@@ -0,0 +1,10 @@
+package com.ian.novelviewer.episode.domain;
+
+/**
+ * 압축 저장 전환 대상 회차의 본문 프로젝션
+ */
+public interface LegacyEpisodeContent {
+    Long getId();
+
+    String getContent();
+}
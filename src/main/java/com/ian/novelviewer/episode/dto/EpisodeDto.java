@@ -1,12 +1,19 @@
 package com.ian.novelviewer.episode.dto;
 
 import com.ian.novelviewer.episode.domain.Episode;
+import com.ian.novelviewer.episode.domain.EpisodeBody;
+import com.ian.novelviewer.episode.domain.EpisodeContentCodec;
+import com.ian.novelviewer.episode.domain.EpisodeTitle;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
 public class EpisodeDto {
 
     @Getter
@@ -38,11 +45,13 @@ public class EpisodeDto {
     public static class EpisodeTitleResponse {
         private Long episodeId;
         private String title;
+        private LocalDateTime createdAt;
 
-        public static EpisodeTitleResponse from(Episode episode) {
+        public static EpisodeTitleResponse from(EpisodeTitle episode) {
             return EpisodeTitleResponse.builder()
-                    .episodeId(episode.getEpisodeId())
-                    .title(episode.getTitle())
+                    .episodeId(episode.episodeId())
+                    .title(episode.title())
+                    .createdAt(episode.createdAt())
                     .build();
         }
     }
@@ -61,6 +70,35 @@ public class EpisodeDto {
         }
     }
 
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class EpisodeBodyResponse {
+        private byte[] data;
+        private boolean gzipEncoded;
+        private LocalDateTime updatedAt;
+
+        /**
+         * 저장된 본문 데이터로 응답 본문을 만듭니다.
+         * 클라이언트가 gzip을 허용하고 본문이 gzip으로 저장되어 있으면 압축된 바이트를 그대로 사용합니다.
+         */
+        public static EpisodeBodyResponse from(EpisodeBody body, boolean acceptsGzip) {
+            byte[] stored = body.getContentData();
+            EpisodeBodyResponseBuilder builder = EpisodeBodyResponse.builder().updatedAt(body.getUpdatedAt());
+
+            if (stored == null) {
+                return builder.data(body.getContent().getBytes(StandardCharsets.UTF_8)).build();
+            }
+
+            if (acceptsGzip && EpisodeContentCodec.codec(stored) == EpisodeContentCodec.GZIP) {
+                return builder.data(EpisodeContentCodec.payload(stored)).gzipEncoded(true).build();
+            }
+
+            return builder.data(EpisodeContentCodec.decodeBytes(stored)).build();
+        }
+    }
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
@@ -78,4 +116,84 @@ public class EpisodeDto {
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TocEntry {
+        private Long episodeId;
+        private String title;
+        private LocalDateTime createdAt;
+        private Integer contentLength;
+
+        public static TocEntry from(EpisodeTitle episode) {
+            return TocEntry.builder()
+                    .episodeId(episode.episodeId())
+                    .title(episode.title())
+                    .createdAt(episode.createdAt())
+                    .contentLength(episode.contentLength())
+                    .build();
+        }
+
+        public static TocEntry from(Episode episode) {
+            return TocEntry.builder()
+                    .episodeId(episode.getEpisodeId())
+                    .title(episode.getTitle())
+                    .createdAt(episode.getCreatedAt())
+                    .contentLength(episode.getContentLength() != null
+                            ? episode.getContentLength() : episode.getContent().length())
+                    .build();
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TocResponse {
+        private Long version;
+        private List<TocEntry> episodes;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TocChange {
+        private Long version;
+        private ChangeType type;
+        private Long episodeId;
+        private TocEntry episode;
+
+        public enum ChangeType {
+            UPSERT, DELETE
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TocChangesResponse {
+        private Long version;
+        private boolean full;
+        private List<TocChange> changes;
+        private List<TocEntry> episodes;
+    }
+
+    public enum ImportStatus {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ImportResponse {
+        private String importId;
+        private ImportStatus status;
+        private long imported;
+        private Long failedLine;
+    }
+}
@@ -1,18 +1,31 @@
 package com.ian.novelviewer.episode.ui;
 
 import com.ian.novelviewer.common.security.CustomUserDetails;
+import com.ian.novelviewer.episode.application.EpisodeImportService;
 import com.ian.novelviewer.episode.application.EpisodeService;
+import com.ian.novelviewer.episode.application.EpisodeTocService;
 import com.ian.novelviewer.episode.dto.EpisodeDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+import java.util.Locale;
+
 @Slf4j
 @RestController
 @RequestMapping("/novels/{novelId}/episodes")
@@ -20,6 +33,8 @@ import org.springframework.web.bind.annotation.*;
 public class EpisodeController {
 
     private final EpisodeService episodeService;
+    private final EpisodeTocService episodeTocService;
+    private final EpisodeImportService episodeImportService;
 
 
     /**
@@ -47,6 +62,63 @@ public class EpisodeController {
     }
 
 
+    /**
+     * 소설의 전체 목차를 조회합니다.
+     * If-None-Match 헤더의 ETag가 현재 목차 버전과 같으면 DB 조회 없이 304를 반환합니다.
+     *
+     * @param novelId     소설 고유번호
+     * @param ifNoneMatch 클라이언트가 보관 중인 목차의 ETag
+     * @return 버전이 포함된 목차 또는 304 응답
+     */
+    @GetMapping("/toc")
+    public ResponseEntity<?> getToc(
+            @PathVariable Long novelId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        log.info("GET /novels/{}/episodes/toc - 목차 요청", novelId);
+
+        Long version = episodeTocService.getVersion(novelId);
+        if (version != null && matchesETag(ifNoneMatch, tocETag(novelId, version))) {
+            log.info("GET /novels/{}/episodes/toc - 목차 변경 없음 (version={})", novelId, version);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(tocETag(novelId, version))
+                    .build();
+        }
+
+        EpisodeDto.TocResponse response = episodeTocService.getToc(novelId);
+
+        log.info("GET /novels/{}/episodes/toc - 목차 응답 완료 (version={}, 총 {}건)",
+                novelId, response.getVersion(), response.getEpisodes().size());
+        return ResponseEntity.ok()
+                .eTag(tocETag(novelId, response.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .body(response);
+    }
+
+
+    /**
+     * 주어진 버전 이후의 목차 변경 내역을 조회합니다.
+     * 변경 내역이 보관 범위를 벗어난 경우 전체 목차를 반환합니다.
+     *
+     * @param novelId 소설 고유번호
+     * @param since   클라이언트가 보관 중인 목차 버전
+     * @return 목차 변경 내역 응답 DTO
+     */
+    @GetMapping("/toc/changes")
+    public ResponseEntity<?> getTocChanges(
+            @PathVariable Long novelId,
+            @RequestParam long since
+    ) {
+        log.info("GET /novels/{}/episodes/toc/changes - 목차 변경 내역 요청 (since={})", novelId, since);
+
+        EpisodeDto.TocChangesResponse response = episodeTocService.getChanges(novelId, since);
+
+        log.info("GET /novels/{}/episodes/toc/changes - 목차 변경 내역 응답 완료 (version={}, full={}, 변경 {}건)",
+                novelId, response.getVersion(), response.isFull(), response.getChanges().size());
+        return ResponseEntity.ok(response);
+    }
+
+
     /**
      * 소설에 새로운 회차를 등록합니다.
      * 작가 권한이 있는 사용자만 등록이 가능합니다.
@@ -75,6 +147,62 @@ public class EpisodeController {
     }
 
 
+    /**
+     * JSON Lines 형식으로 전달된 여러 회차를 한 번에 등록합니다.
+     * 작가 권한이 있는 사용자만 본인의 작품에 등록할 수 있습니다.
+     * importId를 지정하면 업로드 도중 진행 상황 조회 API로 진행률을 확인할 수 있습니다.
+     *
+     * @param novelId        소설 고유번호
+     * @param importId       가져오기 ID (선택)
+     * @param body           한 줄에 회차 하나({"title", "content"})인 요청 본문
+     * @param authentication 인증 객체 (작성자 정보 추출)
+     * @return 가져오기 결과 응답 DTO
+     */
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    @PreAuthorize("hasRole('AUTHOR')")
+    public ResponseEntity<?> importEpisodes(
+            @PathVariable Long novelId,
+            @RequestParam(required = false) String importId,
+            InputStream body,
+            Authentication authentication
+    ) {
+        String loginId = getLoginId(authentication);
+        log.info("POST /novels/{}/episodes/import - 회차 가져오기 요청 by {} (importId={})", novelId, loginId, importId);
+
+        EpisodeDto.ImportResponse response = episodeImportService.importEpisodes(novelId, importId, body, loginId);
+
+        log.info("POST /novels/{}/episodes/import - 회차 가져오기 완료 (importId={}, {}건)",
+                novelId, response.getImportId(), response.getImported());
+        return ResponseEntity.ok(response);
+    }
+
+
+    /**
+     * 회차 가져오기 진행 상황을 조회합니다.
+     *
+     * @param novelId        소설 고유번호
+     * @param importId       가져오기 ID
+     * @param authentication 인증 객체 (요청자 정보 추출)
+     * @return 가져오기 진행 상황 응답 DTO
+     */
+    @GetMapping("/import/{importId}")
+    @PreAuthorize("hasRole('AUTHOR')")
+    public ResponseEntity<?> getImportStatus(
+            @PathVariable Long novelId,
+            @PathVariable String importId,
+            Authentication authentication
+    ) {
+        String loginId = getLoginId(authentication);
+        log.info("GET /novels/{}/episodes/import/{} - 가져오기 진행 상황 요청 by {}", novelId, importId, loginId);
+
+        EpisodeDto.ImportResponse response = episodeImportService.getImportStatus(novelId, importId, loginId);
+
+        log.info("GET /novels/{}/episodes/import/{} - 가져오기 진행 상황 응답 (status={}, {}건)",
+                novelId, importId, response.getStatus(), response.getImported());
+        return ResponseEntity.ok(response);
+    }
+
+
     /**
      * 특정 회차의 전체 내용을 조회합니다.
      *
@@ -95,6 +223,43 @@ public class EpisodeController {
     }
 
 
+    /**
+     * 특정 회차의 본문을 text/plain으로 전송합니다.
+     * JSON으로 감싸지 않고 저장된 바이트를 그대로 보내며, Range 요청(206)과 ETag 조건부 요청을 지원합니다.
+     * 클라이언트가 gzip을 허용하면 압축 저장된 본문을 다시 압축하지 않고 그대로 전송합니다.
+     *
+     * @param novelId        소설 고유번호
+     * @param episodeId      회차 고유번호
+     * @param acceptEncoding 클라이언트의 Accept-Encoding 헤더
+     * @return 회차 본문
+     */
+    @GetMapping("/{episodeId}/body")
+    public ResponseEntity<Resource> getEpisodeBody(
+            @PathVariable Long novelId,
+            @PathVariable Long episodeId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        log.info("GET /novels/{}/episodes/{}/body - 회차 본문 요청", novelId, episodeId);
+
+        boolean acceptsGzip = acceptsGzip(acceptEncoding);
+        EpisodeDto.EpisodeBodyResponse response = episodeService.getEpisodeBody(novelId, episodeId, acceptsGzip);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .eTag(bodyETag(novelId, episodeId, response))
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (response.isGzipEncoded()) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        log.info("GET /novels/{}/episodes/{}/body - 회차 본문 응답 ({}B, gzip={})",
+                novelId, episodeId, response.getData().length, response.isGzipEncoded());
+        return builder.body(new ByteArrayResource(response.getData()));
+    }
+
+
     /**
      * 특정 회차의 정보를 수정합니다.
      * 작가 권한이 있는 사용자만 수정이 가능하며, 본인의 작품 및 회차만 수정이 가능합니다.
@@ -161,4 +326,74 @@ public class EpisodeController {
     private static String getLoginId(Authentication authentication) {
         return authentication.getName();
     }
+
+
+    /**
+     * 목차 버전으로 ETag 값을 만듭니다.
+     */
+    private static String tocETag(Long novelId, Long version) {
+        return "\"toc-" + novelId + "-" + version + "\"";
+    }
+
+
+    /**
+     * 회차 수정 시각과 압축 여부로 본문의 ETag 값을 만듭니다.
+     * 압축 여부에 따라 바이트가 달라지므로 Range 요청이 섞이지 않도록 ETag를 구분합니다.
+     */
+    private static String bodyETag(Long novelId, Long episodeId, EpisodeDto.EpisodeBodyResponse response) {
+        long updatedAt = response.getUpdatedAt() == null
+                ? 0L : response.getUpdatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        return "\"body-" + novelId + "-" + episodeId + "-" + updatedAt + (response.isGzipEncoded() ? "-gz" : "") + "\"";
+    }
+
+
+    /**
+     * Accept-Encoding 헤더에 gzip이 허용되어 있는지 확인합니다. (q=0은 거부로 처리)
+     * 모든 항목을 확인하며, gzip이 명시되어 있으면 {@code *}보다 우선합니다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+
+        Boolean gzip = null;
+        Boolean wildcard = null;
+
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            String coding = parts[0].trim();
+
+            if (coding.equalsIgnoreCase("gzip") && gzip == null) {
+                gzip = !isRejected(parts);
+            } else if (coding.equals("*") && wildcard == null) {
+                wildcard = !isRejected(parts);
+            }
+        }
+
+        if (gzip != null) return gzip;
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+
+    private static boolean isRejected(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].replace(" ", "").toLowerCase(Locale.ROOT);
+            if (parameter.startsWith("q=")) return parameter.matches("q=0(\\.0*)?");
+        }
+        return false;
+    }
+
+
+    /**
+     * If-None-Match 헤더에 주어진 ETag가 포함되어 있는지 확인합니다.
+     */
+    private static boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) return false;
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) value = value.substring(2);
+            if (value.equals("*") || value.equals(eTag)) return true;
+        }
+
+        return false;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,179 @@
+package com.ian.novelviewer.notification.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.notification.domain.EpisodeRelease;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 새 회차 알림을 북마크한 사용자들의 알림함에 비동기로 넣습니다. (push)
+ * <p>
+ * - 작업자 수와 대기열 크기가 고정된 실행기에서 처리하며, 대기열이 가득 차면 작업을 받지 않습니다.
+ *   호출 측은 이 경우 조회 시점 병합(pull)으로 전환해야 합니다.
+ * - 수신자는 소설별 북마크 사용자 역색인(SSCAN) 또는 {@code bookmarks} 테이블(id 키셋)에서 배치 단위로 읽고,
+ *   배치마다 파이프라인으로 알림함에 추가하므로 북마크 수와 관계없이 메모리 사용량이 배치 크기로 제한됩니다.
+ * - 알림함은 최근 알림 수와 보관 기간으로 제한합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationFanout {
+
+    private static final String SELECT_BOOKMARKERS_SQL = """
+            select id, user_id
+            from bookmarks
+            where novel_id = ? and id > ?
+            order by id
+            limit ?
+            """;
+
+    private final PullNovelRegistry pullNovelRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.bookmark.reverse-index.enabled}")
+    private boolean reverseIndexEnabled;
+
+    @Value("${spring.notification.fanout.workers}")
+    private int workers;
+
+    @Value("${spring.notification.fanout.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${spring.notification.fanout.batch-size}")
+    private int batchSize;
+
+    @Value("${spring.notification.inbox.max-size}")
+    private long inboxMaxSize;
+
+    @Value("${spring.notification.retention}")
+    private Duration retention;
+
+    private ThreadPoolExecutor executor;
+
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofVirtual().name("notification-fanout-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+
+    /**
+     * 알림 전송 작업을 대기열에 넣습니다.
+     *
+     * @param release 공개된 회차
+     * @return 대기열이 가득 차 받지 못했으면 false
+     */
+    public boolean submit(EpisodeRelease release) {
+        try {
+            executor.execute(() -> fanout(release));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+
+    private void fanout(EpisodeRelease release) {
+        long startedAt = System.currentTimeMillis();
+
+        try {
+            long delivered = reverseIndexEnabled ? fanoutFromReverseIndex(release) : fanoutFromDatabase(release);
+            log.debug("[NotificationFanout] 알림 전송 완료 - novelId={}, episodeId={}, 수신자={}명, 소요 시간={}ms",
+                    release.novelId(), release.episodeId(), delivered, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("[NotificationFanout] 알림 전송 실패 - 조회 시점 병합으로 전환 - novelId={}, episodeId={}",
+                    release.novelId(), release.episodeId(), e);
+            pullNovelRegistry.mark(release.novelId());
+        }
+    }
+
+
+    private long fanoutFromReverseIndex(EpisodeRelease release) {
+        ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+        List<String> userIds = new ArrayList<>(batchSize);
+        long delivered = 0;
+
+        try (Cursor<String> cursor = redisTemplate.opsForSet()
+                .scan(RedisKeyUtil.novelBookmarkersKey(release.novelId()), options)) {
+            while (cursor.hasNext()) {
+                userIds.add(cursor.next());
+
+                if (userIds.size() == batchSize) {
+                    delivered += deliver(release, userIds);
+                    userIds.clear();
+                }
+            }
+        }
+
+        return delivered + deliver(release, userIds);
+    }
+
+
+    private long fanoutFromDatabase(EpisodeRelease release) {
+        long lastId = 0;
+        long delivered = 0;
+
+        while (true) {
+            List<long[]> rows = jdbcTemplate.query(SELECT_BOOKMARKERS_SQL,
+                    (rs, rowNum) -> new long[]{rs.getLong("id"), rs.getLong("user_id")},
+                    release.novelId(), lastId, batchSize);
+
+            if (rows.isEmpty()) break;
+
+            delivered += deliver(release, rows.stream().map(row -> String.valueOf(row[1])).toList());
+            lastId = rows.get(rows.size() - 1)[0];
+
+            if (rows.size() < batchSize) break;
+        }
+
+        return delivered;
+    }
+
+
+    private int deliver(EpisodeRelease release, List<String> userIds) {
+        if (userIds.isEmpty()) return 0;
+
+        byte[] member = release.id().toString().getBytes(StandardCharsets.UTF_8);
+        double score = NotificationService.toMillis(release.releasedAt());
+        long ttlSeconds = retention.toSeconds();
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String userId : userIds) {
+                byte[] inboxKey = RedisKeyUtil.userInboxKey(Long.valueOf(userId)).getBytes(StandardCharsets.UTF_8);
+                connection.zSetCommands().zAdd(inboxKey, score, member);
+                connection.zSetCommands().zRemRange(inboxKey, 0, -(inboxMaxSize + 1));
+                connection.keyCommands().expire(inboxKey, ttlSeconds);
+            }
+            return null;
+        });
+        return userIds.size();
+    }
+}
@@ -0,0 +1,208 @@
+package com.ian.novelviewer.notification.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ian.novelviewer.common.exception.CustomException;
+import com.ian.novelviewer.common.paging.Cursor;
+import com.ian.novelviewer.common.paging.CursorResponse;
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.common.transaction.TransactionUtil;
+import com.ian.novelviewer.notification.domain.EpisodeRelease;
+import com.ian.novelviewer.notification.dto.NotificationDto;
+import com.ian.novelviewer.novel.application.BookmarkService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 새 회차 알림을 발행하고 사용자별 알림 목록을 조회합니다.
+ * <p>
+ * - 알림 내용은 회차마다 한 번만 저장하고, 소설별 공개 목록(최근 N건)에 회차 id를 추가합니다.
+ * - 북마크 수가 기준 이하인 소설은 {@link NotificationFanout}이 북마크한 사용자들의 알림함에 넣습니다. (push)
+ * - 기준을 넘는 소설은 알림함에 넣지 않고 조회 시점 병합 대상으로 표시합니다. (pull)
+ *   조회 시 사용자가 북마크한 병합 대상 소설의 공개 목록에서, 북마크 이후 공개된 회차를 알림함과 합쳐 최신순으로 반환합니다.
+ *   병합 대상 표시는 알림 보관 기간이 지나면 만료되므로, 북마크 수가 기준 아래로 돌아온 소설은 다시 push로만 전달됩니다.
+ * - 같은 회차가 두 경로로 모두 들어와도 회차 id로 한 번만 반환합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+
+    /**
+     * 커서와 같은 시각의 알림을 건너뛰고도 한 페이지를 채울 수 있도록 더 읽어오는 수
+     */
+    private static final int BOUNDARY_SLACK = 8;
+
+    private static final Comparator<Map.Entry<Long, Double>> NEWEST_FIRST =
+            Map.Entry.<Long, Double>comparingByValue()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey())
+                    .reversed();
+
+    private final BookmarkService bookmarkService;
+    private final NotificationFanout notificationFanout;
+    private final PullNovelRegistry pullNovelRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.notification.push-threshold}")
+    private long pushThreshold;
+
+    @Value("${spring.notification.release-feed.max-size}")
+    private long releaseFeedMaxSize;
+
+    @Value("${spring.notification.retention}")
+    private Duration retention;
+
+
+    /**
+     * 새 회차 알림을 발행합니다. 트랜잭션 커밋 이후에 반영되며, 실패해도 회차 등록에는 영향을 주지 않습니다.
+     *
+     * @param release 공개된 회차
+     */
+    public void publishEpisode(EpisodeRelease release) {
+        TransactionUtil.afterCommit(() -> {
+            try {
+                store(release);
+
+                long bookmarks = bookmarkService.getCount(release.novelId());
+                if (bookmarks > pushThreshold) {
+                    pullNovelRegistry.mark(release.novelId());
+                    log.debug("[NotificationService] 조회 시점 병합 - novelId={}, 북마크={}", release.novelId(), bookmarks);
+                    return;
+                }
+
+                if (!notificationFanout.submit(release)) {
+                    pullNovelRegistry.mark(release.novelId());
+                    log.warn("[NotificationService] 알림 전송 대기열 초과 - 조회 시점 병합으로 전환 - novelId={}", release.novelId());
+                }
+            } catch (Exception e) {
+                log.error("[NotificationService] 알림 발행 실패 - novelId={}, episodeId={}",
+                        release.novelId(), release.episodeId(), e);
+            }
+        });
+    }
+
+
+    /**
+     * 삭제된 회차의 알림 내용을 제거합니다. 알림함에 남은 회차 id는 조회 시 건너뜁니다.
+     *
+     * @param episodeId 회차 id(PK)
+     */
+    public void removeEpisode(Long episodeId) {
+        TransactionUtil.afterCommit(() -> redisTemplate.delete(RedisKeyUtil.notificationKey(episodeId)));
+    }
+
+
+    /**
+     * 사용자의 새 회차 알림을 최신순으로 커서 기반 조회합니다.
+     *
+     * @param userId 사용자 고유 ID
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size   페이지 크기
+     * @return 알림 목록과 다음 커서
+     * @throws CustomException 커서 형식이 올바르지 않은 경우
+     */
+    public CursorResponse<NotificationDto.NotificationResponse> getNotifications(Long userId, String cursor, int size) {
+        Cursor last = Cursor.decode(cursor);
+        double max = last == null ? Double.POSITIVE_INFINITY : toMillis(last.sortKey());
+        long limit = size + 1 + BOUNDARY_SLACK;
+
+        Map<Long, Double> candidates = new HashMap<>();
+        collect(candidates, RedisKeyUtil.userInboxKey(userId), Double.NEGATIVE_INFINITY, max, limit);
+
+        Map<Long, Long> pullNovels = pullNovelRegistry.findBookmarked(userId);
+        pullNovels.forEach((novelId, bookmarkedAt) ->
+                collect(candidates, RedisKeyUtil.novelReleasesKey(novelId), bookmarkedAt, max, limit));
+
+        List<Map.Entry<Long, Double>> ordered = candidates.entrySet().stream()
+                .filter(entry -> last == null || entry.getValue() < max || entry.getKey() < last.id())
+                .sorted(NEWEST_FIRST)
+                .limit(size + 1)
+                .toList();
+
+        boolean hasNext = ordered.size() > size;
+        List<Map.Entry<Long, Double>> page = hasNext ? ordered.subList(0, size) : ordered;
+
+        List<NotificationDto.NotificationResponse> content = load(page.stream().map(Map.Entry::getKey).toList()).stream()
+                .map(NotificationDto.NotificationResponse::from)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Map.Entry<Long, Double> tail = page.get(page.size() - 1);
+            nextCursor = new Cursor(toDateTime(tail.getValue()), tail.getKey()).encode();
+        }
+
+        log.debug("[NotificationService] 알림 조회 - userId={}, 병합 대상 소설={}개, 조회 수={}, hasNext={}",
+                userId, pullNovels.size(), content.size(), hasNext);
+
+        return CursorResponse.<NotificationDto.NotificationResponse>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+
+    private void store(EpisodeRelease release) throws Exception {
+        String releasesKey = RedisKeyUtil.novelReleasesKey(release.novelId());
+
+        redisTemplate.opsForValue().set(
+                RedisKeyUtil.notificationKey(release.id()), objectMapper.writeValueAsString(release), retention);
+        redisTemplate.opsForZSet().add(releasesKey, release.id().toString(), toMillis(release.releasedAt()));
+        redisTemplate.opsForZSet().removeRange(releasesKey, 0, -(releaseFeedMaxSize + 1));
+    }
+
+
+    private void collect(Map<Long, Double> candidates, String key, double min, double max, long limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeByScoreWithScores(key, min, max, 0, limit);
+        if (tuples == null) return;
+
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            candidates.put(Long.valueOf(tuple.getValue()), tuple.getScore());
+        }
+    }
+
+
+    /**
+     * 알림 내용을 한 번에 조회합니다. 삭제되었거나 보관 기간이 지난 알림은 건너뜁니다.
+     */
+    private List<EpisodeRelease> load(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+
+        List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(RedisKeyUtil::notificationKey).toList());
+        if (values == null) return List.of();
+
+        List<EpisodeRelease> releases = new ArrayList<>(values.size());
+        for (String json : values) {
+            if (json == null) continue;
+
+            try {
+                releases.add(objectMapper.readValue(json, EpisodeRelease.class));
+            } catch (Exception e) {
+                log.error("[NotificationService] 알림 역직렬화 실패 - json={}", json, e);
+            }
+        }
+        return releases;
+    }
+
+
+    static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+
+    private static LocalDateTime toDateTime(double millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli((long) millis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,127 @@
+package com.ian.novelviewer.notification.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.novel.application.BookmarkService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 조회 시점 병합(pull) 대상 소설을 관리합니다.
+ * <p>
+ * - 소설별로 만료 시각(마지막으로 pull로 공개된 시각 + 알림 보관 기간)을 점수로 둔 Sorted Set에 기록합니다.
+ *   이후 공개가 다시 push로 전달되면 기록이 갱신되지 않으므로, 보관 기간이 지나면 병합 대상에서 빠집니다.
+ * - 조회 시 만료된 소설을 먼저 정리하고, 사용자의 북마크와 병합 대상 중 작은 쪽을 기준으로 교집합을 구합니다.
+ * - 한 번에 병합하는 소설 수는 최근에 공개된 순으로 제한합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PullNovelRegistry {
+
+    private final BookmarkService bookmarkService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${spring.notification.retention}")
+    private Duration retention;
+
+    @Value("${spring.notification.pull.max-merged-novels}")
+    private int maxMergedNovels;
+
+
+    /**
+     * 소설을 병합 대상으로 표시하거나, 이미 표시되어 있으면 만료 시각을 연장합니다.
+     *
+     * @param novelId 소설 고유번호
+     */
+    public void mark(Long novelId) {
+        redisTemplate.opsForZSet().add(RedisKeyUtil.notificationPullNovelsKey(), novelId.toString(),
+                System.currentTimeMillis() + retention.toMillis());
+    }
+
+
+    /**
+     * 병합 대상 소설 중 사용자가 북마크한 소설과 북마크 시각을 최근 공개순으로 반환합니다.
+     *
+     * @param userId 사용자 고유 ID
+     * @return 소설 고유번호 → 북마크 시각(epoch millis), 최대 max-merged-novels개
+     */
+    public Map<Long, Long> findBookmarked(Long userId) {
+        String key = RedisKeyUtil.notificationPullNovelsKey();
+        long now = System.currentTimeMillis();
+
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        zSet.removeRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+
+        Long pullCount = zSet.zCard(key);
+        if (pullCount == null || pullCount == 0) return Map.of();
+
+        List<Candidate> candidates = bookmarkService.countByUser(userId) <= pullCount
+                ? fromBookmarks(userId, key)
+                : fromPullNovels(userId, key, now);
+
+        Map<Long, Long> bookmarked = new LinkedHashMap<>();
+        candidates.stream()
+                .sorted(Comparator.comparingDouble(Candidate::expiresAt).reversed())
+                .limit(maxMergedNovels)
+                .forEach(candidate -> bookmarked.put(candidate.novelId(), candidate.bookmarkedAt()));
+
+        if (candidates.size() > maxMergedNovels) {
+            log.debug("[PullNovelRegistry] 병합 대상 소설 수 제한 - userId={}, 대상={}개, 병합={}개",
+                    userId, candidates.size(), maxMergedNovels);
+        }
+        return bookmarked;
+    }
+
+
+    /**
+     * 사용자의 북마크가 더 적은 경우: 북마크한 소설들의 병합 대상 여부를 한 번에(ZMSCORE) 확인합니다.
+     */
+    private List<Candidate> fromBookmarks(Long userId, String key) {
+        Map<Long, Long> bookmarkedAt = bookmarkService.getAllBookmarkedAt(userId);
+        if (bookmarkedAt.isEmpty()) return List.of();
+
+        List<Long> novelIds = new ArrayList<>(bookmarkedAt.keySet());
+        List<Double> expiresAt = redisTemplate.opsForZSet()
+                .score(key, novelIds.stream().map(String::valueOf).toArray());
+        if (expiresAt == null) return List.of();
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (int i = 0; i < novelIds.size(); i++) {
+            if (expiresAt.get(i) == null) continue;
+            candidates.add(new Candidate(novelIds.get(i), bookmarkedAt.get(novelIds.get(i)), expiresAt.get(i)));
+        }
+        return candidates;
+    }
+
+
+    /**
+     * 병합 대상이 더 적은 경우: 병합 대상 소설들의 북마크 시각을 조회합니다.
+     */
+    private List<Candidate> fromPullNovels(Long userId, String key, long now) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().rangeByScoreWithScores(key, now, Double.POSITIVE_INFINITY);
+        if (tuples == null || tuples.isEmpty()) return List.of();
+
+        Map<Long, Double> expiresAt = new HashMap<>();
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            expiresAt.put(Long.valueOf(tuple.getValue()), tuple.getScore());
+        }
+
+        List<Candidate> candidates = new ArrayList<>();
+        bookmarkService.getBookmarkedAt(userId, new ArrayList<>(expiresAt.keySet()))
+                .forEach((novelId, bookmarkedAt) ->
+                        candidates.add(new Candidate(novelId, bookmarkedAt, expiresAt.get(novelId))));
+        return candidates;
+    }
+
+
+    private record Candidate(Long novelId, long bookmarkedAt, double expiresAt) {
+    }
+}
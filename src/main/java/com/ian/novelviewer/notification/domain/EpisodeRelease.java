@@ -0,0 +1,24 @@
+package com.ian.novelviewer.notification.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 새 회차 공개 알림입니다.
+ * 회차마다 한 번만 저장하고, 사용자 알함과 소설별 공개 목록에는 회차 id만 넣습니다.
+ *
+ * @param id           회차 id(PK), 알림 고유 ID로 사용
+ * @param novelId      소설 고유번호
+ * @param novelTitle   소설 제목
+ * @param episodeId    회차 고유번호
+ * @param episodeTitle 회차 제목
+ * @param releasedAt   공개 시각
+ */
+public record EpisodeRelease(
+        Long id,
+        Long novelId,
+        String novelTitle,
+        Long episodeId,
+        String episodeTitle,
+        LocalDateTime releasedAt
+) {
+}
@@ -0,0 +1,34 @@
+package com.ian.novelviewer.notification.dto;
+
+import com.ian.novelviewer.notification.domain.EpisodeRelease;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+public class NotificationDto {
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class NotificationResponse {
+        private Long novelId;
+        private String novel;
+        private Long episodeId;
+        private String episode;
+        private LocalDateTime releasedAt;
+
+        public static NotificationResponse from(EpisodeRelease release) {
+            return NotificationResponse.builder()
+                    .novelId(release.novelId())
+                    .novel(release.novelTitle())
+                    .episodeId(release.episodeId())
+                    .episode(release.episodeTitle())
+                    .releasedAt(release.releasedAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.ian.novelviewer.notification.ui;
+
+import com.ian.novelviewer.common.paging.CursorResponse;
+import com.ian.novelviewer.common.security.CustomUserDetails;
+import com.ian.novelviewer.notification.application.NotificationService;
+import com.ian.novelviewer.notification.dto.NotificationDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+
+    /**
+     * 북마크한 소설의 새 회차 알림을 최신순으로 커서 기반 조회합니다.
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어지는 목록을 조회합니다.
+     *
+     * @param cursor (선택) 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param size   페이지 크기 (기본값: 20)
+     * @param user   인증된 사용자 정보
+     * @return 알림 목록과 다음 커서
+     */
+    @GetMapping
+    public ResponseEntity<?> getNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        Long userId = user.getUserId();
+        log.info("GET /notifications - 알림 조회 요청 (userId={}, cursor={}, size={})", userId, cursor, size);
+
+        CursorResponse<NotificationDto.NotificationResponse> response =
+                notificationService.getNotifications(userId, cursor, size);
+
+        log.info("GET /notifications - 조회 완료 ({}건, hasNext={})", response.getContent().size(), response.isHasNext());
+        return ResponseEntity.ok(response);
+    }
+}
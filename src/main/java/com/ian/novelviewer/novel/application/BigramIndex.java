@@ -0,0 +1,282 @@
+package com.ian.novelviewer.novel.application;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 소설 제목과 작가명을 2-gram(바이그램) 단위로 색인하는 역색인입니다.
+ * 한글은 음절 단위로 잘라 색인하므로 형태소 분석 없이도 부분 일치 검색이 가능합니다.
+ * <p>
+ * - 포스팅 목록은 오름차순 정렬된 long 배열로 보관하며, 쓰기 시에는 배열을 새로 만들어 교체합니다.
+ * - 읽기는 잠금 없이 수행되고, 쓰기는 인스턴스 단위로 동기화됩니다.
+ * - 바이그램 교집합은 후보일 뿐이므로, 최종 결과는 원문 포함 여부로 한 번 더 검증합니다.
+ */
+class BigramIndex {
+
+    private static final int GRAM_SIZE = 2;
+
+    private final Map<String, long[]> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> documentsByAuthor = new ConcurrentHashMap<>();
+
+
+    /**
+     * 색인 대상 문서입니다. 제목과 작가명은 정규화된 형태로 보관합니다.
+     */
+    record Document(long id, Long authorId, String title, String authorName) {
+
+        static Document of(long id, String title, Long authorId, String authorName) {
+            return new Document(id, authorId, normalize(title), normalize(authorName));
+        }
+
+        boolean contains(String normalizedKeyword) {
+            return title.contains(normalizedKeyword) || authorName.contains(normalizedKeyword);
+        }
+    }
+
+
+    /**
+     * 문서를 색인에 추가하거나, 이미 있으면 변경된 내용으로 교체합니다.
+     */
+    synchronized void put(Document document) {
+        Document old = documents.get(document.id());
+        if (document.equals(old)) return;
+
+        if (old != null) {
+            detach(old);
+        }
+
+        for (String gram : grams(document)) {
+            postings.merge(gram, new long[]{document.id()}, BigramIndex::union);
+        }
+
+        attach(document);
+    }
+
+
+    /**
+     * 여러 문서를 한 번에 색인합니다.
+     * 그램별로 포스팅을 모은 뒤 기존 배열과 한 번만 병합하므로, 초기 적재 시 배열 복사 비용을 줄입니다.
+     */
+    synchronized void putAll(Collection<Document> batch) {
+        Map<String, List<Long>> collected = new HashMap<>();
+
+        for (Document document : batch) {
+            Document old = documents.get(document.id());
+            if (document.equals(old)) continue;
+
+            if (old != null) {
+                detach(old);
+            }
+
+            for (String gram : grams(document)) {
+                collected.computeIfAbsent(gram, key -> new ArrayList<>()).add(document.id());
+            }
+
+            attach(document);
+        }
+
+        collected.forEach((gram, ids) -> {
+            long[] added = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+            postings.merge(gram, added, BigramIndex::union);
+        });
+    }
+
+
+    /**
+     * 문서를 색인에서 제거합니다.
+     */
+    synchronized void remove(long id) {
+        Document old = documents.get(id);
+        if (old != null) {
+            detach(old);
+        }
+    }
+
+
+    /**
+     * 특정 작가가 작성한 문서의 id 목록을 반환합니다.
+     */
+    Set<Long> idsByAuthor(Long authorId) {
+        Set<Long> ids = documentsByAuthor.get(authorId);
+        return ids == null ? Set.of() : Set.copyOf(ids);
+    }
+
+
+    /**
+     * 제목 또는 작가명에 키워드가 포함된 문서 id를 최신순(id 내림차순)으로 반환합니다.
+     * 정규화된 키워드가 2글자 미만이면 그램을 만들 수 없으므로 전체 문서를 순회합니다.
+     */
+    long[] search(String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) return new long[0];
+
+        long[] candidates;
+
+        if (normalized.length() < GRAM_SIZE) {
+            candidates = documents.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        } else {
+            candidates = intersectPostings(normalized);
+        }
+
+        long[] matched = new long[candidates.length];
+        int count = 0;
+
+        for (int i = candidates.length - 1; i >= 0; i--) {
+            Document document = documents.get(candidates[i]);
+            if (document != null && document.contains(normalized)) {
+                matched[count++] = candidates[i];
+            }
+        }
+
+        return Arrays.copyOf(matched, count);
+    }
+
+
+    int size() {
+        return documents.size();
+    }
+
+
+    /**
+     * 키워드의 모든 그램에 대한 포스팅을 짧은 순서대로 교집합합니다.
+     */
+    private long[] intersectPostings(String normalizedKeyword) {
+        List<long[]> lists = new ArrayList<>();
+
+        for (String gram : gramsOf(normalizedKeyword, new HashSet<>())) {
+            long[] list = postings.get(gram);
+            if (list == null) return new long[0];
+            lists.add(list);
+        }
+
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        long[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+
+        return result;
+    }
+
+
+    private void attach(Document document) {
+        documents.put(document.id(), document);
+
+        if (document.authorId() != null) {
+            documentsByAuthor
+                    .computeIfAbsent(document.authorId(), key -> ConcurrentHashMap.newKeySet())
+                    .add(document.id());
+        }
+    }
+
+
+    private void detach(Document document) {
+        for (String gram : grams(document)) {
+            postings.computeIfPresent(gram, (key, list) -> {
+                long[] removed = without(list, document.id());
+                return removed.length == 0 ? null : removed;
+            });
+        }
+
+        documents.remove(document.id());
+
+        if (document.authorId() != null) {
+            documentsByAuthor.computeIfPresent(document.authorId(), (key, ids) -> {
+                ids.remove(document.id());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+
+    private static Set<String> grams(Document document) {
+        Set<String> grams = new HashSet<>();
+        gramsOf(document.title(), grams);
+        gramsOf(document.authorName(), grams);
+        return grams;
+    }
+
+
+    private static Set<String> gramsOf(String text, Set<String> grams) {
+        if (text.length() < GRAM_SIZE) {
+            if (!text.isEmpty()) grams.add(text);
+            return grams;
+        }
+
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+
+        return grams;
+    }
+
+
+    /**
+     * 검색어와 색인 문서를 같은 기준으로 비교할 수 있도록 정규화합니다.
+     * NFC로 합성해 자모가 분리된 한글을 음절로 맞추고, 소문자 변환 후 공백을 제거합니다.
+     */
+    static String normalize(String text) {
+        if (text == null) return "";
+
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(composed.length());
+
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (!Character.isWhitespace(c)) sb.append(c);
+        }
+
+        return sb.toString();
+    }
+
+
+    private static long[] union(long[] a, long[] b) {
+        long[] merged = new long[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) merged[k++] = a[i++];
+            else if (a[i] > b[j]) merged[k++] = b[j++];
+            else {
+                merged[k++] = a[i++];
+                j++;
+            }
+        }
+
+        while (i < a.length) merged[k++] = a[i++];
+        while (j < b.length) merged[k++] = b[j++];
+
+        return k == merged.length ? merged : Arrays.copyOf(merged, k);
+    }
+
+
+    private static long[] intersect(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                result[k++] = a[i++];
+                j++;
+            }
+        }
+
+        return Arrays.copyOf(result, k);
+    }
+
+
+    private static long[] without(long[] list, long id) {
+        int index = Arrays.binarySearch(list, id);
+        if (index < 0) return list;
+
+        long[] removed = new long[list.length - 1];
+        System.arraycopy(list, 0, removed, 0, index);
+        System.arraycopy(list, index + 1, removed, index, list.length - index - 1);
+        return removed;
+    }
+}
@@ -0,0 +1,190 @@
+package com.ian.novelviewer.novel.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.novel.domain.Category;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 소설별 북마크 수와 역색인을 MySQL의 {@code bookmarks} 테이블 기준으로 채웁니다.
+ * <p>
+ * - 북마크 집계는 북마크 스크립트가 실시간으로 갱신하므로, 이 작업은 집계 도입 이전의 북마크와 Redis 유실 후의 복원을 위한 것입니다.
+ * - 완료 표시는 Redis에 남기므로 Redis가 비워지면 다음 확인에서 다시 채웁니다.
+ *   TTL이 있는 진행 중 표시로 먼저 선점하여 한 서버만 실행합니다.
+ * - 집계는 임시 키에 채운 뒤 ZUNIONSTORE(AGGREGATE MAX)로 실시간 집계와 합칩니다.
+ *   채우는 동안 스크립트가 올린 집계를 MySQL의 늦은 값으로 덮어쓰지 않으며, 합치기는 원자적이므로 그 사이의 증감도 잃지 않습니다.
+ * - MySQL은 write-behind 주기만큼 늦으므로, 반영되지 않은 북마크 삭제는 큰 값을 택하는 과정에서 빠질 수 있습니다.
+ *   인기 지표 용도로는 허용하며, 완료 표시를 삭제하면 다시 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.bookmark.counter.seed.enabled", havingValue = "true")
+public class BookmarkCounterSeedJob {
+
+    private static final String LOADING = "loading";
+    private static final String DONE = "done";
+
+    private static final String COUNT_SQL = """
+            select b.novel_id, n.category, count(*) as bookmark_count
+            from bookmarks b
+            join novels n on n.novel_id = b.novel_id
+            group by b.novel_id, n.category
+            """;
+
+    private static final String SELECT_SQL = """
+            select id, user_id, novel_id
+            from bookmarks
+            where id > ?
+            order by id
+            limit ?
+            """;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.bookmark.reverse-index.enabled}")
+    private boolean reverseIndexEnabled;
+
+    @Value("${spring.bookmark.counter.seed.batch-size}")
+    private int batchSize;
+
+    @Value("${spring.bookmark.counter.seed.lock-ttl}")
+    private Duration lockTtl;
+
+
+    @Scheduled(fixedDelayString = "${spring.bookmark.counter.seed.interval-ms}")
+    public void run() {
+        String markerKey = RedisKeyUtil.novelBookmarkCountSeededKey();
+
+        try {
+            if (DONE.equals(redisTemplate.opsForValue().get(markerKey))) return;
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(markerKey, LOADING, lockTtl))) return;
+        } catch (Exception e) {
+            log.error("[BookmarkCounterSeed] 집계 여부 확인 실패", e);
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            long novels = seedCounts();
+            long members = reverseIndexEnabled ? seedReverseIndex() : 0;
+
+            redisTemplate.opsForValue().set(markerKey, DONE);
+            log.info("[BookmarkCounterSeed] 북마크 집계 완료 - 소설={}건, 역색인={}건, 소요 시간={}ms",
+                    novels, members, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("[BookmarkCounterSeed] 북마크 집계 실패 - 다음 실행에서 재시도", e);
+            redisTemplate.delete(markerKey);
+        }
+    }
+
+
+    private long seedCounts() {
+        List<String> counterKeys = counterKeys();
+        redisTemplate.delete(counterKeys.stream().map(RedisKeyUtil::novelBookmarkSeedingKey).toList());
+
+        byte[] countKey = bytes(RedisKeyUtil.novelBookmarkSeedingKey(RedisKeyUtil.novelBookmarkCountKey()));
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        long[] seeded = {0};
+
+        jdbcTemplate.query(COUNT_SQL, rs -> {
+            rows.add(new Object[]{rs.getLong("novel_id"), rs.getString("category"), rs.getLong("bookmark_count")});
+
+            if (rows.size() == batchSize) {
+                seeded[0] += writeCounts(countKey, rows);
+                rows.clear();
+            }
+        });
+
+        seeded[0] += writeCounts(countKey, rows);
+        mergeCounts(counterKeys);
+        return seeded[0];
+    }
+
+
+    private int writeCounts(byte[] countKey, List<Object[]> rows) {
+        if (rows.isEmpty()) return 0;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Object[] row : rows) {
+                byte[] member = bytes(row[0].toString());
+                double count = ((Long) row[2]).doubleValue();
+                String rankingKey = RedisKeyUtil.novelBookmarkRankingKey((String) row[1]);
+
+                connection.zSetCommands().zAdd(countKey, count, member);
+                connection.zSetCommands().zAdd(bytes(RedisKeyUtil.novelBookmarkSeedingKey(rankingKey)), count, member);
+            }
+            return null;
+        });
+        return rows.size();
+    }
+
+
+    /**
+     * 임시 키에 채운 집계를 실시간 집계와 소설별로 큰 값을 택해 합치고 임시 키를 삭제합니다.
+     */
+    private void mergeCounts(List<String> counterKeys) {
+        for (String counterKey : counterKeys) {
+            String seedingKey = RedisKeyUtil.novelBookmarkSeedingKey(counterKey);
+            redisTemplate.opsForZSet().unionAndStore(counterKey, List.of(seedingKey), counterKey, Aggregate.MAX);
+            redisTemplate.delete(seedingKey);
+        }
+    }
+
+
+    private static List<String> counterKeys() {
+        return Stream.concat(
+                Stream.of(RedisKeyUtil.novelBookmarkCountKey()),
+                Arrays.stream(Category.values()).map(category -> RedisKeyUtil.novelBookmarkRankingKey(category.name()))
+        ).toList();
+    }
+
+
+    private long seedReverseIndex() {
+        long lastId = 0;
+        long seeded = 0;
+
+        while (true) {
+            List<long[]> rows = jdbcTemplate.query(SELECT_SQL,
+                    (rs, rowNum) -> new long[]{rs.getLong("id"), rs.getLong("user_id"), rs.getLong("novel_id")},
+                    lastId, batchSize);
+
+            if (rows.isEmpty()) break;
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (long[] row : rows) {
+                    connection.setCommands().sAdd(bytes(RedisKeyUtil.novelBookmarkersKey(row[2])), bytes(String.valueOf(row[1])));
+                }
+                return null;
+            });
+
+            seeded += rows.size();
+            lastId = rows.get(rows.size() - 1)[0];
+
+            if (rows.size() < batchSize) break;
+        }
+
+        return seeded;
+    }
+
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
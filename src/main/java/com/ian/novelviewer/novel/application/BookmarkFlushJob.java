@@ -0,0 +1,107 @@
+package com.ian.novelviewer.novel.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis의 북마크 변경을 주기적으로 MySQL의 {@code bookmarks} 테이블에 반영합니다. (write-behind)
+ * <p>
+ * - 북마크 스크립트가 변경된 (사용자, 소설)을 대기 집합에 넣고, 이 작업이 SPOP으로 꺼내 배치 단위로 반영합니다.
+ * - 반영 시점의 Redis 상태(북마크 여부와 시각)를 그대로 기록하므로, 그 사이 북마크/해제를 여러 번 반복해도 한 번만 기록됩니다.
+ * - SPOP은 원자적이므로 여러 서버에서 동시에 실행되어도 같은 북마크를 중복 처리하지 않습니다.
+ * - DB 반영에 실패하면 꺼낸 멤버를 대기 집합에 되돌려 다음 실행에서 다시 시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.bookmark.flush.enabled", havingValue = "true")
+public class BookmarkFlushJob {
+
+    private static final String UPSERT_SQL = """
+            insert into bookmarks (user_id, novel_id, created_at)
+            values (?, ?, ?)
+            on duplicate key update created_at = values(created_at)
+            """;
+
+    private static final String DELETE_SQL = "delete from bookmarks where user_id = ? and novel_id = ?";
+
+    private final BookmarkService bookmarkService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.bookmark.flush.batch-size}")
+    private int batchSize;
+
+
+    @Scheduled(fixedDelayString = "${spring.bookmark.flush.interval-ms}")
+    public void run() {
+        String dirtyKey = RedisKeyUtil.bookmarkDirtyKey();
+        long flushed = 0;
+
+        while (true) {
+            List<String> popped;
+            try {
+                popped = redisTemplate.opsForSet().pop(dirtyKey, batchSize);
+            } catch (Exception e) {
+                log.error("[BookmarkFlush] 반영 대기 북마크 조회 실패", e);
+                return;
+            }
+
+            if (popped == null || popped.isEmpty()) break;
+
+            try {
+                flushed += flush(popped);
+            } catch (Exception e) {
+                log.error("[BookmarkFlush] 북마크 반영 실패 - {}건 재시도 예정", popped.size(), e);
+                redisTemplate.opsForSet().add(dirtyKey, popped.toArray(String[]::new));
+                return;
+            }
+
+            if (popped.size() < batchSize) break;
+        }
+
+        if (flushed > 0) {
+            log.debug("[BookmarkFlush] 북마크 반영 완료 - {}건", flushed);
+        }
+    }
+
+
+    private int flush(List<String> members) {
+        Map<String, Long> bookmarkedAt = bookmarkService.getBookmarkedAt(members);
+
+        List<Object[]> upserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+
+        for (String member : members) {
+            Long userId = RedisKeyUtil.userIdFromBookmarkDirtyMember(member);
+            Long novelId = RedisKeyUtil.novelIdFromBookmarkDirtyMember(member);
+            Long millis = bookmarkedAt.get(member);
+
+            if (millis == null) {
+                deletes.add(new Object[]{userId, novelId});
+            } else {
+                upserts.add(new Object[]{userId, novelId, new Timestamp(millis)});
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!upserts.isEmpty()) jdbcTemplate.batchUpdate(UPSERT_SQL, upserts);
+            if (!deletes.isEmpty()) jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+        });
+        return members.size();
+    }
+}
@@ -0,0 +1,97 @@
+package com.ian.novelviewer.novel.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 Set으로 남아 있는 사용자 북마크를 Sorted Set으로 옮깁니다.
+ * <p>
+ * - SCAN으로 기존 북마크 키를 훑으며, 옮기는 작업은 {@link BookmarkService}의 Lua 스크립트가 원자적으로 수행합니다.
+ * - 북마크 조회/변경 시에도 같은 스크립트로 옮겨지므로, 이 작업은 한동안 접속하지 않은 사용자의 북마크를 정리하는 용도입니다.
+ * - 전환이 끝나면 Sorted Set을 한 번 더 훑어, {@code bookmarks} 테이블 도입 이전의 북마크를 MySQL 반영 대기 집합에 넣습니다.
+ *   이 작업은 Redis에 완료 표시를 남겨 재기동 시 반복하지 않습니다.
+ * - 한 번 전체를 훑고 나면 더 이상 실행하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.bookmark.migration.enabled", havingValue = "true")
+public class BookmarkMigrationJob {
+
+    private static final long SCAN_COUNT = 1000;
+
+    private final BookmarkService bookmarkService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private volatile boolean completed = false;
+
+
+    @Scheduled(fixedDelayString = "${spring.bookmark.migration.interval-ms}")
+    public void run() {
+        if (completed) return;
+
+        long scanned = 0;
+        long migrated = 0;
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(RedisKeyUtil.userBookmarkKeyPattern())
+                .count(SCAN_COUNT)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                scanned++;
+                if (bookmarkService.migrate(RedisKeyUtil.userIdFromBookmarkKey(cursor.next()))) {
+                    migrated++;
+                }
+            }
+
+            log.info("[BookmarkMigration] 북마크 Sorted Set 전환 완료 - 검사={}건, 전환={}건", scanned, migrated);
+        } catch (Exception e) {
+            log.error("[BookmarkMigration] 북마크 Sorted Set 전환 실패 - 검사={}건, 전환={}건", scanned, migrated, e);
+            return;
+        }
+
+        if (backfill()) {
+            completed = true;
+        }
+    }
+
+
+    /**
+     * 모든 사용자의 북마크를 MySQL 반영 대기 집합에 넣습니다.
+     *
+     * @return 완료되었거나 이미 완료되어 있으면 true
+     */
+    private boolean backfill() {
+        String backfilledKey = RedisKeyUtil.bookmarkBackfilledKey();
+        long users = 0;
+        long marked = 0;
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(RedisKeyUtil.userBookmarksKeyPattern())
+                .count(SCAN_COUNT)
+                .build();
+
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(backfilledKey))) return true;
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                users++;
+                marked += bookmarkService.markAllDirty(RedisKeyUtil.userIdFromBookmarkKey(cursor.next()));
+            }
+
+            redisTemplate.opsForValue().set(backfilledKey, String.valueOf(System.currentTimeMillis()));
+            log.info("[BookmarkMigration] 북마크 MySQL 백필 요청 완료 - 사용자={}명, 북마크={}건", users, marked);
+            return true;
+        } catch (Exception e) {
+            log.error("[BookmarkMigration] 북마크 MySQL 백필 요청 실패 - 사용자={}명, 북마크={}건", users, marked, e);
+            return false;
+        }
+    }
+}
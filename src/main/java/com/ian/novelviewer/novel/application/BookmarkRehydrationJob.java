@@ -0,0 +1,138 @@
+package com.ian.novelviewer.novel.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Redis의 북마크가 유실되었을 때 MySQL의 {@code bookmarks} 테이블로 다시 채웁니다.
+ * <p>
+ * - 복원이 끝나면 Redis에 완료 표시를 남기고, 주기적으로 이 표시만 확인합니다.
+ *   Redis가 비워지면 표시도 함께 사라지므로, 기동 직후뿐 아니라 운영 중 Redis 유실도 다음 확인에서 복원합니다.
+ * - 완료 표시를 TTL이 있는 진행 중 표시로 먼저 선점하여 한 서버만 복원하고, 복원 중 종료되면 TTL 이후 다른 서버가 이어서 복원합니다.
+ * - id 범위를 병렬 수만큼 나누어 가상 스레드에서 동시에 읽고, 배치마다 Lua 스크립트 한 번으로 Redis에 넣습니다.
+ * - 이미 있는 북마크와 반영 대기 중인 북마크는 Redis 쪽이 최신이므로 덮어쓰지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.bookmark.rehydrate.enabled", havingValue = "true")
+public class BookmarkRehydrationJob {
+
+    private static final String LOADING = "loading";
+    private static final String DONE = "done";
+
+    private static final String ID_RANGE_SQL = "select min(id) as min_id, max(id) as max_id from bookmarks";
+
+    private static final String SELECT_SQL = """
+            select id, user_id, novel_id, created_at
+            from bookmarks
+            where id > ? and id <= ?
+            order by id
+            limit ?
+            """;
+
+    private final BookmarkService bookmarkService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.bookmark.rehydrate.parallelism}")
+    private int parallelism;
+
+    @Value("${spring.bookmark.rehydrate.batch-size}")
+    private int batchSize;
+
+    @Value("${spring.bookmark.rehydrate.lock-ttl}")
+    private Duration lockTtl;
+
+
+    @Scheduled(fixedDelayString = "${spring.bookmark.rehydrate.interval-ms}")
+    public void run() {
+        String markerKey = RedisKeyUtil.bookmarkHydratedKey();
+
+        try {
+            if (DONE.equals(redisTemplate.opsForValue().get(markerKey))) return;
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(markerKey, LOADING, lockTtl))) return;
+        } catch (Exception e) {
+            log.error("[BookmarkRehydration] 복원 여부 확인 실패", e);
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            long restored = rehydrate();
+            redisTemplate.opsForValue().set(markerKey, DONE);
+            log.info("[BookmarkRehydration] 북마크 복원 완료 - 복원={}건, 소요 시간={}ms",
+                    restored, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("[BookmarkRehydration] 북마크 복원 실패 - 다음 실행에서 재시도", e);
+            redisTemplate.delete(markerKey);
+        }
+    }
+
+
+    private long rehydrate() {
+        Map<String, Object> range = jdbcTemplate.queryForMap(ID_RANGE_SQL);
+        if (range.get("min_id") == null) return 0;
+
+        long minId = ((Number) range.get("min_id")).longValue() - 1;
+        long maxId = ((Number) range.get("max_id")).longValue();
+        long span = (maxId - minId + parallelism - 1) / parallelism;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<Long>> futures = new ArrayList<>(parallelism);
+
+            for (long from = minId; from < maxId; from += span) {
+                long lastId = from;
+                long toId = Math.min(from + span, maxId);
+                futures.add(CompletableFuture.supplyAsync(() -> rehydrateRange(lastId, toId), executor));
+            }
+
+            return futures.stream().mapToLong(CompletableFuture::join).sum();
+        }
+    }
+
+
+    /**
+     * (fromId, toId] 범위의 북마크를 id 순으로 배치 단위로 읽어 Redis에 복원합니다.
+     */
+    private long rehydrateRange(long fromId, long toId) {
+        long lastId = fromId;
+        long restored = 0;
+
+        while (true) {
+            List<Long> ids = new ArrayList<>(batchSize);
+            List<BookmarkService.BookmarkEntry> entries = new ArrayList<>(batchSize);
+
+            jdbcTemplate.query(SELECT_SQL, rs -> {
+                ids.add(rs.getLong("id"));
+                entries.add(new BookmarkService.BookmarkEntry(
+                        rs.getLong("user_id"), rs.getLong("novel_id"), rs.getTimestamp("created_at").getTime()));
+            }, lastId, toId, batchSize);
+
+            if (entries.isEmpty()) break;
+
+            restored += bookmarkService.restore(entries);
+            lastId = ids.get(ids.size() - 1);
+
+            if (entries.size() < batchSize) break;
+        }
+
+        log.debug("[BookmarkRehydration] 구간 복원 완료 - id=({}, {}], 복원={}건", fromId, toId, restored);
+        return restored;
+    }
+}
@@ -0,0 +1,501 @@
+package com.ian.novelviewer.novel.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.novel.domain.Category;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 사용자별 북마크를 북마크 시각을 점수로 하는 Redis Sorted Set에 보관합니다.
+ * <p>
+ * - 목록은 ZREVRANGE로 요청한 페이지의 소설 고유번호만 최신순으로 꺼내므로, 북마크 수와 관계없이 페이지 크기만큼만 전송합니다.
+ * - 기존 Set({@code user:{id}:bookmark})이 남아 있으면 모든 스크립트가 먼저 Sorted Set으로 옮긴 뒤 처리합니다.
+ *   기존 북마크는 북마크 시각을 알 수 없으므로 옮긴 시각을 점수로 사용합니다.
+ * - 북마크가 실제로 추가/삭제되면 같은 스크립트에서 (사용자, 소설)을 반영 대기 집합에 넣고,
+ *   {@link BookmarkFlushJob}이 MySQL의 {@code bookmarks} 테이블에 반영합니다.
+ * - 같은 스크립트에서 소설별 북마크 수(전체/카테고리별 Sorted Set)와, 설정 시 소설별 북마크 사용자 집합(역색인)을 함께 갱신합니다.
+ *   기존 Set에서 옮겨진 북마크는 카테고리를 알 수 없어 집계하지 않으며, {@link BookmarkCounterSeedJob}이 MySQL 기준으로 보정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookmarkService {
+
+    /**
+     * 기존 Set의 멤버를 옮긴 시각으로 Sorted Set에 추가하고 기존 Set을 삭제합니다. 옮긴 북마크도 반영 대기 집합에 넣습니다.
+     */
+    private static final String MIGRATE_LUA = """
+            local function migrate(legacyKey, key, dirtyKey, now, dirtyPrefix)
+                if redis.call('EXISTS', legacyKey) == 0 then return 0 end
+                local members = redis.call('SMEMBERS', legacyKey)
+                for _, member in ipairs(members) do
+                    if redis.call('ZADD', key, 'NX', now, member) == 1 then
+                        redis.call('SADD', dirtyKey, dirtyPrefix .. member)
+                    end
+                end
+                redis.call('DEL', legacyKey)
+                return 1
+            end
+            """;
+
+    /**
+     * KEYS: 기존 Set, Sorted Set, 반영 대기 집합 / ARGV: 현재 시각, 반영 대기 멤버 접두사
+     */
+    private static final RedisScript<Long> MIGRATE_SCRIPT = new DefaultRedisScript<>(MIGRATE_LUA + """
+            return migrate(KEYS[1], KEYS[2], KEYS[3], ARGV[1], ARGV[2])
+            """, Long.class);
+
+    /**
+     * KEYS[4~6]: 전체 북마크 수, 카테고리별 북마크 수, 소설별 북마크 사용자
+     * ARGV[3~5]: 소설 고유번호, 사용자 고유 ID, 역색인 사용 여부 / 새로 추가되면 1
+     */
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(MIGRATE_LUA + """
+            migrate(KEYS[1], KEYS[2], KEYS[3], ARGV[1], ARGV[2])
+            local added = redis.call('ZADD', KEYS[2], 'NX', ARGV[1], ARGV[3])
+            if added == 1 then
+                redis.call('SADD', KEYS[3], ARGV[2] .. ARGV[3])
+                redis.call('ZINCRBY', KEYS[4], 1, ARGV[3])
+                redis.call('ZINCRBY', KEYS[5], 1, ARGV[3])
+                if ARGV[5] == '1' then redis.call('SADD', KEYS[6], ARGV[4]) end
+            end
+            return added
+            """, Long.class);
+
+    /**
+     * KEYS, ARGV: {@link #ADD_SCRIPT}와 같음 / 삭제되면 1
+     * <p>
+     * 보정 전에 유실된 집계가 음수가 되지 않도록, 집계가 있을 때만 감소시킵니다.
+     */
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(MIGRATE_LUA + """
+            migrate(KEYS[1], KEYS[2], KEYS[3], ARGV[1], ARGV[2])
+            local removed = redis.call('ZREM', KEYS[2], ARGV[3])
+            if removed == 1 then
+                redis.call('SADD', KEYS[3], ARGV[2] .. ARGV[3])
+                if redis.call('ZSCORE', KEYS[4], ARGV[3]) then redis.call('ZINCRBY', KEYS[4], -1, ARGV[3]) end
+                if redis.call('ZSCORE', KEYS[5], ARGV[3]) then redis.call('ZINCRBY', KEYS[5], -1, ARGV[3]) end
+                redis.call('SREM', KEYS[6], ARGV[4])
+            end
+            return removed
+            """, Long.class);
+
+    /**
+     * ARGV[3~]: 소설 고유번호 / 삭제된 수
+     * <p>
+     * 삭제된 소설의 북마크 정리용이므로 소설별 집계는 건드리지 않습니다.
+     */
+    private static final RedisScript<Long> REMOVE_ALL_SCRIPT = new DefaultRedisScript<>(MIGRATE_LUA + """
+            migrate(KEYS[1], KEYS[2], KEYS[3], ARGV[1], ARGV[2])
+            local removed = 0
+            for i = 3, #ARGV do
+                if redis.call('ZREM', KEYS[2], ARGV[i]) == 1 then
+                    redis.call('SADD', KEYS[3], ARGV[2] .. ARGV[i])
+                    removed = removed + 1
+                end
+            end
+            return removed
+            """, Long.class);
+
+    /**
+     * ARGV[3]: 소설 고유번호 / 북마크되어 있으면 1
+     */
+    private static final RedisScript<Long> CONTAINS_SCRIPT = new DefaultRedisScript<>(MIGRATE_LUA + """
+            migrate(KEYS[1], KEYS[2], KEYS[3], ARGV[1], ARGV[2])
+            if redis.call('ZSCORE', KEYS[2], ARGV[3]) then return 1 end
+            return 0
+            """, Long.class);
+
+    /**
+     * ARGV[3~4]: 시작, 끝 순위 / {전체 수, 소설 고유번호...}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PAGE_SCRIPT = new DefaultRedisScript<>(MIGRATE_LUA + """
+            migrate(KEYS[1], KEYS[2], KEYS[3], ARGV[1], ARGV[2])
+            local page = redis.call('ZREVRANGE', KEYS[2], ARGV[3], ARGV[4])
+            table.insert(page, 1, tostring(redis.call('ZCARD', KEYS[2])))
+            return page
+            """, List.class);
+
+    /**
+     * KEYS: 이전 카테고리, 새 카테고리 / ARGV[1]: 소설 고유번호
+     */
+    private static final RedisScript<Long> MOVE_CATEGORY_SCRIPT = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not score then return 0 end
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            return redis.call('ZADD', KEYS[2], score, ARGV[1])
+            """, Long.class);
+
+    /**
+     * 사용자의 모든 북마크를 반영 대기 집합에 넣습니다. / 넣은 수
+     */
+    private static final RedisScript<Long> MARK_ALL_DIRTY_SCRIPT = new DefaultRedisScript<>(MIGRATE_LUA + """
+            migrate(KEYS[1], KEYS[2], KEYS[3], ARGV[1], ARGV[2])
+            local members = redis.call('ZRANGE', KEYS[2], 0, -1)
+            for _, member in ipairs(members) do
+                redis.call('SADD', KEYS[3], ARGV[2] .. member)
+            end
+            return #members
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 반영 대기 집합, KEYS[2~]: 사용자별 Sorted Set
+     * ARGV: 키마다 (소설 고유번호, 북마크 시각, 반영 대기 멤버) / 복원한 수
+     * <p>
+     * 반영 대기 중인 북마크는 Redis 쪽이 최신이므로 복원하지 않습니다.
+     */
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            local restored = 0
+            for i = 2, #KEYS do
+                local base = (i - 2) * 3
+                if redis.call('SISMEMBER', KEYS[1], ARGV[base + 3]) == 0 then
+                    restored = restored + redis.call('ZADD', KEYS[i], 'NX', ARGV[base + 2], ARGV[base + 1])
+                end
+            end
+            return restored
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${spring.bookmark.reverse-index.enabled}")
+    private boolean reverseIndexEnabled;
+
+
+    /**
+     * 북마크를 추가합니다. 이미 북마크한 소설이면 북마크 시각을 바꾸지 않습니다.
+     *
+     * @param category 소설 카테고리 (카테고리별 집계용)
+     * @return 새로 추가되었으면 true
+     */
+    public boolean add(Long userId, Long novelId, Category category) {
+        return executeWithCounters(ADD_SCRIPT, userId, novelId, category) == 1;
+    }
+
+
+    /**
+     * 북마크를 삭제합니다.
+     *
+     * @param category 소설 카테고리, 소설이 삭제되어 알 수 없으면 null (집계는 소설 삭제 시 이미 제거됨)
+     * @return 삭제되었으면 true
+     */
+    public boolean remove(Long userId, Long novelId, Category category) {
+        if (category == null) {
+            return execute(REMOVE_ALL_SCRIPT, userId, novelId.toString()) == 1;
+        }
+        return executeWithCounters(REMOVE_SCRIPT, userId, novelId, category) == 1;
+    }
+
+
+    /**
+     * 사용자가 소설을 북마크했는지 확인합니다.
+     */
+    public boolean contains(Long userId, Long novelId) {
+        return execute(CONTAINS_SCRIPT, userId, novelId.toString()) == 1;
+    }
+
+
+    /**
+     * 북마크한 소설 고유번호를 최신 북마크순으로 한 페이지만 조회합니다.
+     *
+     * @param userId 사용자 고유 ID
+     * @param offset 시작 위치
+     * @param size   페이지 크기
+     * @return 페이지의 소설 고유번호와 전체 북마크 수
+     */
+    public BookmarkPage page(Long userId, long offset, int size) {
+        List<?> result = redisTemplate.execute(PAGE_SCRIPT, keys(userId), now(),
+                RedisKeyUtil.bookmarkDirtyMemberPrefix(userId), String.valueOf(offset), String.valueOf(offset + size - 1));
+
+        if (result == null || result.isEmpty()) return new BookmarkPage(List.of(), 0);
+
+        List<Long> novelIds = result.subList(1, result.size()).stream()
+                .map(member -> Long.valueOf(member.toString()))
+                .toList();
+        return new BookmarkPage(novelIds, Long.parseLong(result.get(0).toString()));
+    }
+
+
+    /**
+     * 삭제된 소설처럼 더 이상 조회되지 않는 북마크를 제거합니다.
+     */
+    public void removeAll(Long userId, Collection<Long> novelIds) {
+        if (novelIds.isEmpty()) return;
+
+        execute(REMOVE_ALL_SCRIPT, userId, novelIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+
+    /**
+     * 소설을 북마크한 사용자 수를 조회합니다.
+     *
+     * @param novelId 소설 고유번호
+     * @return 북마크 수, 집계가 없으면 0
+     */
+    public long getCount(Long novelId) {
+        Double score = redisTemplate.opsForZSet().score(RedisKeyUtil.novelBookmarkCountKey(), novelId.toString());
+        return score == null ? 0 : Math.max(0, score.longValue());
+    }
+
+
+    /**
+     * 북마크 수가 많은 순으로 소설 고유번호를 한 페이지 조회합니다.
+     *
+     * @param category 카테고리, null이면 전체
+     * @param offset   시작 위치
+     * @param size     페이지 크기
+     * @return 소설 고유번호와 북마크 수 목록, 집계된 전체 소설 수
+     */
+    public RankingPage getRanking(Category category, long offset, int size) {
+        String key = category == null
+                ? RedisKeyUtil.novelBookmarkCountKey()
+                : RedisKeyUtil.novelBookmarkRankingKey(category.name());
+
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        Set<ZSetOperations.TypedTuple<String>> tuples = zSet.reverseRangeWithScores(key, offset, offset + size - 1);
+        Long card = zSet.zCard(key);
+
+        List<RankedNovel> novels = new ArrayList<>();
+        if (tuples != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                novels.add(new RankedNovel(Long.valueOf(tuple.getValue()), Math.max(0, tuple.getScore().longValue())));
+            }
+        }
+        return new RankingPage(novels, card == null ? 0 : card);
+    }
+
+
+    /**
+     * 삭제된 소설을 북마크 집계와 역색인에서 제거합니다. 사용자별 북마크는 목록 조회 시 정리됩니다.
+     */
+    public void removeNovel(Long novelId, Category category) {
+        String member = novelId.toString();
+        redisTemplate.opsForZSet().remove(RedisKeyUtil.novelBookmarkCountKey(), member);
+        redisTemplate.opsForZSet().remove(RedisKeyUtil.novelBookmarkRankingKey(category.name()), member);
+        redisTemplate.delete(RedisKeyUtil.novelBookmarkersKey(novelId));
+    }
+
+
+    /**
+     * 소설의 카테고리가 바뀌면 카테고리별 북마크 순위를 옮깁니다.
+     */
+    public void changeCategory(Long novelId, Category from, Category to) {
+        if (from == to) return;
+
+        redisTemplate.execute(MOVE_CATEGORY_SCRIPT,
+                List.of(RedisKeyUtil.novelBookmarkRankingKey(from.name()), RedisKeyUtil.novelBookmarkRankingKey(to.name())),
+                novelId.toString());
+    }
+
+
+    /**
+     * 사용자의 기존 Set 북마크를 Sorted Set으로 옮깁니다.
+     *
+     * @return 옮길 기존 Set이 있었으면 true
+     */
+    public boolean migrate(Long userId) {
+        return execute(MIGRATE_SCRIPT, userId) == 1;
+    }
+
+
+    /**
+     * 사용자의 모든 북마크를 MySQL 반영 대기 집합에 넣습니다. {@code bookmarks} 테이블 도입 이전의 북마크를 채울 때 사용합니다.
+     *
+     * @return 반영 대기 집합에 넣은 북마크 수
+     */
+    public long markAllDirty(Long userId) {
+        return execute(MARK_ALL_DIRTY_SCRIPT, userId);
+    }
+
+
+    /**
+     * 반영 대기 멤버({@code userId:novelId})별 현재 북마크 시각을 조회합니다.
+     *
+     * @param members 반영 대기 멤버 목록
+     * @return 멤버 → 북마크 시각(epoch millis), 북마크가 해제된 멤버는 포함하지 않음
+     */
+    public Map<String, Long> getBookmarkedAt(List<String> members) {
+        List<Object> scores = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String member : members) {
+                Long userId = RedisKeyUtil.userIdFromBookmarkDirtyMember(member);
+                Long novelId = RedisKeyUtil.novelIdFromBookmarkDirtyMember(member);
+                connection.zSetCommands().zScore(
+                        RedisKeyUtil.userBookmarksKey(userId).getBytes(StandardCharsets.UTF_8),
+                        novelId.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        Map<String, Long> bookmarkedAt = new HashMap<>();
+        for (int i = 0; i < members.size(); i++) {
+            if (scores.get(i) instanceof Number score) {
+                bookmarkedAt.put(members.get(i), score.longValue());
+            }
+        }
+        return bookmarkedAt;
+    }
+
+
+    /**
+     * 사용자가 북마크한 소설 수를 조회합니다.
+     *
+     * @param userId 사용자 고유 ID
+     * @return 북마크한 소설 수
+     */
+    public long countByUser(Long userId) {
+        Long count = redisTemplate.opsForZSet().zCard(RedisKeyUtil.userBookmarksKey(userId));
+        return count == null ? 0 : count;
+    }
+
+
+    /**
+     * 사용자가 북마크한 모든 소설과 북마크 시각을 조회합니다.
+     *
+     * @param userId 사용자 고유 ID
+     * @return 소설 고유번호 → 북마크 시각(epoch millis)
+     */
+    public Map<Long, Long> getAllBookmarkedAt(Long userId) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().rangeWithScores(RedisKeyUtil.userBookmarksKey(userId), 0, -1);
+        if (tuples == null) return Map.of();
+
+        Map<Long, Long> bookmarkedAt = new HashMap<>();
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            bookmarkedAt.put(Long.valueOf(tuple.getValue()), tuple.getScore().longValue());
+        }
+        return bookmarkedAt;
+    }
+
+
+    /**
+     * 사용자가 주어진 소설들을 북마크한 시각을 조회합니다.
+     *
+     * @param userId   사용자 고유 ID
+     * @param novelIds 소설 고유번호 목록
+     * @return 소설 고유번호 → 북마크 시각(epoch millis), 북마크하지 않은 소설은 포함하지 않음
+     */
+    public Map<Long, Long> getBookmarkedAt(Long userId, List<Long> novelIds) {
+        byte[] key = RedisKeyUtil.userBookmarksKey(userId).getBytes(StandardCharsets.UTF_8);
+
+        List<Object> scores = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long novelId : novelIds) {
+                connection.zSetCommands().zScore(key, novelId.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        Map<Long, Long> bookmarkedAt = new HashMap<>();
+        for (int i = 0; i < novelIds.size(); i++) {
+            if (scores.get(i) instanceof Number score) {
+                bookmarkedAt.put(novelIds.get(i), score.longValue());
+            }
+        }
+        return bookmarkedAt;
+    }
+
+
+    /**
+     * MySQL에 저장된 북마크를 Redis에 복원합니다. 이미 있거나 반영 대기 중인 북마크는 건드리지 않습니다.
+     *
+     * @param entries 복원할 북마크
+     * @return 새로 복원한 북마크 수
+     */
+    public long restore(List<BookmarkEntry> entries) {
+        if (entries.isEmpty()) return 0;
+
+        List<String> keys = new ArrayList<>(entries.size() + 1);
+        List<String> args = new ArrayList<>(entries.size() * 3);
+        keys.add(RedisKeyUtil.bookmarkDirtyKey());
+
+        for (BookmarkEntry entry : entries) {
+            keys.add(RedisKeyUtil.userBookmarksKey(entry.userId()));
+            args.add(entry.novelId().toString());
+            args.add(String.valueOf(entry.bookmarkedAt()));
+            args.add(RedisKeyUtil.bookmarkDirtyMember(entry.userId(), entry.novelId()));
+        }
+
+        Long restored = redisTemplate.execute(RESTORE_SCRIPT, keys, args.toArray());
+        return restored == null ? 0 : restored;
+    }
+
+
+    private long execute(RedisScript<Long> script, Long userId, String... novelIds) {
+        Object[] args = new Object[novelIds.length + 2];
+        args[0] = now();
+        args[1] = RedisKeyUtil.bookmarkDirtyMemberPrefix(userId);
+        System.arraycopy(novelIds, 0, args, 2, novelIds.length);
+
+        Long result = redisTemplate.execute(script, keys(userId), args);
+        return result == null ? 0 : result;
+    }
+
+
+    private long executeWithCounters(RedisScript<Long> script, Long userId, Long novelId, Category category) {
+        List<String> keys = new ArrayList<>(keys(userId));
+        keys.add(RedisKeyUtil.novelBookmarkCountKey());
+        keys.add(RedisKeyUtil.novelBookmarkRankingKey(category.name()));
+        keys.add(RedisKeyUtil.novelBookmarkersKey(novelId));
+
+        Long result = redisTemplate.execute(script, keys, now(), RedisKeyUtil.bookmarkDirtyMemberPrefix(userId),
+                novelId.toString(), userId.toString(), reverseIndexEnabled ? "1" : "0");
+        return result == null ? 0 : result;
+    }
+
+
+    private static List<String> keys(Long userId) {
+        return List.of(RedisKeyUtil.userBookmarkKey(userId), RedisKeyUtil.userBookmarksKey(userId),
+                RedisKeyUtil.bookmarkDirtyKey());
+    }
+
+
+    private static String now() {
+        return String.valueOf(System.currentTimeMillis());
+    }
+
+
+    /**
+     * 북마크 한 페이지
+     *
+     * @param novelIds 최신 북마크순 소설 고유번호
+     * @param total    전체 북마크 수
+     */
+    public record BookmarkPage(List<Long> novelIds, long total) {
+    }
+
+
+    /**
+     * 북마크 순위 한 페이지
+     *
+     * @param novels 북마크 수가 많은 순의 소설
+     * @param total  집계된 전체 소설 수
+     */
+    public record RankingPage(List<RankedNovel> novels, long total) {
+    }
+
+
+    /**
+     * @param novelId       소설 고유번호
+     * @param bookmarkCount 북마크 수
+     */
+    public record RankedNovel(Long novelId, long bookmarkCount) {
+    }
+
+
+    /**
+     * MySQL에 저장된 북마크 한 건
+     *
+     * @param userId       사용자 고유 ID
+     * @param novelId      소설 고유번호
+     * @param bookmarkedAt 북마크 시각(epoch millis)
+     */
+    public record BookmarkEntry(Long userId, Long novelId, long bookmarkedAt) {
+    }
+}
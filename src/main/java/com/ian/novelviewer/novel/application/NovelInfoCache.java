@@ -0,0 +1,224 @@
+package com.ian.novelviewer.novel.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.common.transaction.TransactionUtil;
+import com.ian.novelviewer.novel.dto.NovelDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 소설 상세 정보({@link NovelDto.NovelInfoResponse})를 위한 2단계 캐시입니다.
+ * <p>
+ * - 1단계: 서버 메모리의 Caffeine 캐시 (크기/TTL 제한)
+ * - 2단계: 모든 서버가 공유하는 Redis 캐시
+ * - 소설이 변경되면 커밋 이후 Redis 캐시를 삭제하고, Pub/Sub으로 모든 서버의 로컬 캐시를 무효화합니다.
+ * <p>
+ * Pub/Sub 메시지는 유실될 수 있으므로, 로컬 캐시 TTL을 짧게 두어 오래된 값이 남는 시간을 제한합니다.
+ * <p>
+ * 무효화 전에 DB를 읽기 시작한 조회가 무효화 후에 이전 값을 Redis에 다시 쓰지 않도록, 무효화할 때마다 버전을 올리고
+ * 조회는 DB를 읽기 전에 확인한 버전이 그대로일 때만 Redis에 저장합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NovelInfoCache implements MessageListener {
+
+    /**
+     * KEYS[1]: 소설 정보 캐시, KEYS[2]: 캐시 버전
+     * ARGV[1]: 조회 시작 시점의 버전, ARGV[2]: 소설 정보 JSON, ARGV[3]: TTL(ms)
+     */
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.novel.cache.local-max-size}")
+    private long localMaxSize;
+
+    @Value("${spring.novel.cache.local-ttl}")
+    private Duration localTtl;
+
+    @Value("${spring.novel.cache.redis-ttl}")
+    private Duration redisTtl;
+
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+
+    private Cache<Long, NovelDto.NovelInfoResponse> localCache;
+
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtil.novelCacheInvalidationChannel()));
+    }
+
+
+    /**
+     * 캐시에서 소설 정보를 조회합니다.
+     * 로컬 캐시 → Redis 순서로 찾고, 모두 없으면 loader로 DB에서 읽어 두 캐시에 저장합니다.
+     *
+     * @param novelId 소설 고유번호
+     * @param loader  캐시에 없을 때 소설 정보를 읽어오는 함수
+     * @return 소설 정보 DTO
+     */
+    public NovelDto.NovelInfoResponse get(Long novelId, Function<Long, NovelDto.NovelInfoResponse> loader) {
+        return localCache.get(novelId, id -> {
+            NovelDto.NovelInfoResponse cached = readRedis(id);
+            if (cached != null) {
+                redisHits.increment();
+                return cached;
+            }
+
+            redisMisses.increment();
+            String version = readVersion(id);
+            NovelDto.NovelInfoResponse loaded = loader.apply(id);
+            if (version != null) {
+                writeRedis(id, loaded, version);
+            }
+            return loaded;
+        });
+    }
+
+
+    /**
+     * 소설 정보 캐시를 무효화합니다.
+     * 트랜잭션 커밋 이후 캐시 버전을 올리고 Redis 캐시를 삭제한 뒤, 모든 서버에 로컬 캐시 무효화를 전파합니다.
+     *
+     * @param novelId 소설 고유번호
+     */
+    public void evict(Long novelId) {
+        TransactionUtil.afterCommit(() -> {
+            localCache.invalidate(novelId);
+
+            try {
+                redisTemplate.opsForValue().increment(RedisKeyUtil.novelInfoVersionKey(novelId));
+                redisTemplate.delete(RedisKeyUtil.novelInfoKey(novelId));
+                redisTemplate.convertAndSend(RedisKeyUtil.novelCacheInvalidationChannel(), novelId.toString());
+            } catch (Exception e) {
+                log.error("[NovelInfoCache] 캐시 무효화 전파 실패 - novelId={}", novelId, e);
+            }
+
+            log.debug("[NovelInfoCache] 캐시 무효화 - novelId={}", novelId);
+        });
+    }
+
+
+    /**
+     * 다른 서버에서 전파된 무효화 메시지를 받아 로컬 캐시에서 제거합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            localCache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.error("[NovelInfoCache] 잘못된 무효화 메시지 - body={}", body);
+        }
+    }
+
+
+    /**
+     * 캐시 적중/미스 통계를 반환합니다.
+     */
+    public Stats stats() {
+        var local = localCache.stats();
+        return new Stats(
+                localCache.estimatedSize(),
+                local.hitCount(),
+                local.missCount(),
+                local.evictionCount(),
+                redisHits.sum(),
+                redisMisses.sum()
+        );
+    }
+
+
+    private NovelDto.NovelInfoResponse readRedis(Long novelId) {
+        try {
+            String json = redisTemplate.opsForValue().get(RedisKeyUtil.novelInfoKey(novelId));
+            return json == null ? null : objectMapper.readValue(json, NovelDto.NovelInfoResponse.class);
+        } catch (Exception e) {
+            log.error("[NovelInfoCache] Redis 캐시 조회 실패 - novelId={}", novelId, e);
+            return null;
+        }
+    }
+
+
+    /**
+     * 현재 캐시 버전을 조회합니다. 무효화된 적이 없으면 "0"이며, 조회에 실패하면 null을 반환합니다.
+     */
+    private String readVersion(Long novelId) {
+        try {
+            String version = redisTemplate.opsForValue().get(RedisKeyUtil.novelInfoVersionKey(novelId));
+            return version == null ? "0" : version;
+        } catch (Exception e) {
+            log.error("[NovelInfoCache] 캐시 버전 조회 실패 - novelId={}", novelId, e);
+            return null;
+        }
+    }
+
+
+    /**
+     * 조회를 시작한 뒤 캐시 버전이 바뀌지 않았을 때만 Redis에 저장합니다.
+     */
+    private void writeRedis(Long novelId, NovelDto.NovelInfoResponse response, String version) {
+        try {
+            String json = objectMapper.writeValueAsString(response);
+            Long written = redisTemplate.execute(WRITE_SCRIPT,
+                    List.of(RedisKeyUtil.novelInfoKey(novelId), RedisKeyUtil.novelInfoVersionKey(novelId)),
+                    version, json, String.valueOf(redisTtl.toMillis()));
+            if (written == null || written == 0) {
+                log.debug("[NovelInfoCache] 조회 중 무효화되어 Redis 저장 생략 - novelId={}", novelId);
+            }
+        } catch (JsonProcessingException e) {
+            log.error("[NovelInfoCache] 캐시 직렬화 실패 - novelId={}", novelId, e);
+        } catch (Exception e) {
+            log.error("[NovelInfoCache] Redis 캐시 저장 실패 - novelId={}", novelId, e);
+        }
+    }
+
+
+    public record Stats(
+            long localSize,
+            long localHits,
+            long localMisses,
+            long localEvictions,
+            long redisHits,
+            long redisMisses
+    ) {
+    }
+}
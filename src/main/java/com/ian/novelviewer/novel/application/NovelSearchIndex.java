@@ -0,0 +1,212 @@
+package com.ian.novelviewer.novel.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.common.transaction.TransactionUtil;
+import com.ian.novelviewer.novel.domain.Novel;
+import com.ian.novelviewer.novel.domain.NovelRepository;
+import com.ian.novelviewer.novel.domain.NovelSearchRow;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 소설 제목/작가명 검색을 위한 인메모리 역색인입니다.
+ * <p>
+ * - 애플리케이션 기동 후 DB의 소설을 배치 단위로 읽어 색인을 구성합니다.
+ * - 색인이 준비되기 전에는 {@link #isReady()}가 false를 반환하며, 호출 측은 DB 검색으로 대체해야 합니다.
+ * - 변경 사항은 트랜잭션 커밋 이후 로컬 색인에 반영하고, Redis Pub/Sub으로 다른 서버에 전파합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NovelSearchIndex implements MessageListener {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final String MESSAGE_SEPARATOR = "|";
+    private static final String AUTHOR_PREFIX = "author:";
+
+    private final NovelRepository novelRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final BigramIndex index = new BigramIndex();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean ready = false;
+
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtil.novelSearchIndexChannel()));
+    }
+
+
+    /**
+     * 애플리케이션 기동이 끝나면 별도 스레드에서 전체 소설을 색인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        CompletableFuture.runAsync(() -> {
+            long startedAt = System.currentTimeMillis();
+            long lastId = 0L;
+            Slice<NovelSearchRow> rows;
+
+            do {
+                rows = novelRepository.findSearchRowsAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                index.putAll(rows.getContent().stream().map(NovelSearchIndex::toDocument).toList());
+
+                if (rows.hasContent()) {
+                    lastId = rows.getContent().get(rows.getNumberOfElements() - 1).getId();
+                }
+            } while (rows.hasNext());
+
+            ready = true;
+            log.info("[NovelSearchIndex] 색인 구성 완료 - 문서 수={}, 소요 시간={}ms",
+                    index.size(), System.currentTimeMillis() - startedAt);
+        }).exceptionally(e -> {
+            log.error("[NovelSearchIndex] 색인 구성 실패 - DB 검색으로 대체합니다.", e);
+            return null;
+        });
+    }
+
+
+    /**
+     * 색인 구성이 완료되어 검색에 사용할 수 있는지 여부를 반환합니다.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+
+    /**
+     * 제목 또는 작가명에 키워드가 포함된 소설의 id를 최신 등록순으로 페이징하여 반환합니다.
+     *
+     * @param keyword  검색 키워드
+     * @param pageable 페이징 정보
+     * @return 소설 id(PK) 페이지
+     */
+    public Page<Long> search(String keyword, Pageable pageable) {
+        long[] ids = index.search(keyword);
+
+        int from = (int) Math.min(pageable.getOffset(), ids.length);
+        int to = Math.min(from + pageable.getPageSize(), ids.length);
+        List<Long> content = Arrays.stream(ids, from, to).boxed().toList();
+
+        log.debug("[NovelSearchIndex] 검색 - keyword='{}', 전체 일치={}, 반환={}", keyword, ids.length, content.size());
+        return new PageImpl<>(content, pageable, ids.length);
+    }
+
+
+    /**
+     * 소설을 색인에 추가하거나 갱신합니다. 트랜잭션 커밋 이후에 반영됩니다.
+     *
+     * @param novel 등록 또는 수정된 소설
+     */
+    public void index(Novel novel) {
+        BigramIndex.Document document = BigramIndex.Document.of(
+                novel.getId(), novel.getTitle(), novel.getAuthor().getId(), novel.getAuthor().getAuthorName());
+
+        TransactionUtil.afterCommit(() -> {
+            index.put(document);
+            publish(String.valueOf(document.id()));
+        });
+    }
+
+
+    /**
+     * 소설을 색인에서 제거합니다. 트랜잭션 커밋 이후에 반영됩니다.
+     *
+     * @param id 삭제된 소설의 id(PK)
+     */
+    public void remove(Long id) {
+        TransactionUtil.afterCommit(() -> {
+            index.remove(id);
+            publish(String.valueOf(id));
+        });
+    }
+
+
+    /**
+     * 작가명이 변경된 작가의 소설을 모두 다시 색인합니다. 트랜잭션 커밋 이후에 반영됩니다.
+     *
+     * @param authorId 작가의 사용자 id(PK)
+     */
+    public void reindexAuthor(Long authorId) {
+        TransactionUtil.afterCommit(() -> {
+            reloadAuthor(authorId);
+            publish(AUTHOR_PREFIX + authorId);
+        });
+    }
+
+
+    /**
+     * 다른 서버에서 전파된 색인 변경 메시지를 처리합니다.
+     * 메시지에는 변경 대상만 담겨 있으므로, 최신 내용은 DB에서 다시 읽습니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) return;
+
+        String target = body.substring(separator + 1);
+        log.debug("[NovelSearchIndex] 색인 변경 수신 - target={}", target);
+
+        try {
+            if (target.startsWith(AUTHOR_PREFIX)) {
+                reloadAuthor(Long.valueOf(target.substring(AUTHOR_PREFIX.length())));
+            } else {
+                reload(Long.valueOf(target));
+            }
+        } catch (Exception e) {
+            log.error("[NovelSearchIndex] 색인 변경 반영 실패 - target={}", target, e);
+        }
+    }
+
+
+    private void reload(Long id) {
+        novelRepository.findSearchRowById(id)
+                .map(NovelSearchIndex::toDocument)
+                .ifPresentOrElse(index::put, () -> index.remove(id));
+    }
+
+
+    private void reloadAuthor(Long authorId) {
+        index.putAll(novelRepository.findSearchRowsByAuthorId(authorId).stream()
+                .map(NovelSearchIndex::toDocument)
+                .toList());
+    }
+
+
+    private void publish(String target) {
+        try {
+            redisTemplate.convertAndSend(RedisKeyUtil.novelSearchIndexChannel(), nodeId + MESSAGE_SEPARATOR + target);
+        } catch (Exception e) {
+            log.error("[NovelSearchIndex] 색인 변경 전파 실패 - target={}", target, e);
+        }
+    }
+
+
+    private static BigramIndex.Document toDocument(NovelSearchRow row) {
+        return BigramIndex.Document.of(row.getId(), row.getTitle(), row.getAuthorId(), row.getAuthorName());
+    }
+}
@@ -1,25 +1,36 @@
 package com.ian.novelviewer.novel.application;
 
 import com.ian.novelviewer.common.exception.CustomException;
-import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.common.paging.Cursor;
+import com.ian.novelviewer.common.paging.CursorResponse;
 import com.ian.novelviewer.common.security.CustomUserDetails;
+import com.ian.novelviewer.common.transaction.TransactionUtil;
 import com.ian.novelviewer.novel.domain.Category;
 import com.ian.novelviewer.novel.domain.Novel;
 import com.ian.novelviewer.novel.domain.NovelRepository;
+import com.ian.novelviewer.novel.domain.NovelSummary;
 import com.ian.novelviewer.novel.dto.NovelDto;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static com.ian.novelviewer.common.enums.Role.ROLE_ADMIN;
 import static com.ian.novelviewer.common.exception.ErrorCode.*;
 
 @Slf4j
@@ -29,7 +40,9 @@ public class NovelService {
 
     private final NovelRepository novelRepository;
     private final S3Service s3Service;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final NovelSearchIndex novelSearchIndex;
+    private final NovelInfoCache novelInfoCache;
+    private final BookmarkService bookmarkService;
 
     private static final String S3_FOLDER_NAME = "thumbnails";
 
@@ -43,14 +56,14 @@ public class NovelService {
      */
     public Page<NovelDto.NovelResponse> getAllNovels(Category category, Pageable pageable) {
         log.debug("소설 목록 조회 요청 - category={}, pageable={}", category, pageable);
-        Page<Novel> novels;
+        Page<NovelSummary> novels;
 
         if (category == null) {
             log.debug("카테고리 필터 없음 - 전체 소설 조회 실행");
-            novels = novelRepository.findAll(pageable);
+            novels = novelRepository.findSummaries(pageable);
         } else {
             log.debug("카테고리 필터 적용 - category={}", category);
-            novels = novelRepository.findAllByCategory(category, pageable);
+            novels = novelRepository.findSummariesByCategory(category, pageable);
         }
 
         log.debug("조회된 소설 수: {}", novels.getTotalElements());
@@ -58,8 +71,47 @@ public class NovelService {
     }
 
 
+    /**
+     * 소설 목록을 커서 기반으로 최신 등록순 조회합니다.
+     * 마지막으로 받은 (등록일시, id) 이후의 행만 탐색하므로 페이지가 깊어져도 조회 비용이 일정하며,
+     * 전체 개수(count) 쿼리를 실행하지 않습니다.
+     *
+     * @param category 소설 카테고리 (null이면 전체 조회)
+     * @param cursor   이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size     페이지 크기
+     * @return 소설 목록과 다음 커서
+     * @throws CustomException 커서 형식이 올바르지 않은 경우
+     */
+    public CursorResponse<NovelDto.NovelResponse> getNovelsByCursor(Category category, String cursor, int size) {
+        log.debug("소설 목록 커서 조회 요청 - category={}, cursor={}, size={}", category, cursor, size);
+
+        Cursor last = Cursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<NovelSummary> novels;
+
+        if (category == null) {
+            novels = last == null
+                    ? novelRepository.findLatest(pageable)
+                    : novelRepository.findLatestAfter(last.sortKey(), last.id(), pageable);
+        } else {
+            novels = last == null
+                    ? novelRepository.findLatestByCategory(category, pageable)
+                    : novelRepository.findLatestByCategoryAfter(category, last.sortKey(), last.id(), pageable);
+        }
+
+        log.debug("커서 조회 결과 - 조회 수={}, hasNext={}", novels.getNumberOfElements(), novels.hasNext());
+        return CursorResponse.of(
+                novels,
+                NovelDto.NovelResponse::from,
+                novel -> new Cursor(novel.createdAt(), novel.id())
+        );
+    }
+
+
     /**
      * 제목 또는 작가명으로 소설을 검색합니다.
+     * 검색 색인이 준비된 경우 색인에서 id를 찾아 해당 페이지의 소설만 조회하고,
+     * 색인 구성 전에는 DB의 LIKE 검색으로 대체합니다.
      *
      * @param keyword  검색 키워드
      * @param pageable 페이징 정보
@@ -74,10 +126,24 @@ public class NovelService {
             throw new CustomException(INVALID_KEYWORD);
         }
 
-        Page<Novel> novels = novelRepository.findByTitleOrAuthorName(keyword, pageable);
+        if (!novelSearchIndex.isReady()) {
+            log.debug("검색 색인 준비 전 - DB 검색으로 대체");
+            Page<NovelSummary> novels = novelRepository.findByTitleOrAuthorName(keyword, pageable);
+            return novels.map(NovelDto.NovelResponse::from);
+        }
 
-        log.debug("검색 결과 소설 수: {}", novels.getTotalElements());
-        return novels.map(NovelDto.NovelResponse::from);
+        Page<Long> ids = novelSearchIndex.search(keyword, pageable);
+        Map<Long, NovelSummary> novels = novelRepository.findSummariesByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(NovelSummary::id, Function.identity()));
+
+        List<NovelDto.NovelResponse> responses = ids.getContent().stream()
+                .map(novels::get)
+                .filter(Objects::nonNull)
+                .map(NovelDto.NovelResponse::from)
+                .toList();
+
+        log.debug("검색 결과 소설 수: {}", ids.getTotalElements());
+        return new PageImpl<>(responses, pageable, ids.getTotalElements());
     }
 
 
@@ -131,6 +197,8 @@ public class NovelService {
                         .build()
         );
 
+        novelSearchIndex.index(novel);
+
         log.debug("소설 등록 완료 - novelId: {}", novel.getNovelId());
         return NovelDto.NovelInfoResponse.from(novel);
     }
@@ -138,6 +206,8 @@ public class NovelService {
 
     /**
      * 소설 상세 정보를 조회합니다.
+     * 로컬 캐시와 Redis 캐시를 차례로 확인하고, 모두 없을 때만 DB에서 조회합니다.
+     * 북마크 수는 자주 바뀌므로 캐시하지 않고 조회 시점의 집계를 채웁니다.
      *
      * @param novelId 조회할 소설 고유번호
      * @return 소설 정보 DTO
@@ -146,10 +216,39 @@ public class NovelService {
     public NovelDto.NovelInfoResponse getNovel(Long novelId) {
         log.debug("소설 단건 조회 요청 - novelId: {}", novelId);
 
-        Novel novel = findNovelOrThrow(novelId);
+        NovelDto.NovelInfoResponse response = getCachedNovel(novelId);
 
-        log.debug("조회된 소설 - 제목: {}", novel.getTitle());
-        return NovelDto.NovelInfoResponse.from(novel);
+        log.debug("조회된 소설 - 제목: {}", response.getTitle());
+        return response.withBookmarkCount(bookmarkService.getCount(novelId));
+    }
+
+
+    /**
+     * 북마크 수가 많은 순으로 소설 목록을 조회합니다.
+     *
+     * @param category 소설 카테고리 (null이면 전체)
+     * @param pageable 페이징 정보
+     * @return 북마크 수를 포함한 소설 목록 페이지
+     */
+    public Page<NovelDto.BookmarkRankingResponse> getMostBookmarked(Category category, Pageable pageable) {
+        log.debug("북마크 순위 조회 요청 - category={}, pageable={}", category, pageable);
+
+        BookmarkService.RankingPage ranking =
+                bookmarkService.getRanking(category, pageable.getOffset(), pageable.getPageSize());
+
+        List<Long> novelIds = ranking.novels().stream().map(BookmarkService.RankedNovel::novelId).toList();
+        Map<Long, NovelSummary> novels = novelIds.isEmpty()
+                ? Map.of()
+                : novelRepository.findSummariesByNovelIds(novelIds).stream()
+                        .collect(Collectors.toMap(NovelSummary::novelId, Function.identity()));
+
+        List<NovelDto.BookmarkRankingResponse> responses = ranking.novels().stream()
+                .filter(ranked -> novels.containsKey(ranked.novelId()))
+                .map(ranked -> NovelDto.BookmarkRankingResponse.from(novels.get(ranked.novelId()), ranked.bookmarkCount()))
+                .toList();
+
+        log.debug("북마크 순위 조회 결과 - 조회 수={}, 전체={}", responses.size(), ranking.total());
+        return new PageImpl<>(responses, pageable, ranking.total());
     }
 
 
@@ -180,6 +279,7 @@ public class NovelService {
 
         log.debug("섬네일 변경 완료 - oldKey={}, newKey={}", oldKey, newKey);
         novel.changeThumbnail(newKey);
+        novelInfoCache.evict(novelId);
 
         return NovelDto.NovelInfoResponse.from(novel);
     }
@@ -216,9 +316,14 @@ public class NovelService {
 
         if (request.getCategory() != null) {
             log.debug("카테고리 변경: {}", request.getCategory());
+            Category previous = novel.getCategory();
             novel.changeCategory(request.getCategory());
+            TransactionUtil.afterCommit(() -> bookmarkService.changeCategory(novelId, previous, request.getCategory()));
         }
 
+        novelSearchIndex.index(novel);
+        novelInfoCache.evict(novelId);
+
         return NovelDto.NovelInfoResponse.from(novel);
     }
 
@@ -239,7 +344,7 @@ public class NovelService {
 
         Novel novel = findNovelOrThrow(novelId);
 
-        boolean isAdmin = user.getUser().getRoles().contains("ROLE_ADMIN");
+        boolean isAdmin = user.getRoles().contains(ROLE_ADMIN);
         boolean isAuthor = novel.getAuthor().getLoginId().equals(user.getUsername());
 
         if (!isAdmin && !isAuthor) {
@@ -248,6 +353,9 @@ public class NovelService {
         }
 
         novelRepository.delete(novel);
+        novelSearchIndex.remove(novel.getId());
+        novelInfoCache.evict(novelId);
+        TransactionUtil.afterCommit(() -> bookmarkService.removeNovel(novelId, novel.getCategory()));
         s3Service.delete(novel.getThumbnail());
 
         log.debug("소설 삭제 완료 - novelId={}", novelId);
@@ -262,6 +370,20 @@ public class NovelService {
     }
 
 
+    /**
+     * 캐시를 거쳐 소설 정보를 조회합니다. 북마크 수는 채우지 않습니다.
+     *
+     * @throws CustomException 존재하지 않는 소설인 경우
+     */
+    private NovelDto.NovelInfoResponse getCachedNovel(Long novelId) {
+        return novelInfoCache.get(novelId, id -> {
+            Novel novel = findNovelOrThrow(id);
+            log.debug("캐시 미스 - DB에서 소설 조회: {}", novel.getTitle());
+            return NovelDto.NovelInfoResponse.from(novel);
+        });
+    }
+
+
     /**
      * 소설 고유번호(novelId)로 특정 소설을 조회합니다.
      * 없으면 예외를 던집니다.
@@ -323,8 +445,7 @@ public class NovelService {
      * @return 북마크 여부
      */
     public boolean hasBookmarked(Long novelId, Long userId) {
-        String bookmarkKey = RedisKeyUtil.userBookmarkKey(userId);
-        boolean bookmarked = Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(bookmarkKey, novelId.toString()));
+        boolean bookmarked = bookmarkService.contains(userId, novelId);
 
         log.debug("[hasBookmarked] userId={}, novelId={} → hasBookmarked={}", userId, novelId, bookmarked);
 
@@ -334,15 +455,16 @@ public class NovelService {
 
     /**
      * 소설을 북마크합니다.
+     * 이미 북마크한 상태라면 북마크 시각을 바꾸지 않습니다.
      *
      * @param novelId 북마크할 소설 고유 ID
      * @param userId  사용자 고유 ID
+     * @throws CustomException 존재하지 않는 소설인 경우
      */
     public void bookmark(Long novelId, Long userId) {
-        String bookmarkKey = RedisKeyUtil.userBookmarkKey(userId);
+        Category category = getCachedNovel(novelId).getCategory();
 
-        if (!hasBookmarked(userId, novelId)) {
-            redisTemplate.opsForSet().add(bookmarkKey, novelId.toString());
+        if (bookmarkService.add(userId, novelId, category)) {
             log.debug("[bookmark] 북마크 완료 - userId={}, novelId={}", userId, novelId);
         } else {
             log.debug("[bookmark] 이미 북마크한 상태 - novelId={}, userId={}", novelId, userId);
@@ -357,10 +479,9 @@ public class NovelService {
      * @param userId  사용자 고유 ID
      */
     public void unbookmark(Long novelId, Long userId) {
-        String bookmarkKey = RedisKeyUtil.userBookmarkKey(userId);
+        Category category = novelRepository.findByNovelId(novelId).map(Novel::getCategory).orElse(null);
 
-        if (hasBookmarked(userId, novelId)) {
-            redisTemplate.opsForSet().remove(bookmarkKey, novelId.toString());
+        if (bookmarkService.remove(userId, novelId, category)) {
             log.debug("[unbookmark] 북마크 삭제 완료 - novelId={}, userId={}", novelId, userId);
         } else {
             log.debug("[unbookmark] 이미 북마크가 아닌 상태 - novelId={}, userId={}", novelId, userId);
@@ -0,0 +1,41 @@
+package com.ian.novelviewer.novel.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 북마크의 원본 저장소입니다.
+ * <p>
+ * - 조회와 변경은 Redis Sorted Set에서 처리하고, 이 테이블은 {@code BookmarkFlushJob}이 배치로 반영합니다.
+ * - Redis 데이터가 유실되면 {@code BookmarkRehydrationJob}이 이 테이블로 Redis를 다시 채웁니다.
+ * - 소설은 Redis와 같은 소설 고유번호(novelId)로 저장합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "bookmarks",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_bookmarks_user_novel", columnNames = {"user_id", "novel_id"})
+        },
+        indexes = {
+                @Index(name = "idx_bookmarks_novel_id", columnList = "novel_id")
+        })
+public class Bookmark {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "novel_id", nullable = false)
+    private Long novelId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -14,7 +14,10 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "novels")
+@Table(name = "novels", indexes = {
+        @Index(name = "idx_novels_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_novels_category_created_at_id", columnList = "category, created_at, id")
+})
 public class Novel extends BaseEntity {
 
     @Column(nullable = false, unique = true)
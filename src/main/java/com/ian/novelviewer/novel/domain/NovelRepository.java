@@ -2,10 +2,13 @@ package com.ian.novelviewer.novel.domain;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,24 +20,163 @@ public interface NovelRepository extends JpaRepository<Novel, Long> {
     Optional<Novel> findByNovelId(Long novelId);
 
     /**
-     * 주어진 카테고리에 해당하는 소설 목록을 페이징하여 조회
+     * 소설 고유번호(novelId)에 해당하는 소설이 존재하는지 확인
      */
-    Page<Novel> findAllByCategory(Category category, Pageable pageable);
+    boolean existsByNovelId(Long novelId);
 
     /**
-     * 제목 또는 작가명에 주어진 키워드가 포함된 소설을 검색
+     * 소설 목록을 작가명과 함께 한 번의 조인 쿼리로 페이징하여 조회
+     */
+    @Query(value = """
+                select new com.ian.novelviewer.novel.domain.NovelSummary(
+                    n.id, n.novelId, n.thumbnail, n.title, u.authorName, n.category, n.createdAt)
+                from Novel n
+                join n.author u
+            """,
+            countQuery = "select count(n) from Novel n")
+    Page<NovelSummary> findSummaries(Pageable pageable);
+
+    /**
+     * 주어진 카테고리에 해당하는 소설 목록을 작가명과 함께 페이징하여 조회
+     */
+    @Query(value = """
+                select new com.ian.novelviewer.novel.domain.NovelSummary(
+                    n.id, n.novelId, n.thumbnail, n.title, u.authorName, n.category, n.createdAt)
+                from Novel n
+                join n.author u
+                where n.category = :category
+            """,
+            countQuery = "select count(n) from Novel n where n.category = :category")
+    Page<NovelSummary> findSummariesByCategory(Category category, Pageable pageable);
+
+    /**
+     * 최신 등록순으로 첫 페이지를 조회 (count 쿼리 없이 Slice로 반환)
+     */
+    @Query("""
+                select new com.ian.novelviewer.novel.domain.NovelSummary(
+                    n.id, n.novelId, n.thumbnail, n.title, u.authorName, n.category, n.createdAt)
+                from Novel n
+                join n.author u
+                order by n.createdAt desc, n.id desc
+            """)
+    Slice<NovelSummary> findLatest(Pageable pageable);
+
+    /**
+     * 커서(createdAt, id) 이후의 소설을 최신 등록순으로 조회
+     */
+    @Query("""
+                select new com.ian.novelviewer.novel.domain.NovelSummary(
+                    n.id, n.novelId, n.thumbnail, n.title, u.authorName, n.category, n.createdAt)
+                from Novel n
+                join n.author u
+                where n.createdAt < :createdAt
+                   or (n.createdAt = :createdAt and n.id < :id)
+                order by n.createdAt desc, n.id desc
+            """)
+    Slice<NovelSummary> findLatestAfter(LocalDateTime createdAt, Long id, Pageable pageable);
+
+    /**
+     * 주어진 카테고리의 첫 페이지를 최신 등록순으로 조회
+     */
+    @Query("""
+                select new com.ian.novelviewer.novel.domain.NovelSummary(
+                    n.id, n.novelId, n.thumbnail, n.title, u.authorName, n.category, n.createdAt)
+                from Novel n
+                join n.author u
+                where n.category = :category
+                order by n.createdAt desc, n.id desc
+            """)
+    Slice<NovelSummary> findLatestByCategory(Category category, Pageable pageable);
+
+    /**
+     * 주어진 카테고리에서 커서(createdAt, id) 이후의 소설을 최신 등록순으로 조회
      */
     @Query("""
-                select distinct n from Novel n
+                select new com.ian.novelviewer.novel.domain.NovelSummary(
+                    n.id, n.novelId, n.thumbnail, n.title, u.authorName, n.category, n.createdAt)
+                from Novel n
+                join n.author u
+                where n.category = :category
+                  and (n.createdAt < :createdAt
+                   or (n.createdAt = :createdAt and n.id < :id))
+                order by n.createdAt desc, n.id desc
+            """)
+    Slice<NovelSummary> findLatestByCategoryAfter(Category category, LocalDateTime createdAt, Long id, Pageable pageable);
+
+    /**
+     * 제목 또는 작가명에 주어진 키워드가 포함된 소설을 검색
+     */
+    @Query(value = """
+                select new com.ian.novelviewer.novel.domain.NovelSummary(
+                    n.id, n.novelId, n.thumbnail, n.title, u.authorName, n.category, n.createdAt)
+                from Novel n
+                join n.author u
+                where n.title like concat('%', :keyword, '%')
+                   or u.authorName like concat('%', :keyword, '%')
+            """,
+            countQuery = """
+                select count(n) from Novel n
                 join n.author u
                 where n.title like concat('%', :keyword, '%')
                    or u.authorName like concat('%', :keyword, '%')
             """)
-    Page<Novel> findByTitleOrAuthorName(String keyword, Pageable pageable);
+    Page<NovelSummary> findByTitleOrAuthorName(String keyword, Pageable pageable);
+
+    /**
+     * 주어진 id(PK) 목록에 해당하는 소설을 작가명과 함께 조회
+     */
+    @Query("""
+                select new com.ian.novelviewer.novel.domain.NovelSummary(
+                    n.id, n.novelId, n.thumbnail, n.title, u.authorName, n.category, n.createdAt)
+                from Novel n
+                join n.author u
+                where n.id in :ids
+            """)
+    List<NovelSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    /**
+     * 주어진 소설 고유번호 목록(novelIds)에 해당하는 소설들을 작가명과 함께 조회 (순서는 보장하지 않음)
+     */
+    @Query("""
+                select new com.ian.novelviewer.novel.domain.NovelSummary(
+                    n.id, n.novelId, n.thumbnail, n.title, u.authorName, n.category, n.createdAt)
+                from Novel n
+                join n.author u
+                where n.novelId in :novelIds
+            """)
+    List<NovelSummary> findSummariesByNovelIds(Collection<Long> novelIds);
 
     /**
-     * 주어진 소설 고유번호 목록(novelIds)에 해당하는 소설들을 페이징하여 조회
+     * 검색 색인 구성을 위해 소설의 제목과 작가명을 id 오름차순으로 조회
      */
-    @Query("select n from Novel n where n.novelId in :novelIds")
-    Page<Novel> findAllByNovelIdIn(List<Long> novelIds, Pageable pageable);
-}
\ No newline at end of file
+    @Query("""
+                select n.id as id, n.title as title, u.id as authorId, u.authorName as authorName
+                from Novel n
+                join n.author u
+                where n.id > :lastId
+                order by n.id
+            """)
+    Slice<NovelSearchRow> findSearchRowsAfter(Long lastId, Pageable pageable);
+
+    /**
+     * 검색 색인 갱신을 위해 단일 소설의 제목과 작가명을 조회
+     */
+    @Query("""
+                select n.id as id, n.title as title, u.id as authorId, u.authorName as authorName
+                from Novel n
+                join n.author u
+                where n.id = :id
+            """)
+    Optional<NovelSearchRow> findSearchRowById(Long id);
+
+    /**
+     * 검색 색인 갱신을 위해 특정 작가의 소설 제목과 작가명을 조회
+     */
+    @Query("""
+                select n.id as id, n.title as title, u.id as authorId, u.authorName as authorName
+                from Novel n
+                join n.author u
+                where u.id = :authorId
+            """)
+    List<NovelSearchRow> findSearchRowsByAuthorId(Long authorId);
+}
@@ -0,0 +1,15 @@
+package com.ian.novelviewer.novel.domain;
+
+/**
+ * 검색 색인 구성에 필요한 소설 컬럼만 담는 프로젝션
+ */
+public interface NovelSearchRow {
+
+    Long getId();
+
+    String getTitle();
+
+    Long getAuthorId();
+
+    String getAuthorName();
+}
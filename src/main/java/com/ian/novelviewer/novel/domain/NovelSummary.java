@@ -0,0 +1,17 @@
+package com.ian.novelviewer.novel.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 소설 목록 응답에 필요한 컬럼만 작가 테이블과 조인하여 한 번에 조회하는 프로젝션
+ */
+public record NovelSummary(
+        Long id,
+        Long novelId,
+        String thumbnail,
+        String title,
+        String authorName,
+        Category category,
+        LocalDateTime createdAt
+) {
+}
@@ -2,6 +2,7 @@ package com.ian.novelviewer.novel.dto;
 
 import com.ian.novelviewer.novel.domain.Category;
 import com.ian.novelviewer.novel.domain.Novel;
+import com.ian.novelviewer.novel.domain.NovelSummary;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -62,15 +63,19 @@ public class NovelDto {
     @Builder
     public static class NovelResponse {
 
+        private Long novelId;
         private String thumbnail;
         private String title;
         private String author;
+        private Category category;
 
-        public static NovelResponse from(Novel novel) {
+        public static NovelResponse from(NovelSummary novel) {
             return NovelResponse.builder()
-                    .thumbnail(novel.getThumbnail())
-                    .title(novel.getTitle())
-                    .author(novel.getAuthor().getAuthorName())
+                    .novelId(novel.novelId())
+                    .thumbnail(novel.thumbnail())
+                    .title(novel.title())
+                    .author(novel.authorName())
+                    .category(novel.category())
                     .build();
         }
     }
@@ -87,6 +92,7 @@ public class NovelDto {
         private String description;
         private Category category;
         private String author;
+        private long bookmarkCount;
 
         public static NovelInfoResponse from(Novel novel) {
             return NovelInfoResponse.builder()
@@ -98,5 +104,45 @@ public class NovelDto {
                     .author(novel.getAuthor().getAuthorName())
                     .build();
         }
+
+        /**
+         * 북마크 수를 채운 사본을 반환합니다. 캐시된 인스턴스는 공유되므로 직접 수정하지 않습니다.
+         */
+        public NovelInfoResponse withBookmarkCount(long bookmarkCount) {
+            return NovelInfoResponse.builder()
+                    .novelId(novelId)
+                    .thumbnail(thumbnail)
+                    .title(title)
+                    .description(description)
+                    .category(category)
+                    .author(author)
+                    .bookmarkCount(bookmarkCount)
+                    .build();
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BookmarkRankingResponse {
+
+        private Long novelId;
+        private String thumbnail;
+        private String title;
+        private String author;
+        private Category category;
+        private long bookmarkCount;
+
+        public static BookmarkRankingResponse from(NovelSummary novel, long bookmarkCount) {
+            return BookmarkRankingResponse.builder()
+                    .novelId(novel.novelId())
+                    .thumbnail(novel.thumbnail())
+                    .title(novel.title())
+                    .author(novel.authorName())
+                    .category(novel.category())
+                    .bookmarkCount(bookmarkCount)
+                    .build();
+        }
     }
 }
\ No newline at end of file
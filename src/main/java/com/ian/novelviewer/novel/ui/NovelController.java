@@ -1,5 +1,6 @@
 package com.ian.novelviewer.novel.ui;
 
+import com.ian.novelviewer.common.paging.CursorResponse;
 import com.ian.novelviewer.common.security.CustomUserDetails;
 import com.ian.novelviewer.novel.application.NovelService;
 import com.ian.novelviewer.novel.domain.Category;
@@ -53,6 +54,54 @@ public class NovelController {
     }
 
 
+    /**
+     * 소설 목록을 커서 기반으로 최신 등록순 조회합니다.
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어지는 목록을 조회합니다.
+     *
+     * @param category (선택) 카테고리 필터
+     * @param cursor   (선택) 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param size     페이지 크기 (기본값: 10)
+     * @return 소설 목록과 다음 커서
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<?> getNovelsByCursor(
+            @RequestParam(name = "category", required = false) Category category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        log.info("GET /novels/cursor - 작품 목록 커서 조회 요청 (category={}, cursor={}, size={})", category, cursor, size);
+
+        CursorResponse<NovelDto.NovelResponse> response = novelService.getNovelsByCursor(category, cursor, size);
+
+        log.info("GET /novels/cursor - 조회 완료 ({}건, hasNext={})", response.getContent().size(), response.isHasNext());
+        return ResponseEntity.ok(response);
+    }
+
+
+    /**
+     * 북마크 수가 많은 순으로 소설 목록을 조회합니다.
+     *
+     * @param category (선택) 카테고리 필터, 없으면 전체 순위
+     * @param page     페이지 번호 (기본값: 0)
+     * @param size     페이지 크기 (기본값: 10)
+     * @return 북마크 수를 포함한 소설 목록 페이지
+     */
+    @GetMapping("/most-bookmarked")
+    public ResponseEntity<?> getMostBookmarked(
+            @RequestParam(name = "category", required = false) Category category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        log.info("GET /novels/most-bookmarked - 북마크 순위 조회 요청 (category={}, page={}, size={})", category, page, size);
+
+        Pageable pageable = getPageable(page, size);
+        Page<NovelDto.BookmarkRankingResponse> responses = novelService.getMostBookmarked(category, pageable);
+
+        log.info("GET /novels/most-bookmarked - 조회 완료 (총 {}건)", responses.getTotalElements());
+        return ResponseEntity.ok(responses);
+    }
+
+
     /**
      * 키워드를 이용하여 소설을 검색합니다.
      *
@@ -262,7 +311,7 @@ public class NovelController {
     ) {
         log.info("POST /novels/{}/bookmark - 북마크 요청 by {}", novelId, user.getUsername());
 
-        novelService.bookmark(novelId, user.getUser().getId());
+        novelService.bookmark(novelId, user.getUserId());
 
         log.info("POST /novels/{}/bookmark - 북마크 완료", novelId);
         return ResponseEntity.ok("작품을 선호 작품에 저장하였습니다.");
@@ -283,7 +332,7 @@ public class NovelController {
     ) {
         log.info("DELETE /novels/{}/bookmark - 북마크 해제 요청 by {}", novelId, user.getUsername());
 
-        novelService.unbookmark(novelId, user.getUser().getId());
+        novelService.unbookmark(novelId, user.getUserId());
 
         log.info("DELETE /novels/{}/bookmark - 북마크 해제 완료", novelId);
         return ResponseEntity.ok("작품을 선호 작품에서 삭제하였습니다.");
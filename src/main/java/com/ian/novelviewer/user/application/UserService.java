@@ -2,10 +2,13 @@ package com.ian.novelviewer.user.application;
 
 import com.ian.novelviewer.comment.domain.Comment;
 import com.ian.novelviewer.comment.domain.CommentRepository;
+import com.ian.novelviewer.comment.domain.UserCommentView;
 import com.ian.novelviewer.common.exception.CustomException;
-import com.ian.novelviewer.common.redis.RedisKeyUtil;
-import com.ian.novelviewer.novel.domain.Novel;
+import com.ian.novelviewer.common.paging.Cursor;
+import com.ian.novelviewer.common.paging.CursorResponse;
+import com.ian.novelviewer.novel.application.BookmarkService;
 import com.ian.novelviewer.novel.domain.NovelRepository;
+import com.ian.novelviewer.novel.domain.NovelSummary;
 import com.ian.novelviewer.user.domain.User;
 import com.ian.novelviewer.user.domain.UserRepository;
 import com.ian.novelviewer.user.dto.UserDto;
@@ -13,12 +16,16 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.ian.novelviewer.common.exception.ErrorCode.USER_NOT_FOUND;
 
@@ -30,7 +37,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final NovelRepository novelRepository;
     private final CommentRepository commentRepository;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final BookmarkService bookmarkService;
 
 
     /**
@@ -50,8 +57,9 @@ public class UserService {
 
 
     /**
-     * 주어진 사용자 ID를 기준으로 북마크한 소설 목록을 조회합니다.
-     * Redis에서 북마크 정보를 가져오고, 관련 소설을 조회하여 응답합니다.
+     * 주어진 사용자 ID를 기준으로 북마크한 소설 목록을 최신 북마크순으로 조회합니다.
+     * Redis Sorted Set에서 요청한 페이지의 소설 고유번호만 꺼내고, 해당 소설만 프로젝션 쿼리 한 번으로 조회합니다.
+     * 삭제되어 조회되지 않는 소설은 응답에서 제외하고 북마크에서도 제거합니다.
      *
      * @param userId   사용자 ID
      * @param pageable 페이징 정보
@@ -60,21 +68,31 @@ public class UserService {
     public Page<UserDto.BookmarksResponse> getBookmarks(Long userId, Pageable pageable) {
         log.debug("북마크 조회 요청 - userId: {}", userId);
 
-        String key = RedisKeyUtil.userBookmarkKey(userId);
-        Set<String> novelIdSet = redisTemplate.opsForSet().members(key);
+        BookmarkService.BookmarkPage bookmarks =
+                bookmarkService.page(userId, pageable.getOffset(), pageable.getPageSize());
 
-        if (novelIdSet == null || novelIdSet.isEmpty()) {
+        if (bookmarks.novelIds().isEmpty()) {
             log.debug("북마크 데이터 없음 - userId: {}", userId);
-            return Page.empty(pageable);
+            return new PageImpl<>(List.of(), pageable, bookmarks.total());
         }
 
-        List<Long> novelIds = novelIdSet.stream().map(Long::valueOf).toList();
-        log.debug("북마크된 소설 ID 목록 - userId: {}, novelIds: {}", userId, novelIds);
+        Map<Long, NovelSummary> novels = novelRepository.findSummariesByNovelIds(bookmarks.novelIds()).stream()
+                .collect(Collectors.toMap(NovelSummary::novelId, Function.identity()));
 
-        Page<Novel> novels = novelRepository.findAllByNovelIdIn(novelIds, pageable);
+        List<Long> missingIds = bookmarks.novelIds().stream().filter(id -> !novels.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
+            log.debug("삭제된 소설 북마크 제거 - userId: {}, novelIds: {}", userId, missingIds);
+            bookmarkService.removeAll(userId, missingIds);
+        }
+
+        List<UserDto.BookmarksResponse> responses = bookmarks.novelIds().stream()
+                .filter(novels::containsKey)
+                .map(id -> UserDto.BookmarksResponse.from(novels.get(id)))
+                .toList();
 
-        log.debug("북마크된 소설 조회 성공 - userId: {}, 조회된 개수: {}", userId, novels.getTotalElements());
-        return novels.map(UserDto.BookmarksResponse::from);
+        log.debug("북마크된 소설 조회 성공 - userId: {}, 조회된 개수: {}, 전체: {}",
+                userId, responses.size(), bookmarks.total());
+        return new PageImpl<>(responses, pageable, bookmarks.total() - missingIds.size());
     }
 
 
@@ -97,6 +115,34 @@ public class UserService {
     }
 
 
+    /**
+     * 사용자가 작성한 댓글을 최신순으로 커서 기반 조회합니다.
+     * 댓글, 회차 제목, 소설 제목을 프로젝션 쿼리 한 번으로 조회하며, 전체 개수는 세지 않습니다.
+     *
+     * @param userId 사용자 고유 ID
+     * @param cursor (선택) 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param size   페이지 크기
+     * @return 댓글 목록과 다음 커서
+     */
+    public CursorResponse<UserDto.ActivityResponse> getActivity(Long userId, String cursor, int size) {
+        log.debug("작성 댓글 커서 조회 요청 - userId: {}, cursor: {}, size: {}", userId, cursor, size);
+
+        Cursor last = Cursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<UserCommentView> comments = last == null
+                ? commentRepository.findUserComments(userId, pageable)
+                : commentRepository.findUserCommentsBefore(userId, last.sortKey(), last.id(), pageable);
+
+        log.debug("작성 댓글 조회 성공 - userId: {}, 조회 수: {}, hasNext: {}",
+                userId, comments.getNumberOfElements(), comments.hasNext());
+        return CursorResponse.of(
+                comments,
+                UserDto.ActivityResponse::from,
+                comment -> new Cursor(comment.createdAt(), comment.commentId())
+        );
+    }
+
+
     /**
      * 사용자가 작가 권한을 요청합니다.
      *
@@ -1,9 +1,10 @@
 package com.ian.novelviewer.user.dto;
 
 import com.ian.novelviewer.comment.domain.Comment;
+import com.ian.novelviewer.comment.domain.UserCommentView;
 import com.ian.novelviewer.common.enums.Role;
 import com.ian.novelviewer.novel.domain.Category;
-import com.ian.novelviewer.novel.domain.Novel;
+import com.ian.novelviewer.novel.domain.NovelSummary;
 import com.ian.novelviewer.user.domain.User;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -56,17 +57,19 @@ public class UserDto {
     @Builder
     public static class BookmarksResponse {
 
+        private Long novelId;
         private String title;
         private String thumbnail;
         private String author;
         private Category category;
 
-        public static BookmarksResponse from(Novel novel) {
+        public static BookmarksResponse from(NovelSummary novel) {
             return BookmarksResponse.builder()
-                    .title(novel.getTitle())
-                    .thumbnail(novel.getThumbnail())
-                    .author(novel.getAuthor().getAuthorName())
-                    .category(novel.getCategory())
+                    .novelId(novel.novelId())
+                    .title(novel.title())
+                    .thumbnail(novel.thumbnail())
+                    .author(novel.authorName())
+                    .category(novel.category())
                     .build();
         }
     }
@@ -89,6 +92,32 @@ public class UserDto {
         }
     }
 
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ActivityResponse {
+        private Long commentId;
+        private Long novelId;
+        private String novel;
+        private Long episodeId;
+        private String episode;
+        private String content;
+        private LocalDateTime createdAt;
+
+        public static UserDto.ActivityResponse from(UserCommentView comment) {
+            return ActivityResponse.builder()
+                    .commentId(comment.commentId())
+                    .novelId(comment.novelId())
+                    .novel(comment.novelTitle())
+                    .episodeId(comment.episodeId())
+                    .episode(comment.episodeTitle())
+                    .content(comment.content())
+                    .createdAt(comment.createdAt())
+                    .build();
+        }
+    }
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
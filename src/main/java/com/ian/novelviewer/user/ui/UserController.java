@@ -1,5 +1,6 @@
 package com.ian.novelviewer.user.ui;
 
+import com.ian.novelviewer.common.paging.CursorResponse;
 import com.ian.novelviewer.common.security.CustomUserDetails;
 import com.ian.novelviewer.user.application.UserService;
 import com.ian.novelviewer.user.dto.UserDto;
@@ -56,7 +57,7 @@ public class UserController {
             @RequestParam(defaultValue = "10") int size,
             @AuthenticationPrincipal CustomUserDetails user
     ) {
-        Long userId = user.getUser().getId();
+        Long userId = user.getUserId();
         log.info("북마크 조회 요청 수신 - userId: {}", userId);
 
         Pageable pageable = PageRequest.of(page, size);
@@ -93,6 +94,31 @@ public class UserController {
     }
 
 
+    /**
+     * 로그인한 사용자가 작성한 댓글을 최신순으로 커서 기반 조회합니다.
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어지는 목록을 조회합니다.
+     *
+     * @param cursor (선택) 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param size   페이지 크기 (기본값: 20)
+     * @param user   인증된 사용자 정보
+     * @return 작성 댓글 목록과 다음 커서
+     */
+    @GetMapping("/activity")
+    public ResponseEntity<?> getActivity(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails user
+    ) {
+        Long userId = user.getUserId();
+        log.info("작성 댓글 커서 조회 요청 수신 - userId: {}, cursor: {}, size: {}", userId, cursor, size);
+
+        CursorResponse<UserDto.ActivityResponse> response = userService.getActivity(userId, cursor, size);
+
+        log.info("작성 댓글 커서 조회 완료 - userId: {}, 조회 수: {}", userId, response.getContent().size());
+        return ResponseEntity.ok(response);
+    }
+
+
     /**
      * 로그인한 사용자가 작가 권한을 요청합니다.
      *
@@ -3,6 +3,9 @@ package com.ian.novelviewer.admin.application;
 import com.ian.novelviewer.user.dto.UserDto;
 import com.ian.novelviewer.common.exception.CustomException;
 import com.ian.novelviewer.common.exception.ErrorCode;
+import com.ian.novelviewer.common.security.AuthenticatedUserCache;
+import com.ian.novelviewer.novel.application.NovelInfoCache;
+import com.ian.novelviewer.novel.application.NovelSearchIndex;
 import com.ian.novelviewer.user.domain.User;
 import com.ian.novelviewer.user.domain.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +34,15 @@ class AdminServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    NovelSearchIndex novelSearchIndex;
+
+    @Mock
+    NovelInfoCache novelInfoCache;
+
+    @Mock
+    AuthenticatedUserCache authenticatedUserCache;
+
     User user;
 
     @BeforeEach
@@ -129,7 +129,7 @@ class AuthServiceTest {
 
         given(userRepository.findByLoginId("hong123")).willReturn(Optional.of(user));
         given(passwordEncoder.matches("pass1234", encodedPassword)).willReturn(true);
-        given(jwtProvider.generateToken("hong123", List.of(ROLE_USER))).willReturn("testToken");
+        given(jwtProvider.generateToken(null, "hong123", List.of(ROLE_USER))).willReturn("testToken");
 
         // when
         AuthDto.SignInResponse response = authService.signin(request);
@@ -0,0 +1,63 @@
+package com.ian.novelviewer.comment.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class BitmapCommentLikeStoreTest {
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @InjectMocks
+    BitmapCommentLikeStore bitmapCommentLikeStore;
+
+    @Test
+    @DisplayName("비트맵으로 전환된 댓글은 카운터와 비트로, 전환 전 댓글은 Set으로 상태를 계산한다.")
+    void getStates_reads_bitmap_and_set_comments() {
+        // given
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(Arrays.asList(
+                "0", "25000", 0L, false, true,  // 1: 비트맵 전환된 댓글
+                "3", null, 4L, true, false      // 2: Set으로 남아 있고 이월 좋아요가 있는 댓글
+        ));
+
+        // when
+        Map<Long, CommentLikeService.LikeState> states = bitmapCommentLikeStore.getStates(List.of(1L, 2L), 10L).states();
+
+        // then
+        assertThat(states.get(1L)).isEqualTo(new CommentLikeService.LikeState(25000, true));
+        assertThat(states.get(2L)).isEqualTo(new CommentLikeService.LikeState(7, true));
+    }
+
+    @Test
+    @DisplayName("비로그인 요청은 좋아요 수만 조회한다.")
+    void getStates_without_user_reads_counts_only() {
+        // given
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(Arrays.asList(
+                "0", "25000", 0L,
+                null, null, null
+        ));
+
+        // when
+        CommentLikeStore.LikeStates result = bitmapCommentLikeStore.getStates(List.of(1L, 2L), null);
+
+        // then
+        assertThat(result.states().get(1L)).isEqualTo(new CommentLikeService.LikeState(25000, false));
+        assertThat(result.states().get(2L)).isEqualTo(CommentLikeService.LikeState.EMPTY);
+        assertThat(result.unseeded()).containsExactly(2L);
+    }
+}
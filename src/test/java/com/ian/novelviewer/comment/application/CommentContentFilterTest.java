@@ -0,0 +1,88 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.common.exception.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentContentFilterTest {
+
+    @TempDir
+    Path directory;
+
+    File dictionary;
+    CommentContentFilter filter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dictionary = directory.resolve("words.txt").toFile();
+        write("# 금지어\n씨발\n");
+
+        filter = new CommentContentFilter();
+        ReflectionTestUtils.setField(filter, "dictionary", new FileSystemResource(dictionary));
+        filter.init();
+    }
+
+    @Test
+    @DisplayName("사전 파일의 수정 시각이 바뀌면 새 사전으로 교체한다.")
+    void reloads_when_dictionary_modified() throws IOException {
+        // given
+        assertThatCode(() -> filter.checkOrThrow("바카라 광고")).doesNotThrowAnyException();
+
+        long modified = dictionary.lastModified();
+        write("씨발\n바카라\n");
+        dictionary.setLastModified(modified + 2_000);
+
+        // when
+        filter.reloadIfModified();
+
+        // then
+        assertThatThrownBy(() -> filter.checkOrThrow("바카라 광고")).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    @DisplayName("수정 시각이 그대로면 사전을 다시 읽지 않는다.")
+    void keeps_dictionary_when_not_modified() throws IOException {
+        // given
+        long modified = dictionary.lastModified();
+        write("바카라\n");
+        dictionary.setLastModified(modified);
+
+        // when
+        filter.reloadIfModified();
+
+        // then
+        assertThatThrownBy(() -> filter.checkOrThrow("씨발")).isInstanceOf(CustomException.class);
+        assertThatCode(() -> filter.checkOrThrow("바카라")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("사전을 읽지 못하면 이전 사전을 유지한다.")
+    void keeps_previous_dictionary_when_reload_fails() {
+        // given
+        dictionary.delete();
+
+        // when
+        filter.reload();
+
+        // then
+        assertThatThrownBy(() -> filter.checkOrThrow("씨발")).isInstanceOf(CustomException.class);
+    }
+
+
+    private void write(String content) throws IOException {
+        Files.writeString(dictionary.toPath(), content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentFeedBackfillJobTest {
+
+    private static final String CHECKPOINT_KEY = RedisKeyUtil.commentFeedBackfillKey();
+
+    @Mock
+    CommentFeedBackfillService backfillService;
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    CommentFeedBackfillJob backfillJob;
+
+    @BeforeEach
+    void setUp() {
+        backfillJob = new CommentFeedBackfillJob(backfillService, redisTemplate);
+        ReflectionTestUtils.setField(backfillJob, "batchSize", 500);
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("Redis에 남은 마지막 id부터 이어서 처리하고, 처리한 배치의 마지막 id를 기록한다.")
+    void run_resumes_from_checkpoint() {
+        // given
+        given(valueOperations.get(CHECKPOINT_KEY)).willReturn("1500");
+        given(backfillService.backfillBatch(1500L, 500)).willReturn(2000L);
+
+        // when
+        backfillJob.run();
+
+        // then
+        verify(valueOperations).set(CHECKPOINT_KEY, "2000");
+    }
+
+    @Test
+    @DisplayName("대상이 소진되면 완료 표시를 남기고, 이후에는 조회하지 않는다.")
+    void run_marks_done_when_exhausted() {
+        // given
+        given(backfillService.backfillBatch(0L, 500)).willReturn(null);
+
+        // when
+        backfillJob.run();
+        backfillJob.run();
+
+        // then
+        verify(valueOperations).set(CHECKPOINT_KEY, "done");
+        verify(valueOperations).get(CHECKPOINT_KEY);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 완료 표시를 남겼으면 백필하지 않는다.")
+    void run_skips_when_done() {
+        // given
+        given(valueOperations.get(CHECKPOINT_KEY)).willReturn("done");
+
+        // when
+        backfillJob.run();
+
+        // then
+        verify(backfillService, never()).backfillBatch(anyLong(), anyInt());
+        verify(valueOperations, never()).set(anyString(), anyString());
+    }
+}
@@ -0,0 +1,91 @@
+package com.ian.novelviewer.comment.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ian.novelviewer.comment.domain.PendingComment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentIngestLogTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("기록한 댓글을 순서대로 읽고, 모두 저장되면 로그를 비운다.")
+    void append_read_commit() throws Exception {
+        // given
+        CommentIngestLog ingestLog = new CommentIngestLog(dir.toString(), objectMapper);
+        ingestLog.append(comment(1L, null));
+        ingestLog.append(comment(2L, 1L));
+        ingestLog.append(comment(3L, null));
+
+        // when
+        CommentIngestLog.Batch first = ingestLog.readBatch(2);
+        ingestLog.commit(first.endOffset());
+        CommentIngestLog.Batch second = ingestLog.readBatch(2);
+        ingestLog.commit(second.endOffset());
+
+        // then
+        assertThat(first.entries()).extracting(PendingComment::id).containsExactly(1L, 2L);
+        assertThat(first.entries().get(1).parentId()).isEqualTo(1L);
+        assertThat(second.entries()).extracting(PendingComment::id).containsExactly(3L);
+        assertThat(ingestLog.isEmpty()).isTrue();
+        assertThat(Files.size(dir.resolve("comments.log"))).isZero();
+        ingestLog.close();
+    }
+
+    @Test
+    @DisplayName("다시 열면 체크포인트 이후의 댓글부터 읽는다.")
+    void reopen_resumes_from_checkpoint() throws Exception {
+        // given
+        CommentIngestLog ingestLog = new CommentIngestLog(dir.toString(), objectMapper);
+        ingestLog.append(comment(1L, null));
+        ingestLog.append(comment(2L, null));
+        ingestLog.commit(ingestLog.readBatch(1).endOffset());
+        ingestLog.close();
+
+        // when
+        CommentIngestLog reopened = new CommentIngestLog(dir.toString(), objectMapper);
+        CommentIngestLog.Batch batch = reopened.readBatch(10);
+
+        // then
+        assertThat(batch.entries()).extracting(PendingComment::id).containsExactly(2L);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("기록 도중 종료되어 잘린 마지막 줄은 다시 열 때 버린다.")
+    void reopen_drops_torn_tail() throws Exception {
+        // given
+        CommentIngestLog ingestLog = new CommentIngestLog(dir.toString(), objectMapper);
+        ingestLog.append(comment(1L, null));
+        ingestLog.close();
+        Files.write(dir.resolve("comments.log"), "{\"id\":2,\"con".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        // when
+        CommentIngestLog reopened = new CommentIngestLog(dir.toString(), objectMapper);
+        reopened.append(comment(3L, null));
+        CommentIngestLog.Batch batch = reopened.readBatch(10);
+
+        // then
+        assertThat(batch.entries()).extracting(PendingComment::id).containsExactly(1L, 3L);
+        reopened.close();
+    }
+
+    private PendingComment comment(Long id, Long parentId) {
+        return new PendingComment(id, 1L, 1L, 10L, parentId, 100L, "writer", "content-" + id,
+                LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(id));
+    }
+}
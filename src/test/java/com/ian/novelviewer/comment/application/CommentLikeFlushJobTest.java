@@ -0,0 +1,91 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentLikeFlushJobTest {
+
+    private static final String DIRTY_KEY = RedisKeyUtil.commentLikeDirtyKey();
+
+    @Mock
+    CommentLikeService commentLikeService;
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    SetOperations<String, String> setOperations;
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    CommentLikeFlushJob flushJob;
+
+    @BeforeEach
+    void setUp() {
+        flushJob = new CommentLikeFlushJob(commentLikeService, redisTemplate, jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(flushJob, "batchSize", 100);
+
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        willAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("반영 대기 댓글의 현재 좋아요 수를 댓글과 댓글 피드에 배치 UPDATE로 기록한다.")
+    void run_writes_current_counts() {
+        // given
+        given(setOperations.pop(DIRTY_KEY, 100)).willReturn(List.of("1", "2"));
+        given(commentLikeService.getLikeCounts(List.of(1L, 2L))).willReturn(Map.of(1L, 5L, 2L, 0L));
+
+        // when
+        flushJob.run();
+
+        // then
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 꺼낸 댓글 ID를 대기 집합에 되돌린다.")
+    void run_restores_ids_on_failure() {
+        // given
+        given(setOperations.pop(DIRTY_KEY, 100)).willReturn(List.of("1", "2"));
+        given(commentLikeService.getLikeCounts(List.of(1L, 2L))).willReturn(Map.of(1L, 5L, 2L, 0L));
+        willThrow(new RuntimeException("db down")).given(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        // when
+        flushJob.run();
+
+        // then
+        verify(setOperations).add(DIRTY_KEY, "1", "2");
+    }
+}
@@ -0,0 +1,111 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 Redis에서 Set 저장 방식과 비트맵 저장 방식의 메모리 사용량을 비교합니다.
+ * LIKE_BENCHMARK_REDIS_HOST 환경 변수가 있을 때만 실행됩니다. (예: LIKE_BENCHMARK_REDIS_HOST=localhost ./gradlew test)
+ */
+@EnabledIfEnvironmentVariable(named = "LIKE_BENCHMARK_REDIS_HOST", matches = ".+")
+class CommentLikeMemoryBenchmarkTest {
+
+    private static final long SET_COMMENT_ID = -1L;
+    private static final long BITMAP_COMMENT_ID = -2L;
+    private static final int MAX_USER_ID = 10_000_000;
+    private static final int BATCH = 10_000;
+
+    LettuceConnectionFactory connectionFactory;
+    StringRedisTemplate redisTemplate;
+    SetCommentLikeStore setStore;
+    BitmapCommentLikeStore bitmapStore;
+
+    @BeforeEach
+    void setUp() {
+        String port = System.getenv().getOrDefault("LIKE_BENCHMARK_REDIS_PORT", "6379");
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(System.getenv("LIKE_BENCHMARK_REDIS_HOST"), Integer.parseInt(port)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        setStore = new SetCommentLikeStore(redisTemplate);
+        bitmapStore = new BitmapCommentLikeStore(redisTemplate);
+        ReflectionTestUtils.setField(bitmapStore, "promoteThreshold", 1L);
+
+        cleanUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("좋아요 20만 건인 댓글은 비트맵 저장 방식이 Set보다 메모리를 적게 사용한다.")
+    void viral_comment_uses_less_memory_as_bitmap() {
+        // given
+        long[] userIds = new Random(42).longs(200_000, 1, MAX_USER_ID).distinct().toArray();
+
+        // when
+        fillSet(SET_COMMENT_ID, userIds);
+        fillSet(BITMAP_COMMENT_ID, userIds);
+        bitmapStore.promote(BITMAP_COMMENT_ID);
+
+        long setBytes = memoryUsage(RedisKeyUtil.commentLikeKey(SET_COMMENT_ID));
+        long bitmapBytes = memoryUsage(RedisKeyUtil.commentLikeBitmapKey(BITMAP_COMMENT_ID))
+                + memoryUsage(RedisKeyUtil.commentLikeCountKey(BITMAP_COMMENT_ID));
+
+        // then
+        assertThat(bitmapBytes)
+                .as("좋아요 %d건 - set=%,d bytes, bitmap=%,d bytes", userIds.length, setBytes, bitmapBytes)
+                .isLessThan(setBytes);
+        assertThat(setStore.getStates(List.of(SET_COMMENT_ID), null).states().get(SET_COMMENT_ID).count())
+                .isEqualTo(bitmapStore.getStates(List.of(BITMAP_COMMENT_ID), null).states().get(BITMAP_COMMENT_ID).count());
+    }
+
+    private void fillSet(long commentId, long[] userIds) {
+        byte[] key = RedisKeyUtil.commentLikeKey(commentId).getBytes(StandardCharsets.UTF_8);
+
+        for (int from = 0; from < userIds.length; from += BATCH) {
+            int start = from;
+            int end = Math.min(from + BATCH, userIds.length);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = start; i < end; i++) {
+                    connection.setCommands().sAdd(key, String.valueOf(userIds[i]).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        }
+    }
+
+    private long memoryUsage(String key) {
+        Object usage = redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute(
+                "MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8)));
+        return usage == null ? 0 : ((Number) usage).longValue();
+    }
+
+    private void cleanUp() {
+        for (long commentId : new long[]{SET_COMMENT_ID, BITMAP_COMMENT_ID}) {
+            redisTemplate.delete(RedisKeyUtil.commentLikeKey(commentId));
+            redisTemplate.delete(RedisKeyUtil.commentLikeBitmapKey(commentId));
+            redisTemplate.delete(RedisKeyUtil.commentLikeCountKey(commentId));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.comment.domain.CommentRepository;
+import com.ian.novelviewer.comment.domain.LikeCount;
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CommentLikeServiceTest {
+
+    @Mock
+    CommentLikeStore commentLikeStore;
+
+    @Mock
+    CommentRepository commentRepository;
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    SetOperations<String, String> setOperations;
+
+    @InjectMocks
+    CommentLikeService commentLikeService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(commentLikeService, "seedTtl", Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("중복된 댓글 ID는 한 번만 조회한다.")
+    void getLikeStates_deduplicates_ids() {
+        // given
+        given(commentLikeStore.getStates(List.of(1L, 2L), 10L)).willReturn(new CommentLikeStore.LikeStates(Map.of(
+                1L, new CommentLikeService.LikeState(3, true),
+                2L, CommentLikeService.LikeState.EMPTY
+        ), List.of()));
+
+        // when
+        Map<Long, CommentLikeService.LikeState> states =
+                commentLikeService.getLikeStates(List.of(1L, 2L, 1L), 10L);
+
+        // then
+        assertThat(states).containsOnlyKeys(1L, 2L);
+        verifyNoInteractions(commentRepository, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("조회할 댓글이 없으면 저장소를 호출하지 않는다.")
+    void getLikeStates_with_no_ids_skips_store() {
+        // when
+        Map<Long, CommentLikeService.LikeState> states = commentLikeService.getLikeStates(List.of(), 10L);
+
+        // then
+        assertThat(states).isEmpty();
+        verifyNoInteractions(commentLikeStore);
+    }
+
+    @Test
+    @DisplayName("Redis에 좋아요 기록이 없는 댓글은 DB의 좋아요 수로 채워 반환한다.")
+    void getLikeStates_seeds_from_like_count() {
+        // given
+        given(commentLikeStore.getStates(List.of(1L, 2L), 10L)).willReturn(new CommentLikeStore.LikeStates(Map.of(
+                1L, new CommentLikeService.LikeState(1, true),
+                2L, CommentLikeService.LikeState.EMPTY
+        ), List.of(1L, 2L)));
+        given(commentRepository.findLikeCountsByIdIn(List.of(1L, 2L))).willReturn(List.of(new LikeCount(1L, 5L)));
+        givenPending("1", false);
+
+        // when
+        Map<Long, CommentLikeService.LikeState> states = commentLikeService.getLikeStates(List.of(1L, 2L), 10L);
+
+        // then
+        assertThat(states.get(1L)).isEqualTo(new CommentLikeService.LikeState(5, true));
+        assertThat(states.get(2L)).isEqualTo(CommentLikeService.LikeState.EMPTY);
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("DB 반영 대기 중인 댓글은 Redis가 최신이므로 DB의 좋아요 수를 더하지 않는다.")
+    void getLikeStates_skips_pending_comments() {
+        // given
+        given(commentLikeStore.getStates(List.of(1L), 10L)).willReturn(new CommentLikeStore.LikeStates(
+                Map.of(1L, new CommentLikeService.LikeState(2, false)), List.of(1L)));
+        given(commentRepository.findLikeCountsByIdIn(List.of(1L))).willReturn(List.of(new LikeCount(1L, 5L)));
+        givenPending("1", true);
+
+        // when
+        Map<Long, CommentLikeService.LikeState> states = commentLikeService.getLikeStates(List.of(1L), 10L);
+
+        // then
+        assertThat(states.get(1L)).isEqualTo(new CommentLikeService.LikeState(2, false));
+    }
+
+    @Test
+    @DisplayName("이월 좋아요 수가 없어 거절된 좋아요는 채운 뒤 다시 시도한다.")
+    void addLike_retries_after_seeding() {
+        // given
+        String rankingKey = RedisKeyUtil.commentRankingKey(1L, 1L);
+        given(commentLikeStore.add(7L, 10L, rankingKey))
+                .willReturn(null, new CommentLikeStore.LikeResult(true, 6));
+        given(commentLikeStore.getStates(List.of(7L), null)).willReturn(new CommentLikeStore.LikeStates(
+                Map.of(7L, CommentLikeService.LikeState.EMPTY), List.of(7L)));
+        given(commentRepository.findLikeCountsByIdIn(List.of(7L))).willReturn(List.of(new LikeCount(7L, 5L)));
+        givenPending("7", false);
+
+        // when
+        CommentLikeStore.LikeResult result = commentLikeService.addLike(1L, 1L, 7L, 10L);
+
+        // then
+        assertThat(result).isEqualTo(new CommentLikeStore.LikeResult(true, 6));
+        verify(commentLikeStore, times(2)).add(7L, 10L, rankingKey);
+    }
+
+
+    private void givenPending(String commentId, boolean pending) {
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.isMember(RedisKeyUtil.commentLikeDirtyKey(), commentId))
+                .willReturn(Map.of(commentId, pending));
+    }
+}
@@ -0,0 +1,226 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.comment.domain.Comment;
+import com.ian.novelviewer.comment.domain.CommentFeed;
+import com.ian.novelviewer.comment.domain.CommentFeedRepository;
+import com.ian.novelviewer.comment.domain.CommentRepository;
+import com.ian.novelviewer.comment.dto.CommentDto;
+import com.ian.novelviewer.common.security.CustomUserDetails;
+import com.ian.novelviewer.episode.domain.Episode;
+import com.ian.novelviewer.episode.domain.EpisodeRepository;
+import com.ian.novelviewer.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.ian.novelviewer.common.enums.Role.ROLE_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 댓글 작성/수정/삭제 시 비정규화된 댓글 피드(comment_feed)가 같은 흐름에서 함께 갱신되는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+
+    private static final Long NOVEL_ID = 1L;
+    private static final Long EPISODE_ID = 10L;
+    private static final Long PARENT_ID = 100L;
+    private static final Long REPLY_ID = 101L;
+    private static final String WRITER = "writer";
+
+    @Mock
+    CommentRepository commentRepository;
+
+    @Mock
+    CommentFeedRepository commentFeedRepository;
+
+    @Mock
+    EpisodeRepository episodeRepository;
+
+    @Mock
+    CommentRankingIndex commentRankingIndex;
+
+    @Mock
+    CommentLikeService commentLikeService;
+
+    @Mock
+    CommentStreamService commentStreamService;
+
+    @Mock
+    CommentContentFilter commentContentFilter;
+
+    CommentService commentService;
+
+    User writer;
+    CustomUserDetails writerDetails;
+
+    @BeforeEach
+    void setUp() {
+        commentService = new CommentService(commentRepository, commentFeedRepository, episodeRepository,
+                commentRankingIndex, commentLikeService, commentStreamService, commentContentFilter, Optional.empty());
+
+        writer = User.builder().loginId(WRITER).build();
+        writer.setId(7L);
+        writerDetails = new CustomUserDetails(7L, WRITER, List.of(ROLE_USER), id -> writer);
+    }
+
+    @Test
+    @DisplayName("원 댓글을 작성하면 댓글 피드에 추가하고 랭킹 색인에 등록한다.")
+    void create_parent_adds_feed() {
+        // given
+        given(episodeRepository.findByEpisodeIdAndNovel_NovelId(EPISODE_ID, NOVEL_ID))
+                .willReturn(Optional.of(Episode.builder().build()));
+        given(commentRepository.save(any(Comment.class))).willAnswer(invocation -> {
+            Comment saved = invocation.getArgument(0);
+            saved.setId(PARENT_ID);
+            return saved;
+        });
+
+        // when
+        commentService.createComment(NOVEL_ID, EPISODE_ID, createRequest(null, "첫 댓글"), writerDetails);
+
+        // then
+        ArgumentCaptor<CommentFeed> feed = ArgumentCaptor.forClass(CommentFeed.class);
+        verify(commentFeedRepository).save(feed.capture());
+        assertThat(feed.getValue().getCommentId()).isEqualTo(PARENT_ID);
+        assertThat(feed.getValue().getNovelId()).isEqualTo(NOVEL_ID);
+        assertThat(feed.getValue().getEpisodeId()).isEqualTo(EPISODE_ID);
+        assertThat(feed.getValue().getWriter()).isEqualTo(WRITER);
+        assertThat(feed.getValue().getContent()).isEqualTo("첫 댓글");
+        verify(commentRankingIndex).add(NOVEL_ID, EPISODE_ID, PARENT_ID);
+        verify(commentFeedRepository, never()).addReplyCount(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("대댓글을 작성하면 피드에 추가하지 않고 원 댓글의 대댓글 수를 올린다.")
+    void create_reply_increments_reply_count() {
+        // given
+        given(episodeRepository.findByEpisodeIdAndNovel_NovelId(EPISODE_ID, NOVEL_ID))
+                .willReturn(Optional.of(Episode.builder().build()));
+        givenComment(parent());
+        given(commentRepository.save(any(Comment.class))).willAnswer(invocation -> {
+            Comment saved = invocation.getArgument(0);
+            saved.setId(REPLY_ID);
+            return saved;
+        });
+
+        // when
+        commentService.createComment(NOVEL_ID, EPISODE_ID, createRequest(PARENT_ID, "대댓글"), writerDetails);
+
+        // then
+        verify(commentFeedRepository).addReplyCount(PARENT_ID, 1);
+        verify(commentFeedRepository, never()).save(any());
+        verify(commentRankingIndex, never()).add(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("원 댓글 내용을 수정하면 댓글 피드의 내용도 바꾼다.")
+    void update_parent_changes_feed_content() {
+        // given
+        Comment parent = parent();
+        CommentFeed feed = CommentFeed.builder().commentId(PARENT_ID).content("이전 내용").build();
+        givenComment(parent);
+        given(commentFeedRepository.findById(PARENT_ID)).willReturn(Optional.of(feed));
+        given(commentLikeService.getLikeStates(List.of(PARENT_ID), writer.getId()))
+                .willReturn(Map.of(PARENT_ID, CommentLikeService.LikeState.EMPTY));
+
+        // when
+        commentService.updateComment(NOVEL_ID, EPISODE_ID, PARENT_ID, updateRequest("바뀐 내용"), WRITER);
+
+        // then
+        assertThat(parent.getContent()).isEqualTo("바뀐 내용");
+        assertThat(feed.getContent()).isEqualTo("바뀐 내용");
+    }
+
+    @Test
+    @DisplayName("대댓글 내용을 수정하면 댓글 피드를 조회하지 않는다.")
+    void update_reply_skips_feed() {
+        // given
+        Comment reply = reply(parent());
+        givenComment(reply);
+        given(commentLikeService.getLikeStates(List.of(REPLY_ID), writer.getId()))
+                .willReturn(Map.of(REPLY_ID, CommentLikeService.LikeState.EMPTY));
+
+        // when
+        commentService.updateComment(NOVEL_ID, EPISODE_ID, REPLY_ID, updateRequest("바뀐 대댓글"), WRITER);
+
+        // then
+        assertThat(reply.getContent()).isEqualTo("바뀐 대댓글");
+        verify(commentFeedRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("원 댓글을 삭제하면 댓글 피드와 랭킹 색인에서 제거한다.")
+    void delete_parent_removes_feed() {
+        // given
+        Comment parent = parent();
+        givenComment(parent);
+
+        // when
+        commentService.deleteComment(NOVEL_ID, EPISODE_ID, PARENT_ID, writerDetails);
+
+        // then
+        verify(commentRepository).delete(parent);
+        verify(commentFeedRepository).deleteById(PARENT_ID);
+        verify(commentRankingIndex).remove(NOVEL_ID, EPISODE_ID, PARENT_ID);
+        verify(commentFeedRepository, never()).addReplyCount(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("대댓글을 삭제하면 원 댓글의 대댓글 수를 내린다.")
+    void delete_reply_decrements_reply_count() {
+        // given
+        Comment reply = reply(parent());
+        givenComment(reply);
+
+        // when
+        commentService.deleteComment(NOVEL_ID, EPISODE_ID, REPLY_ID, writerDetails);
+
+        // then
+        verify(commentFeedRepository).addReplyCount(PARENT_ID, -1);
+        verify(commentFeedRepository, never()).deleteById(any());
+    }
+
+
+    private void givenComment(Comment comment) {
+        given(commentRepository.findByIdAndEpisode_EpisodeIdAndEpisode_Novel_NovelId(comment.getId(), EPISODE_ID, NOVEL_ID))
+                .willReturn(Optional.of(comment));
+    }
+
+
+    private Comment parent() {
+        Comment parent = Comment.builder().content("원 댓글").user(writer).build();
+        parent.setId(PARENT_ID);
+        return parent;
+    }
+
+
+    private Comment reply(Comment parent) {
+        Comment reply = Comment.builder().content("대댓글").user(writer).parent(parent).build();
+        reply.setId(REPLY_ID);
+        return reply;
+    }
+
+
+    private static CommentDto.CreateCommentRequest createRequest(Long parentId, String content) {
+        return CommentDto.CreateCommentRequest.builder().parentId(parentId).content(content).build();
+    }
+
+
+    private static CommentDto.UpdateCommentRequest updateRequest(String content) {
+        return CommentDto.UpdateCommentRequest.builder().content(content).build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.ian.novelviewer.comment.application;
+
+import com.ian.novelviewer.comment.dto.CommentDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentStreamSubscriberTest {
+
+    @Mock
+    SseEmitter emitter;
+
+    @Test
+    @DisplayName("전송 작업이 실행 중이면 새 작업을 시작하지 않고, 좋아요 수는 댓글별 최신 값 하나로 합쳐 전송한다.")
+    void coalesces_likes_while_draining() throws Exception {
+        // given
+        CommentStreamSubscriber subscriber = new CommentStreamSubscriber(emitter, 10);
+
+        // when
+        boolean first = subscriber.offerLikes(Map.of(1L, 3L));
+        boolean second = subscriber.offerLikes(Map.of(1L, 4L, 2L, 1L));
+        subscriber.drain();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("버퍼를 넘는 새 댓글은 버리고, 대기 중인 댓글 대신 resync 이벤트 하나를 전송한다.")
+    void overflow_sends_resync() throws Exception {
+        // given
+        CommentStreamSubscriber subscriber = new CommentStreamSubscriber(emitter, 2);
+
+        // when
+        for (long id = 1; id <= 5; id++) {
+            subscriber.offerComment(null, CommentDto.CommentResponse.builder().id(id).build());
+        }
+        subscriber.drain();
+
+        // then
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("전송에 실패하면 구독을 종료하고 이후 이벤트를 받지 않는다.")
+    void closes_on_send_failure() throws Exception {
+        // given
+        CommentStreamSubscriber subscriber = new CommentStreamSubscriber(emitter, 10);
+        willThrow(new IOException("broken pipe")).given(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        subscriber.offerHeartbeat();
+        subscriber.drain();
+
+        // then
+        assertThat(subscriber.isClosed()).isTrue();
+        assertThat(subscriber.offerHeartbeat()).isFalse();
+        verify(emitter).completeWithError(any(IOException.class));
+    }
+}
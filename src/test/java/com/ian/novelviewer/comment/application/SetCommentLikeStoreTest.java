@@ -0,0 +1,79 @@
+package com.ian.novelviewer.comment.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SetCommentLikeStoreTest {
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @InjectMocks
+    SetCommentLikeStore setCommentLikeStore;
+
+    @Test
+    @DisplayName("로그인 사용자는 좋아요 수와 좋아요 여부를 한 번의 파이프라인으로 조회한다.")
+    void getLikeStates_reads_count_and_membership_in_one_pipeline() {
+        // given
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willReturn(Arrays.asList("0", 3L, true, "0", 0L, false, "2", 7L, false));
+
+        // when
+        Map<Long, CommentLikeService.LikeState> states =
+                setCommentLikeStore.getStates(List.of(1L, 2L, 3L), 10L).states();
+
+        // then
+        assertThat(states.get(1L)).isEqualTo(new CommentLikeService.LikeState(3, true));
+        assertThat(states.get(2L)).isEqualTo(new CommentLikeService.LikeState(0, false));
+        assertThat(states.get(3L)).isEqualTo(new CommentLikeService.LikeState(9, false));
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("비로그인 요청은 좋아요 수만 조회하고 좋아요 여부는 false로 채운다.")
+    void getLikeStates_without_user_reads_counts_only() {
+        // given
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willReturn(Arrays.asList("0", 5L, "0", null));
+
+        // when
+        Map<Long, CommentLikeService.LikeState> states = setCommentLikeStore.getStates(List.of(1L, 2L), null).states();
+
+        // then
+        assertThat(states.get(1L)).isEqualTo(new CommentLikeService.LikeState(5, false));
+        assertThat(states.get(2L)).isEqualTo(CommentLikeService.LikeState.EMPTY);
+    }
+
+    @Test
+    @DisplayName("이월 좋아요 수가 없는 댓글은 채워야 할 댓글로 함께 반환한다.")
+    void getLikeStates_reports_unseeded_comments() {
+        // given
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willReturn(Arrays.asList(null, 2L, "4", 1L));
+
+        // when
+        CommentLikeStore.LikeStates result = setCommentLikeStore.getStates(List.of(1L, 2L), null);
+
+        // then
+        assertThat(result.unseeded()).containsExactly(1L);
+        assertThat(result.states().get(1L)).isEqualTo(new CommentLikeService.LikeState(2, false));
+        assertThat(result.states().get(2L)).isEqualTo(new CommentLikeService.LikeState(5, false));
+    }
+}
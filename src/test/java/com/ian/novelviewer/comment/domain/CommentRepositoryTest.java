@@ -0,0 +1,225 @@
+package com.ian.novelviewer.comment.domain;
+
+import com.ian.novelviewer.common.config.JpaConfig;
+import com.ian.novelviewer.common.enums.Role;
+import com.ian.novelviewer.episode.domain.Episode;
+import com.ian.novelviewer.novel.domain.Category;
+import com.ian.novelviewer.novel.domain.Novel;
+import com.ian.novelviewer.user.domain.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.ian.novelviewer.common.enums.Role.ROLE_AUTHOR;
+import static com.ian.novelviewer.common.enums.Role.ROLE_USER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 스레드 조회 시 원 댓글 수에 비례하는 추가 쿼리(N+1)가 발생하지 않는지 SQL 실행 횟수로 검증합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(JpaConfig.class)
+class CommentRepositoryTest {
+
+    private static final int PARENT_COUNT = 10;
+    private static final int REPLY_COUNT = 5;
+    private static final int REPLY_LIMIT = 3;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    TestEntityManager em;
+
+    Statistics statistics;
+
+    List<Long> parentIds = new ArrayList<>();
+
+    Long readerId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        User author = em.persist(user("author", ROLE_AUTHOR));
+        Novel novel = em.persist(Novel.builder()
+                .novelId(1L)
+                .thumbnail("thumbnail")
+                .title("소설")
+                .description("설명")
+                .category(Category.FANTASY)
+                .author(author)
+                .build());
+        Episode episode = em.persist(Episode.builder()
+                .episodeId(1L)
+                .title("1화")
+                .content("본문")
+                .novel(novel)
+                .build());
+
+        List<User> readers = new ArrayList<>();
+        for (int i = 0; i < REPLY_COUNT; i++) {
+            readers.add(em.persist(user("reader" + i, ROLE_USER)));
+        }
+        readerId = readers.get(0).getId();
+
+        for (int i = 0; i < PARENT_COUNT; i++) {
+            Comment parent = em.persist(Comment.builder()
+                    .content("원 댓글 " + i)
+                    .user(readers.get(i % REPLY_COUNT))
+                    .episode(episode)
+                    .build());
+            parentIds.add(parent.getId());
+
+            for (int j = 0; j < REPLY_COUNT; j++) {
+                em.persist(Comment.builder()
+                        .content("대댓글 " + i + "-" + j)
+                        .user(readers.get(j))
+                        .episode(episode)
+                        .parent(parent)
+                        .build());
+            }
+        }
+
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("스레드 조회는 원 댓글 수와 관계없이 대댓글 id, 프로젝션, 대댓글 수 3개의 쿼리로 처리된다.")
+    void thread_view_uses_three_statements_regardless_of_parent_count() {
+        for (int size : new int[]{2, PARENT_COUNT}) {
+            // given
+            statistics.clear();
+            List<Long> pageParentIds = parentIds.subList(0, size);
+
+            // when
+            List<Long> ids = new ArrayList<>(pageParentIds);
+            ids.addAll(commentRepository.findTopReplyIds(pageParentIds, REPLY_LIMIT));
+            List<CommentView> views = commentRepository.findViewsByIdIn(ids);
+            Map<Long, Long> replyCounts = commentRepository.countRepliesByParentIdIn(pageParentIds).stream()
+                    .collect(Collectors.toMap(ReplyCount::parentId, ReplyCount::count));
+
+            // then
+            assertThat(views).hasSize(size * (1 + REPLY_LIMIT))
+                    .allSatisfy(view -> assertThat(view.writer()).startsWith("reader"));
+            assertThat(views.stream().filter(view -> view.parentId() != null)
+                    .collect(Collectors.groupingBy(CommentView::parentId, Collectors.counting())))
+                    .hasSize(size)
+                    .allSatisfy((parentId, count) -> assertThat(count).isEqualTo(REPLY_LIMIT));
+            assertThat(replyCounts).hasSize(size).containsValue((long) REPLY_COUNT);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("단일 댓글 조회는 대댓글 수와 관계없이 작성자까지 1개의 쿼리로 처리된다.")
+    void comment_with_replies_uses_one_statement() {
+        // given
+        Long parentId = parentIds.get(0);
+
+        // when
+        List<CommentView> views = commentRepository.findViewWithReplies(parentId, 1L, 1L);
+
+        // then
+        assertThat(views).hasSize(1 + REPLY_COUNT)
+                .allSatisfy(view -> assertThat(view.writer()).startsWith("reader"));
+        assertThat(views.get(0).id()).isEqualTo(parentId);
+        assertThat(views.subList(1, views.size()))
+                .allSatisfy(reply -> assertThat(reply.parentId()).isEqualTo(parentId));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 회차의 댓글 id로는 조회되지 않는다.")
+    void comment_with_replies_checks_episode() {
+        // when
+        List<CommentView> views = commentRepository.findViewWithReplies(parentIds.get(0), 2L, 1L);
+
+        // then
+        assertThat(views).isEmpty();
+    }
+
+    @Test
+    @DisplayName("더 보기 대댓글은 커서 이후부터 작성순으로 1개의 쿼리로 조회된다.")
+    void replies_after_cursor_use_one_statement() {
+        // given
+        Long parentId = parentIds.get(0);
+        Slice<CommentView> first = commentRepository.findReplies(parentId, PageRequest.of(0, REPLY_LIMIT));
+        CommentView last = first.getContent().get(REPLY_LIMIT - 1);
+        statistics.clear();
+
+        // when
+        Slice<CommentView> next = commentRepository.findRepliesAfter(
+                parentId, last.createdAt(), last.id(), PageRequest.of(0, REPLY_LIMIT));
+
+        // then
+        assertThat(first.hasNext()).isTrue();
+        assertThat(next.getContent()).hasSize(REPLY_COUNT - REPLY_LIMIT)
+                .allSatisfy(reply -> assertThat(reply.id()).isGreaterThan(last.id()));
+        assertThat(next.hasNext()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작성 댓글 목록은 회차, 소설 제목을 포함하여 페이지마다 1개의 쿼리로 최신순 조회된다.")
+    void user_comments_use_one_statement_per_page() {
+        // given
+        int pageSize = 5;
+        int expected = PARENT_COUNT / REPLY_COUNT + PARENT_COUNT;
+        List<UserCommentView> all = new ArrayList<>();
+
+        // when
+        Slice<UserCommentView> page = commentRepository.findUserComments(readerId, PageRequest.of(0, pageSize));
+        all.addAll(page.getContent());
+        while (page.hasNext()) {
+            UserCommentView last = page.getContent().get(page.getNumberOfElements() - 1);
+            statistics.clear();
+            page = commentRepository.findUserCommentsBefore(
+                    readerId, last.createdAt(), last.commentId(), PageRequest.of(0, pageSize));
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            all.addAll(page.getContent());
+        }
+
+        // then
+        assertThat(all).hasSize(expected)
+                .allSatisfy(comment -> {
+                    assertThat(comment.novelTitle()).isEqualTo("소설");
+                    assertThat(comment.episodeTitle()).isEqualTo("1화");
+                });
+        assertThat(all.stream().map(UserCommentView::commentId).distinct()).hasSize(expected);
+        assertThat(all).isSortedAccordingTo((a, b) -> b.createdAt().compareTo(a.createdAt()) != 0
+                ? b.createdAt().compareTo(a.createdAt())
+                : b.commentId().compareTo(a.commentId()));
+    }
+
+    private static User user(String loginId, Role role) {
+        return User.builder()
+                .loginId(loginId)
+                .password("encodedPassword")
+                .userName(loginId)
+                .email(loginId + "@example.com")
+                .roles(new ArrayList<>(List.of(role)))
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.ian.novelviewer.common.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickTest {
+
+    private final AhoCorasick automaton = AhoCorasick.compile(List.of("씨발", "병신", "바카라", "spam"));
+
+    @Test
+    @DisplayName("문장 중간에 포함된 금지어를 찾는다.")
+    void finds_word_in_text() {
+        // when
+        String word = automaton.findFirst("이 회차는 바카라 광고 같네요");
+
+        // then
+        assertThat(word).isEqualTo("바카라");
+    }
+
+    @Test
+    @DisplayName("공백, 기호, 자모 분리, 대소문자, 전각 문자로 우회한 금지어도 찾는다.")
+    void finds_obfuscated_words() {
+        // when & then
+        assertThat(automaton.findFirst("씨 . 발")).isEqualTo("씨발");
+        assertThat(automaton.findFirst("ㅆㅣ발")).isEqualTo("씨발");
+        assertThat(automaton.findFirst("병1신")).isEqualTo("병신");
+        assertThat(automaton.findFirst("S P A M")).isEqualTo("spam");
+        assertThat(automaton.findFirst("ｓｐａｍ")).isEqualTo("spam");
+    }
+
+    @Test
+    @DisplayName("공백으로 구분된 어절에 걸쳐 있는 문자열은 금지어로 보지 않는다.")
+    void ignores_matches_across_words() {
+        // when & then
+        assertThat(automaton.findFirst("질병 신고 부탁드립니다")).isNull();
+        assertThat(automaton.findFirst("아저씨 발이 커요")).isNull();
+        assertThat(automaton.findFirst("바 카라멜")).isNull();
+    }
+
+    @Test
+    @DisplayName("글자 중간(받침)에서 시작하는 자모열은 금지어로 보지 않는다.")
+    void requires_match_to_start_on_syllable() {
+        // given
+        AhoCorasick abbreviation = AhoCorasick.compile(List.of("ㅅㅂ"));
+
+        // when & then
+        assertThat(abbreviation.findFirst("갓바위에 올랐다")).isNull();
+        assertThat(abbreviation.findFirst("ㅅㅂ")).isEqualTo("ㅅㅂ");
+        assertThat(abbreviation.findFirst("ㅅ ㅂ")).isEqualTo("ㅅㅂ");
+    }
+
+    @Test
+    @DisplayName("실패 링크를 따라가며 겹쳐 있는 금지어를 찾는다.")
+    void follows_failure_links() {
+        // given
+        AhoCorasick overlapping = AhoCorasick.compile(List.of("abcd", "bc"));
+
+        // when & then
+        assertThat(overlapping.findFirst("xabce")).isEqualTo("bc");
+    }
+
+    @Test
+    @DisplayName("가장 긴 금지어가 조건에 맞지 않으면 출력 링크의 더 짧은 금지어를 찾는다.")
+    void follows_output_links() {
+        // given
+        AhoCorasick nested = AhoCorasick.compile(List.of("ㅏㅅㅂ", "ㅂ"));
+
+        // when & then
+        assertThat(nested.findFirst("갓바")).isEqualTo("ㅂ");
+    }
+
+    @Test
+    @DisplayName("금지어가 없으면 null을 반환한다.")
+    void returns_null_without_match() {
+        // when & then
+        assertThat(automaton.findFirst("다음 화도 기대됩니다!")).isNull();
+        assertThat(automaton.findFirst("")).isNull();
+        assertThat(AhoCorasick.compile(List.of()).findFirst("씨발")).isNull();
+    }
+}
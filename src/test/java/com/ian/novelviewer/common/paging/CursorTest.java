@@ -0,0 +1,46 @@
+package com.ian.novelviewer.common.paging;
+
+import com.ian.novelviewer.common.exception.CustomException;
+import com.ian.novelviewer.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class CursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서는 같은 값으로 복원된다.")
+    void encode_and_decode() {
+        // given
+        Cursor cursor = new Cursor(LocalDateTime.of(2025, 5, 1, 12, 30, 15, 123456000), 42L);
+
+        // when
+        Cursor decoded = Cursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 비어있으면 첫 페이지로 간주한다.")
+    void decode_empty_cursor() {
+        assertThat(Cursor.decode(null)).isNull();
+        assertThat(Cursor.decode("")).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 예외가 발생한다.")
+    void decode_invalid_cursor() {
+        // when
+        Throwable thrown = catchThrowable(() -> Cursor.decode("not-a-cursor"));
+
+        // then
+        assertThat(thrown).isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+}
@@ -18,11 +18,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 /**
  * JwtProvider 클래스의 단위 테스트입니다.
  * - 토큰 생성 및 유효성 검증
+ * - 토큰 클레임 추출
  * - 만료 토큰 처리
  */
 class JwtProviderTest {
     private static final Logger log = LoggerFactory.getLogger(JwtProviderTest.class);
 
+    private static final Long USER_ID = 1L;
     private static final String LOGIN_ID = "testid";
     private static final List<Role> ROLES = List.of(ROLE_USER);
 
@@ -49,7 +51,7 @@ class JwtProviderTest {
      * 유효한 JWT 토큰을 생성한 후, 해당 토큰이 정상적으로 검증되고
      * 사용자 ID를 정확히 추출할 수 있는지 테스트합니다.
      *
-     * @see JwtProvider#generateToken(String, List)
+     * @see JwtProvider#generateToken(Long, String, List)
      * @see JwtProvider#validateToken(String)
      * @see JwtProvider#getLoginId(String)
      */
@@ -59,7 +61,7 @@ class JwtProviderTest {
         // given
 
         // when
-        String token = jwtProvider.generateToken(LOGIN_ID, ROLES);
+        String token = jwtProvider.generateToken(USER_ID, LOGIN_ID, ROLES);
         boolean isValid = jwtProvider.validateToken(token);
         String extractedLoginId = jwtProvider.getLoginId(token);
 
@@ -71,12 +73,33 @@ class JwtProviderTest {
         assertThat(extractedLoginId).isEqualTo(LOGIN_ID);
     }
 
+    /**
+     * 토큰에 담긴 사용자 고유 ID, 로그인 ID, 권한을 DB 조회 없이 추출할 수 있는지 테스트합니다.
+     *
+     * @see JwtProvider#getTokenClaims(String)
+     */
+    @Test
+    @DisplayName("토큰 클레임에서 사용자 고유 ID와 권한을 추출해야 한다.")
+    void extractTokenClaims() {
+        // given
+        String token = jwtProvider.generateToken(USER_ID, LOGIN_ID, ROLES);
+
+        // when
+        JwtProvider.TokenClaims claims = jwtProvider.getTokenClaims(token);
+
+        // then
+        assertThat(claims.userId()).isEqualTo(USER_ID);
+        assertThat(claims.loginId()).isEqualTo(LOGIN_ID);
+        assertThat(claims.roles()).containsExactlyElementsOf(ROLES);
+        assertThat(claims.issuedAt()).isPositive();
+    }
+
     /**
      * 매우 짧은 유효 기간의 토큰을 생성한 후,
      * 만료 시간이 지난 후 검증을 수행하여 실패하는지 테스트합니다.
      *
      * @throws InterruptedException Thread.sleep 중 발생 가능
-     * @see JwtProvider#generateToken(String, List)
+     * @see JwtProvider#generateToken(Long, String, List)
      * @see JwtProvider#validateToken(String)
      */
     @Test
@@ -86,7 +109,7 @@ class JwtProviderTest {
         ReflectionTestUtils.setField(jwtProvider, "tokenValidityInMs", 1);
         jwtProvider.init();
 
-        String token = jwtProvider.generateToken(LOGIN_ID, ROLES);
+        String token = jwtProvider.generateToken(USER_ID, LOGIN_ID, ROLES);
 
         Thread.sleep(10);
 
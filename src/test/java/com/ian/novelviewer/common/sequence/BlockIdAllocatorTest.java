@@ -0,0 +1,80 @@
+package com.ian.novelviewer.common.sequence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BlockIdAllocatorTest {
+
+    private static final String SEQUENCE = "episode:1";
+
+    @Mock
+    IdBlockService idBlockService;
+
+    IdBlock idBlock;
+    BlockIdAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        idBlock = new IdBlock(SEQUENCE, 1L);
+        allocator = new BlockIdAllocator(idBlockService);
+
+        given(idBlockService.reserve(anyString(), anyInt(), any(LongSupplier.class)))
+                .willAnswer(invocation -> idBlock.reserve(
+                        invocation.<LongSupplier>getArgument(2).getAsLong(), invocation.getArgument(1)));
+    }
+
+    @Test
+    @DisplayName("예약한 구간이 남아있는 동안에는 DB에 접근하지 않고 번호를 발급한다.")
+    void next_uses_reserved_block() {
+        // when
+        long first = allocator.next(SEQUENCE, 10, () -> 1L);
+        long second = allocator.next(SEQUENCE, 10, () -> 1L);
+        long third = allocator.next(SEQUENCE, 10, () -> 1L);
+
+        // then
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isEqualTo(2L);
+        assertThat(third).isEqualTo(3L);
+        verify(idBlockService, times(1)).reserve(anyString(), anyInt(), any(LongSupplier.class));
+    }
+
+    @Test
+    @DisplayName("저장된 최대 번호가 시퀀스보다 앞서 있으면 그 이후부터 발급한다.")
+    void next_reseeds_from_floor() {
+        // when
+        long id = allocator.next(SEQUENCE, 10, () -> 42L);
+
+        // then
+        assertThat(id).isEqualTo(42L);
+        assertThat(idBlock.getNextValue()).isEqualTo(52L);
+    }
+
+    @Test
+    @DisplayName("남은 구간보다 많은 번호를 요청하면 연속된 구간을 새로 예약한다.")
+    void allocate_reserves_contiguous_range() {
+        // given
+        allocator.next(SEQUENCE, 5, () -> 1L);
+
+        // when
+        IdRange range = allocator.allocate(SEQUENCE, 100, 5, () -> 1L);
+
+        // then
+        assertThat(range.size()).isEqualTo(100L);
+        verify(idBlockService).release(SEQUENCE, new IdRange(2L, 6L));
+    }
+}
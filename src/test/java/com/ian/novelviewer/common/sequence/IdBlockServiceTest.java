@@ -0,0 +1,60 @@
+package com.ian.novelviewer.common.sequence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdBlockServiceTest {
+
+    private static final String SEQUENCE = "episode:1";
+
+    @InjectMocks
+    IdBlockService idBlockService;
+
+    @Mock
+    IdBlockRepository idBlockRepository;
+
+    @Test
+    @DisplayName("다른 요청이 시퀀스 행을 먼저 만들었으면 그 행을 다시 잠가 읽고 이어서 예약한다.")
+    void reserve_reads_row_created_concurrently() {
+        // given
+        IdBlock createdByOther = new IdBlock(SEQUENCE, 6L);
+        given(idBlockRepository.findForUpdate(SEQUENCE))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(createdByOther));
+        given(idBlockRepository.insertIfAbsent(SEQUENCE, 5L)).willReturn(0);
+
+        // when
+        IdRange range = idBlockService.reserveInCurrentTransaction(SEQUENCE, 1, () -> 5L);
+
+        // then
+        assertThat(range).isEqualTo(new IdRange(6L, 7L));
+        assertThat(createdByOther.getNextValue()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("시퀀스 행이 있으면 생성하지 않고 저장된 최대 번호 이후부터 예약한다.")
+    void reserve_uses_existing_row() {
+        // given
+        IdBlock block = new IdBlock(SEQUENCE, 3L);
+        given(idBlockRepository.findForUpdate(SEQUENCE)).willReturn(Optional.of(block));
+
+        // when
+        IdRange range = idBlockService.reserve(SEQUENCE, 10, () -> 8L);
+
+        // then
+        assertThat(range).isEqualTo(new IdRange(8L, 18L));
+        verify(idBlockRepository, never()).insertIfAbsent(SEQUENCE, 8L);
+    }
+}
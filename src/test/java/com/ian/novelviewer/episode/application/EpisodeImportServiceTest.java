@@ -0,0 +1,198 @@
+package com.ian.novelviewer.episode.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ian.novelviewer.common.exception.CustomException;
+import com.ian.novelviewer.common.exception.ErrorCode;
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.common.sequence.IdRange;
+import com.ian.novelviewer.episode.dto.EpisodeDto;
+import com.ian.novelviewer.novel.domain.Novel;
+import com.ian.novelviewer.novel.domain.NovelRepository;
+import com.ian.novelviewer.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EpisodeImportServiceTest {
+
+    private static final Long NOVEL_ID = 100L;
+    private static final Long NOVEL_PK = 1L;
+    private static final String AUTHOR = "author";
+    private static final String IMPORT_ID = "import-1";
+    private static final String PROGRESS_KEY = RedisKeyUtil.episodeImportKey(NOVEL_ID, IMPORT_ID);
+
+    @Mock
+    NovelRepository novelRepository;
+
+    @Mock
+    EpisodeIdGenerator episodeIdGenerator;
+
+    @Mock
+    EpisodeTocService episodeTocService;
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    HashOperations<String, Object, Object> hashOperations;
+
+    EpisodeImportService episodeImportService;
+
+    @BeforeEach
+    void setUp() {
+        episodeImportService = new EpisodeImportService(novelRepository, episodeIdGenerator, episodeTocService,
+                jdbcTemplate, transactionTemplate, redisTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(episodeImportService, "batchSize", 2);
+        ReflectionTestUtils.setField(episodeImportService, "progressTtl", Duration.ofHours(1));
+
+        Novel novel = Novel.builder()
+                .novelId(NOVEL_ID)
+                .author(User.builder().loginId(AUTHOR).build())
+                .build();
+        novel.setId(NOVEL_PK);
+        given(novelRepository.findByNovelId(NOVEL_ID)).willReturn(Optional.of(novel));
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 줄이 있으면 실패 상태와 실패한 줄 번호를 기록한다.")
+    void records_failed_line_on_invalid_line() {
+        // given
+        given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+        InputStream body = lines(episode(1), "{not json");
+
+        // when
+        Throwable thrown = catchThrowable(() -> episodeImportService.importEpisodes(NOVEL_ID, IMPORT_ID, body, AUTHOR));
+
+        // then
+        assertThat(thrown).isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_IMPORT_LINE);
+        verify(hashOperations).putAll(eq(PROGRESS_KEY), argThat(progress(EpisodeDto.ImportStatus.FAILED, "0", "2")));
+        verify(episodeIdGenerator, never()).allocate(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("여러 배치로 나누어 저장하고 배치마다 등록된 회차 수를 기록한다.")
+    void imports_in_batches_and_tracks_count() {
+        // given
+        given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+        givenIdsAndTransaction();
+        InputStream body = lines(episode(1), episode(2), "", episode(3), episode(4), episode(5));
+
+        // when
+        EpisodeDto.ImportResponse response = episodeImportService.importEpisodes(NOVEL_ID, IMPORT_ID, body, AUTHOR);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(EpisodeDto.ImportStatus.COMPLETED);
+        assertThat(response.getImported()).isEqualTo(5);
+        verify(episodeIdGenerator, times(2)).allocate(NOVEL_PK, 2);
+        verify(episodeIdGenerator).allocate(NOVEL_PK, 1);
+        verify(hashOperations).putAll(PROGRESS_KEY, Map.of("imported", "2"));
+        verify(hashOperations).putAll(PROGRESS_KEY, Map.of("imported", "4"));
+        verify(hashOperations).putAll(eq(PROGRESS_KEY), argThat(progress(EpisodeDto.ImportStatus.COMPLETED, "5", null)));
+        verify(episodeTocService).reset(NOVEL_ID);
+    }
+
+    @Test
+    @DisplayName("배치 저장 중 DB 오류가 나면 실패 상태를 기록하고 예외를 다시 던진다.")
+    void records_failure_when_batch_insert_fails() {
+        // given
+        given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+        givenIdsAndTransaction();
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willReturn(new int[]{1, 1})
+                .willThrow(new DataIntegrityViolationException("Data too long for column 'title'"));
+        InputStream body = lines(episode(1), episode(2), episode(3), episode(4));
+
+        // when
+        Throwable thrown = catchThrowable(() -> episodeImportService.importEpisodes(NOVEL_ID, IMPORT_ID, body, AUTHOR));
+
+        // then
+        assertThat(thrown).isInstanceOf(DataIntegrityViolationException.class);
+        verify(hashOperations).putAll(eq(PROGRESS_KEY), argThat(progress(EpisodeDto.ImportStatus.FAILED, "2", "4")));
+        verify(episodeTocService).reset(NOVEL_ID);
+    }
+
+    @Test
+    @DisplayName("다른 작가의 가져오기 진행 상황은 조회할 수 없다.")
+    void rejects_status_request_from_other_author() {
+        // when
+        Throwable thrown = catchThrowable(() -> episodeImportService.getImportStatus(NOVEL_ID, IMPORT_ID, "other"));
+
+        // then
+        assertThat(thrown).isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.NO_PERMISSION);
+        verify(redisTemplate, never()).opsForHash();
+    }
+
+
+    private void givenIdsAndTransaction() {
+        given(episodeIdGenerator.allocate(eq(NOVEL_PK), anyInt()))
+                .willAnswer(invocation -> new IdRange(1, 1 + (int) invocation.getArgument(1)));
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+
+    private static ArgumentMatcher<Map<? extends Object, ? extends Object>> progress(
+            EpisodeDto.ImportStatus status, String imported, String failedLine) {
+        return fields -> status.name().equals(fields.get("status"))
+                && imported.equals(fields.get("imported"))
+                && Objects.equals(failedLine, fields.get("failedLine"));
+    }
+
+
+    private static String episode(int number) {
+        return "{\"title\": \"" + number + "화\", \"content\": \"본문 " + number + "\"}";
+    }
+
+
+    private static InputStream lines(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
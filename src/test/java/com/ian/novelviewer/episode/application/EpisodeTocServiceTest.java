@@ -0,0 +1,131 @@
+package com.ian.novelviewer.episode.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.episode.domain.EpisodeRepository;
+import com.ian.novelviewer.episode.domain.EpisodeTitle;
+import com.ian.novelviewer.episode.dto.EpisodeDto;
+import com.ian.novelviewer.novel.domain.NovelRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EpisodeTocServiceTest {
+
+    private static final Long NOVEL_ID = 100L;
+
+    @Mock
+    NovelRepository novelRepository;
+
+    @Mock
+    EpisodeRepository episodeRepository;
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    @Mock
+    ListOperations<String, String> listOperations;
+
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    EpisodeTocService episodeTocService;
+
+    @BeforeEach
+    void setUp() {
+        episodeTocService = new EpisodeTocService(novelRepository, episodeRepository, redisTemplate, objectMapper);
+        ReflectionTestUtils.setField(episodeTocService, "localMaxSize", 100L);
+        ReflectionTestUtils.setField(episodeTocService, "localTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(episodeTocService, "changeLogSize", 10);
+        ReflectionTestUtils.setField(episodeTocService, "snapshotTtl", Duration.ofMinutes(10));
+        episodeTocService.init();
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌지 않았다면 두 번째 목차 조회는 DB를 조회하지 않는다.")
+    void getToc_uses_local_snapshot_while_version_unchanged() {
+        // given
+        given(valueOperations.get(RedisKeyUtil.episodeTocVersionKey(NOVEL_ID))).willReturn("5");
+        given(episodeRepository.findTocByNovelId(NOVEL_ID)).willReturn(List.of(
+                new EpisodeTitle(1L, 1L, "1화", LocalDateTime.now(), 1200),
+                new EpisodeTitle(2L, 2L, "2화", LocalDateTime.now(), 980)
+        ));
+
+        // when
+        EpisodeDto.TocResponse first = episodeTocService.getToc(NOVEL_ID);
+        EpisodeDto.TocResponse second = episodeTocService.getToc(NOVEL_ID);
+
+        // then
+        assertThat(first.getVersion()).isEqualTo(5L);
+        assertThat(second.getEpisodes()).extracting(EpisodeDto.TocEntry::getEpisodeId).containsExactly(1L, 2L);
+        verify(episodeRepository, times(1)).findTocByNovelId(NOVEL_ID);
+    }
+
+    @Test
+    @DisplayName("보관된 변경 내역으로 이어붙일 수 있으면 변경분만 오름차순으로 반환한다.")
+    void getChanges_returns_delta_when_log_covers_range() throws Exception {
+        // given
+        given(valueOperations.get(RedisKeyUtil.episodeTocVersionKey(NOVEL_ID))).willReturn("7");
+        given(redisTemplate.opsForList()).willReturn(listOperations);
+        given(listOperations.range(RedisKeyUtil.episodeTocChangesKey(NOVEL_ID), 0, -1))
+                .willReturn(List.of("7|" + deleteChange(3L), "6|" + deleteChange(2L), "5|" + deleteChange(1L)));
+
+        // when
+        EpisodeDto.TocChangesResponse response = episodeTocService.getChanges(NOVEL_ID, 5L);
+
+        // then
+        assertThat(response.isFull()).isFalse();
+        assertThat(response.getVersion()).isEqualTo(7L);
+        assertThat(response.getChanges()).extracting(EpisodeDto.TocChange::getVersion).containsExactly(6L, 7L);
+        assertThat(response.getChanges()).extracting(EpisodeDto.TocChange::getEpisodeId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("요청한 버전이 보관 범위보다 오래되었으면 전체 목차를 반환한다.")
+    void getChanges_returns_full_toc_when_log_is_trimmed() throws Exception {
+        // given
+        given(valueOperations.get(RedisKeyUtil.episodeTocVersionKey(NOVEL_ID))).willReturn("7");
+        given(redisTemplate.opsForList()).willReturn(listOperations);
+        given(listOperations.range(RedisKeyUtil.episodeTocChangesKey(NOVEL_ID), 0, -1))
+                .willReturn(List.of("7|" + deleteChange(3L)));
+        given(episodeRepository.findTocByNovelId(NOVEL_ID)).willReturn(List.of(
+                new EpisodeTitle(1L, 1L, "1화", LocalDateTime.now(), 1200)
+        ));
+
+        // when
+        EpisodeDto.TocChangesResponse response = episodeTocService.getChanges(NOVEL_ID, 3L);
+
+        // then
+        assertThat(response.isFull()).isTrue();
+        assertThat(response.getVersion()).isEqualTo(7L);
+        assertThat(response.getEpisodes()).hasSize(1);
+    }
+
+    private String deleteChange(Long episodeId) throws Exception {
+        return objectMapper.writeValueAsString(EpisodeDto.TocChange.builder()
+                .type(EpisodeDto.TocChange.ChangeType.DELETE)
+                .episodeId(episodeId)
+                .build());
+    }
+}
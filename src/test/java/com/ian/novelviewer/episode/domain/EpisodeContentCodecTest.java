@@ -0,0 +1,59 @@
+package com.ian.novelviewer.episode.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EpisodeContentCodecTest {
+
+    @Test
+    @DisplayName("긴 본문은 gzip으로 압축 저장하고 원문으로 복원한다.")
+    void encode_compresses_long_content() {
+        // given
+        String content = "그는 천천히 검을 들어 올렸다. 새벽의 공기가 차가웠다.\n".repeat(100);
+
+        // when
+        byte[] data = EpisodeContentCodec.encode(content);
+
+        // then
+        assertThat(EpisodeContentCodec.codec(data)).isEqualTo(EpisodeContentCodec.GZIP);
+        assertThat(data.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(EpisodeContentCodec.decode(data)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("짧은 본문은 압축하지 않고 원문으로 저장한다.")
+    void encode_keeps_short_content_raw() {
+        // given
+        String content = "짧은 회차";
+
+        // when
+        byte[] data = EpisodeContentCodec.encode(content);
+
+        // then
+        assertThat(EpisodeContentCodec.codec(data)).isEqualTo(EpisodeContentCodec.RAW);
+        assertThat(EpisodeContentCodec.decode(data)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("압축 저장된 회차의 본문은 그대로 조회된다.")
+    void episode_content_is_transparent() {
+        // given
+        String content = "첫 문장.\n".repeat(500);
+
+        // when
+        Episode episode = Episode.builder()
+                .episodeId(1L)
+                .title("1화")
+                .content(content)
+                .build();
+
+        // then
+        assertThat(episode.getContent()).isEqualTo(content);
+        assertThat(episode.getContentLength()).isEqualTo(content.length());
+        assertThat(EpisodeContentCodec.codec(episode.getContentData())).isEqualTo(EpisodeContentCodec.GZIP);
+    }
+}
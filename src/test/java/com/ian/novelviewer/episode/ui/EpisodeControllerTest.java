@@ -0,0 +1,35 @@
+package com.ian.novelviewer.episode.ui;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EpisodeControllerTest {
+
+    @Test
+    @DisplayName("gzip을 명시하면 *보다 우선한다.")
+    void explicit_gzip_takes_precedence_over_wildcard() {
+        assertThat(EpisodeController.acceptsGzip("*;q=0, gzip")).isTrue();
+        assertThat(EpisodeController.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(EpisodeController.acceptsGzip("br, *;q=0.1")).isTrue();
+        assertThat(EpisodeController.acceptsGzip("*;q=0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("q=0인 gzip은 거부로 처리하고, 그 외의 q 값과 대소문자는 허용한다.")
+    void rejects_gzip_with_zero_quality() {
+        assertThat(EpisodeController.acceptsGzip("gzip")).isTrue();
+        assertThat(EpisodeController.acceptsGzip("deflate, GZIP")).isTrue();
+        assertThat(EpisodeController.acceptsGzip("gzip;q=0.5")).isTrue();
+        assertThat(EpisodeController.acceptsGzip("gzip; q=0.000")).isFalse();
+        assertThat(EpisodeController.acceptsGzip("identity;q=1, gzip;q=0")).isFalse();
+    }
+
+    @Test
+    @DisplayName("gzip과 *가 모두 없거나 헤더가 없으면 압축하지 않는다.")
+    void rejects_when_gzip_not_listed() {
+        assertThat(EpisodeController.acceptsGzip("deflate, br")).isFalse();
+        assertThat(EpisodeController.acceptsGzip(null)).isFalse();
+    }
+}
@@ -0,0 +1,143 @@
+package com.ian.novelviewer.notification.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ian.novelviewer.common.paging.CursorResponse;
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.notification.domain.EpisodeRelease;
+import com.ian.novelviewer.notification.dto.NotificationDto;
+import com.ian.novelviewer.novel.application.BookmarkService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long SMALL_NOVEL = 100L;
+    private static final Long POPULAR_NOVEL = 200L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Mock
+    BookmarkService bookmarkService;
+
+    @Mock
+    NotificationFanout notificationFanout;
+
+    @Mock
+    PullNovelRegistry pullNovelRegistry;
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService(bookmarkService, notificationFanout, pullNovelRegistry, redisTemplate, objectMapper);
+        ReflectionTestUtils.setField(notificationService, "pushThreshold", 10L);
+        ReflectionTestUtils.setField(notificationService, "releaseFeedMaxSize", 100L);
+
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("알림함과 병합 대상 소설의 공개 목록을 합쳐 중복 없이 최신순으로 반환하고 다음 커서를 만든다.")
+    void merges_inbox_and_pulled_releases() throws Exception {
+        // given
+        EpisodeRelease pushed = release(10L, SMALL_NOVEL, 1);
+        EpisodeRelease pulledNew = release(20L, POPULAR_NOVEL, 3);
+        EpisodeRelease pulledOld = release(21L, POPULAR_NOVEL, 2);
+
+        given(zSetOperations.reverseRangeByScoreWithScores(
+                eq(RedisKeyUtil.userInboxKey(USER_ID)), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .willReturn(tuples(pushed, pulledNew));
+        given(pullNovelRegistry.findBookmarked(USER_ID)).willReturn(Map.of(POPULAR_NOVEL, 0L));
+        given(zSetOperations.reverseRangeByScoreWithScores(
+                eq(RedisKeyUtil.novelReleasesKey(POPULAR_NOVEL)), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .willReturn(tuples(pulledNew, pulledOld));
+        given(valueOperations.multiGet(anyList())).willAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            Map<String, EpisodeRelease> stored = Map.of(
+                    RedisKeyUtil.notificationKey(10L), pushed,
+                    RedisKeyUtil.notificationKey(20L), pulledNew,
+                    RedisKeyUtil.notificationKey(21L), pulledOld);
+
+            List<String> values = new ArrayList<>();
+            for (String key : keys) {
+                values.add(objectMapper.writeValueAsString(stored.get(key)));
+            }
+            return values;
+        });
+
+        // when
+        CursorResponse<NotificationDto.NotificationResponse> response =
+                notificationService.getNotifications(USER_ID, null, 2);
+
+        // then
+        assertThat(response.getContent())
+                .extracting(NotificationDto.NotificationResponse::getEpisodeId)
+                .containsExactly(20L, 21L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차 전송 작업을 받지 못하면 소설을 조회 시점 병합 대상으로 표시한다.")
+    void falls_back_to_pull_when_queue_is_full() {
+        // given
+        EpisodeRelease release = release(10L, SMALL_NOVEL, 1);
+        given(bookmarkService.getCount(SMALL_NOVEL)).willReturn(3L);
+        given(notificationFanout.submit(release)).willReturn(false);
+
+        // when
+        notificationService.publishEpisode(release);
+
+        // then
+        verify(pullNovelRegistry).mark(SMALL_NOVEL);
+    }
+
+
+    private static EpisodeRelease release(Long id, Long novelId, int minutes) {
+        return new EpisodeRelease(id, novelId, "소설" + novelId, id, id + "화", BASE.plusMinutes(minutes));
+    }
+
+
+    private static Set<ZSetOperations.TypedTuple<String>> tuples(EpisodeRelease... releases) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        for (EpisodeRelease release : releases) {
+            tuples.add(new DefaultTypedTuple<>(release.id().toString(),
+                    (double) NotificationService.toMillis(release.releasedAt())));
+        }
+        return tuples;
+    }
+}
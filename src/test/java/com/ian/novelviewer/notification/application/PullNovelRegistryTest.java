@@ -0,0 +1,114 @@
+package com.ian.novelviewer.notification.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.novel.application.BookmarkService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PullNovelRegistryTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String KEY = RedisKeyUtil.notificationPullNovelsKey();
+
+    @Mock
+    BookmarkService bookmarkService;
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    ZSetOperations<String, String> zSetOperations;
+
+    PullNovelRegistry pullNovelRegistry;
+
+    @BeforeEach
+    void setUp() {
+        pullNovelRegistry = new PullNovelRegistry(bookmarkService, redisTemplate);
+        ReflectionTestUtils.setField(pullNovelRegistry, "retention", Duration.ofDays(30));
+        ReflectionTestUtils.setField(pullNovelRegistry, "maxMergedNovels", 2);
+
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("북마크가 병합 대상보다 적으면 만료된 소설을 정리한 뒤 북마크한 소설의 병합 여부만 확인한다.")
+    void checks_bookmarks_when_user_has_fewer() {
+        // given
+        given(zSetOperations.zCard(KEY)).willReturn(1000L);
+        given(bookmarkService.countByUser(USER_ID)).willReturn(2L);
+        given(bookmarkService.getAllBookmarkedAt(USER_ID)).willReturn(Map.of(10L, 100L, 20L, 200L));
+        given(zSetOperations.score(eq(KEY), any(Object[].class))).willAnswer(invocation -> {
+            Object[] arguments = invocation.getArguments();
+            List<Double> scores = new ArrayList<>();
+            for (int i = 1; i < arguments.length; i++) {
+                scores.add("20".equals(arguments[i]) ? Double.MAX_VALUE : null);
+            }
+            return scores;
+        });
+
+        // when
+        Map<Long, Long> bookmarked = pullNovelRegistry.findBookmarked(USER_ID);
+
+        // then
+        assertThat(bookmarked).containsExactly(Map.entry(20L, 200L));
+        verify(zSetOperations).removeRangeByScore(eq(KEY), eq(Double.NEGATIVE_INFINITY), anyDouble());
+        verify(bookmarkService, never()).getBookmarkedAt(eq(USER_ID), anyList());
+    }
+
+    @Test
+    @DisplayName("병합 대상이 더 적으면 병합 대상 소설의 북마크 시각을 조회하고, 최근 공개순으로 병합 수를 제한한다.")
+    void limits_merged_novels_to_most_recent() {
+        // given
+        given(zSetOperations.zCard(KEY)).willReturn(3L);
+        given(bookmarkService.countByUser(USER_ID)).willReturn(500L);
+        Set<ZSetOperations.TypedTuple<String>> pullNovels = new LinkedHashSet<>(List.of(
+                new DefaultTypedTuple<>("10", 1_000.0),
+                new DefaultTypedTuple<>("20", 3_000.0),
+                new DefaultTypedTuple<>("30", 2_000.0)));
+        given(zSetOperations.rangeByScoreWithScores(eq(KEY), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                .willReturn(pullNovels);
+        given(bookmarkService.getBookmarkedAt(eq(USER_ID), anyList()))
+                .willReturn(Map.of(10L, 1L, 20L, 2L, 30L, 3L));
+
+        // when
+        Map<Long, Long> bookmarked = pullNovelRegistry.findBookmarked(USER_ID);
+
+        // then
+        assertThat(bookmarked).containsExactly(Map.entry(20L, 2L), Map.entry(30L, 3L));
+    }
+
+    @Test
+    @DisplayName("병합 대상이 모두 만료되었으면 북마크를 조회하지 않는다.")
+    void returns_empty_when_all_expired() {
+        // given
+        given(zSetOperations.zCard(KEY)).willReturn(0L);
+
+        // when
+        Map<Long, Long> bookmarked = pullNovelRegistry.findBookmarked(USER_ID);
+
+        // then
+        assertThat(bookmarked).isEmpty();
+        verify(bookmarkService, never()).countByUser(USER_ID);
+    }
+}
@@ -0,0 +1,123 @@
+package com.ian.novelviewer.novel.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BigramIndexTest {
+
+    private static final List<String> TITLES = List.of(
+            "전지적 독자 시점", "독자의 시점", "시점 전환 독자", "Solo Leveling",
+            "나 혼자만 레벨업", "레벨업 하는 독자", "시점 독자");
+
+    private static final List<Long> AUTHOR_IDS = List.of(10L, 20L, 10L, 30L, 30L, 40L, 50L);
+
+    private static final List<String> AUTHOR_NAMES = List.of(
+            "싱숑", "독자작가", "싱숑", "Chugong", "추공", "LEVEL", "자시");
+
+    BigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BigramIndex();
+        index.putAll(LongStream.rangeClosed(1, TITLES.size())
+                .mapToObj(id -> BigramIndex.Document.of(id, title(id), AUTHOR_IDS.get((int) id - 1), authorName(id)))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("여러 바이그램의 교집합 중 원문에 연속으로 포함된 문서만 최신순으로 반환한다.")
+    void search_intersects_bigrams_and_verifies_contiguous_match() {
+        // when
+        long[] ids = index.search("독자 시점");
+
+        // then
+        // 7번은 제목('시점독자')과 작가명('자시')에 '독자', '자시', '시점'을 모두 가져 후보가 되지만, 연속으로 포함되지 않아 걸러진다.
+        assertThat(ids).containsExactly(1L);
+        assertThat(index.search("독자")).containsExactly(7L, 6L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 전체 문서를 순회해 제목이나 작가명에 포함된 문서를 찾는다.")
+    void search_single_character() {
+        // when
+        long[] ids = index.search("숑");
+
+        // then
+        assertThat(ids).containsExactly(3L, 1L);
+        assertThat(index.search(" ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("작가명이 바뀌어 다시 색인하면 이전 작가명으로는 검색되지 않는다.")
+    void reindex_author_replaces_author_name() {
+        // when
+        index.putAll(index.idsByAuthor(10L).stream()
+                .map(id -> BigramIndex.Document.of(id, title(id), 10L, "새필명"))
+                .toList());
+
+        // then
+        assertThat(index.idsByAuthor(10L)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("싱숑")).isEmpty();
+        assertThat(index.search("새필명")).containsExactly(3L, 1L);
+        assertThat(index.search("전지적")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("문서를 제거하면 검색 결과와 작가별 목록에서 빠진다.")
+    void remove_detaches_document() {
+        // when
+        index.remove(1L);
+
+        // then
+        assertThat(index.size()).isEqualTo(TITLES.size() - 1);
+        assertThat(index.search("전지적")).isEmpty();
+        assertThat(index.search("싱숑")).containsExactly(3L);
+        assertThat(index.idsByAuthor(10L)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("공백 없는 검색어는 DB의 LIKE 검색과 같은 문서를 같은 순서로 반환한다.")
+    void search_matches_like_fallback() {
+        // given
+        List<String> keywords = List.of("독자", "시점", "자시", "자의", "레벨", "level", "LeVeL", "solo",
+                "업", "공", "전지적", "없는검색어");
+
+        for (String keyword : keywords) {
+            // when
+            long[] ids = index.search(keyword);
+
+            // then
+            assertThat(ids).as("keyword='%s'", keyword).containsExactly(like(keyword));
+        }
+    }
+
+
+    /**
+     * NovelRepository.findByTitleOrAuthorName의 title/authorName like '%keyword%' 조건을
+     * 대소문자를 구분하지 않는 collation 기준으로 흉내 내고, 최신순으로 정렬합니다.
+     */
+    private static long[] like(String keyword) {
+        String lowered = keyword.toLowerCase(Locale.ROOT);
+        return LongStream.iterate(TITLES.size(), id -> id >= 1, id -> id - 1)
+                .filter(id -> title(id).toLowerCase(Locale.ROOT).contains(lowered)
+                        || authorName(id).toLowerCase(Locale.ROOT).contains(lowered))
+                .toArray();
+    }
+
+
+    private static String title(long id) {
+        return TITLES.get((int) id - 1);
+    }
+
+
+    private static String authorName(long id) {
+        return AUTHOR_NAMES.get((int) id - 1);
+    }
+}
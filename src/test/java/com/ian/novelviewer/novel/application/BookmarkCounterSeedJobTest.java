@@ -0,0 +1,100 @@
+package com.ian.novelviewer.novel.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.novel.domain.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookmarkCounterSeedJobTest {
+
+    private static final String MARKER_KEY = RedisKeyUtil.novelBookmarkCountSeededKey();
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    @Mock
+    ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    BookmarkCounterSeedJob seedJob;
+
+    @BeforeEach
+    void setUp() {
+        seedJob = new BookmarkCounterSeedJob(redisTemplate, jdbcTemplate);
+        ReflectionTestUtils.setField(seedJob, "reverseIndexEnabled", false);
+        ReflectionTestUtils.setField(seedJob, "batchSize", 100);
+        ReflectionTestUtils.setField(seedJob, "lockTtl", Duration.ofMinutes(10));
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("MySQL 집계는 임시 키에 채운 뒤 실시간 집계와 큰 값을 택해 합친다.")
+    void run_merges_seeded_counts_into_live_counters() {
+        // given
+        given(valueOperations.setIfAbsent(eq(MARKER_KEY), anyString(), any(Duration.class))).willReturn(true);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+        // when
+        seedJob.run();
+
+        // then
+        verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        String countKey = RedisKeyUtil.novelBookmarkCountKey();
+        verify(zSetOperations).unionAndStore(countKey,
+                List.of(RedisKeyUtil.novelBookmarkSeedingKey(countKey)), countKey, Aggregate.MAX);
+
+        for (Category category : Category.values()) {
+            String rankingKey = RedisKeyUtil.novelBookmarkRankingKey(category.name());
+            String seedingKey = RedisKeyUtil.novelBookmarkSeedingKey(rankingKey);
+            verify(zSetOperations).unionAndStore(rankingKey, List.of(seedingKey), rankingKey, Aggregate.MAX);
+            verify(redisTemplate).delete(seedingKey);
+        }
+
+        verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+        verify(valueOperations).set(MARKER_KEY, "done");
+    }
+
+    @Test
+    @DisplayName("이미 집계를 채웠으면 다시 채우지 않는다.")
+    void run_skips_when_already_seeded() {
+        // given
+        given(valueOperations.get(MARKER_KEY)).willReturn("done");
+
+        // when
+        seedJob.run();
+
+        // then
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+        verify(redisTemplate, never()).opsForZSet();
+    }
+}
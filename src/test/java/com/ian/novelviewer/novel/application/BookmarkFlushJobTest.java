@@ -0,0 +1,102 @@
+package com.ian.novelviewer.novel.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookmarkFlushJobTest {
+
+    private static final String DIRTY_KEY = RedisKeyUtil.bookmarkDirtyKey();
+
+    @Mock
+    BookmarkService bookmarkService;
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    SetOperations<String, String> setOperations;
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    BookmarkFlushJob flushJob;
+
+    @BeforeEach
+    void setUp() {
+        flushJob = new BookmarkFlushJob(bookmarkService, redisTemplate, jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(flushJob, "batchSize", 100);
+
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        willAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("현재 북마크되어 있으면 UPSERT, 해제되어 있으면 DELETE로 마지막 상태만 기록한다.")
+    @SuppressWarnings("unchecked")
+    void run_writes_current_state() {
+        // given
+        given(setOperations.pop(DIRTY_KEY, 100)).willReturn(List.of("1:10", "1:20", "2:10"));
+        given(bookmarkService.getBookmarkedAt(List.of("1:10", "1:20", "2:10")))
+                .willReturn(Map.of("1:10", 1_700_000_000_000L, "2:10", 1_700_000_001_000L));
+
+        // when
+        flushJob.run();
+
+        // then
+        ArgumentCaptor<List<Object[]>> upserts = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> deletes = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("insert into bookmarks"), upserts.capture());
+        verify(jdbcTemplate).batchUpdate(contains("delete from bookmarks"), deletes.capture());
+
+        assertThat(upserts.getValue()).hasSize(2);
+        assertThat(deletes.getValue()).singleElement()
+                .satisfies(row -> assertThat(row).containsExactly(1L, 20L));
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 꺼낸 멤버를 대기 집합에 되돌린다.")
+    void run_restores_members_on_failure() {
+        // given
+        given(setOperations.pop(DIRTY_KEY, 100)).willReturn(List.of("1:10", "2:10"));
+        given(bookmarkService.getBookmarkedAt(List.of("1:10", "2:10"))).willReturn(Map.of("1:10", 1L, "2:10", 2L));
+        willThrow(new RuntimeException("db down")).given(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        // when
+        flushJob.run();
+
+        // then
+        verify(setOperations).add(DIRTY_KEY, "1:10", "2:10");
+    }
+}
@@ -0,0 +1,166 @@
+package com.ian.novelviewer.novel.application;
+
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.novel.domain.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 북마크 스크립트는 Redis에서 실행되므로, 여기서는 스크립트에 넘기는 키/인자 구성과
+ * 스크립트 안에서 기존 Set 이전, 집계 증감, 반영 대기 확인이 어떤 순서와 조건으로 일어나는지를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class BookmarkServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long NOVEL_ID = 100L;
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    BookmarkService bookmarkService;
+
+    List<InvocationOnMock> executions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        bookmarkService = new BookmarkService(redisTemplate);
+        ReflectionTestUtils.setField(bookmarkService, "reverseIndexEnabled", true);
+    }
+
+    @Test
+    @DisplayName("북마크 추가는 기존 Set을 먼저 Sorted Set으로 옮긴 뒤 같은 스크립트에서 추가한다.")
+    void add_migrates_legacy_set_before_adding() {
+        // given
+        givenScriptReturns(1L);
+
+        // when
+        boolean added = bookmarkService.add(USER_ID, NOVEL_ID, Category.FANTASY);
+
+        // then
+        assertThat(added).isTrue();
+        assertThat(keys()).containsExactly(
+                RedisKeyUtil.userBookmarkKey(USER_ID),
+                RedisKeyUtil.userBookmarksKey(USER_ID),
+                RedisKeyUtil.bookmarkDirtyKey(),
+                RedisKeyUtil.novelBookmarkCountKey(),
+                RedisKeyUtil.novelBookmarkRankingKey(Category.FANTASY.name()),
+                RedisKeyUtil.novelBookmarkersKey(NOVEL_ID));
+        assertThat(args().subList(1, args().size())).containsExactly(
+                RedisKeyUtil.bookmarkDirtyMemberPrefix(USER_ID), NOVEL_ID.toString(), USER_ID.toString(), "1");
+
+        String script = script();
+        assertThat(script.indexOf("migrate(KEYS[1], KEYS[2], KEYS[3], ARGV[1], ARGV[2])"))
+                .isLessThan(script.indexOf("redis.call('ZADD', KEYS[2], 'NX', ARGV[1], ARGV[3])"));
+    }
+
+    @Test
+    @DisplayName("이미 북마크한 소설을 다시 추가하면 집계를 올리지 않는다.")
+    void add_is_idempotent_for_counters() {
+        // given
+        givenScriptReturns(0L);
+
+        // when
+        boolean added = bookmarkService.add(USER_ID, NOVEL_ID, Category.FANTASY);
+
+        // then
+        assertThat(added).isFalse();
+        assertThat(countersGuardedBy("if added == 1 then")).isTrue();
+    }
+
+    @Test
+    @DisplayName("북마크하지 않은 소설을 삭제하면 집계를 내리지 않는다.")
+    void remove_is_idempotent_for_counters() {
+        // given
+        givenScriptReturns(0L);
+
+        // when
+        boolean removed = bookmarkService.remove(USER_ID, NOVEL_ID, Category.FANTASY);
+
+        // then
+        assertThat(removed).isFalse();
+        assertThat(keys()).hasSize(6);
+        assertThat(countersGuardedBy("if removed == 1 then")).isTrue();
+    }
+
+    @Test
+    @DisplayName("복원 시 반영 대기 멤버를 함께 넘겨, 반영 대기 중인 북마크는 건너뛴다.")
+    void restore_skips_dirty_members() {
+        // given
+        givenScriptReturns(1L);
+        List<BookmarkService.BookmarkEntry> entries = List.of(
+                new BookmarkService.BookmarkEntry(USER_ID, NOVEL_ID, 1_000L),
+                new BookmarkService.BookmarkEntry(2L, 200L, 2_000L));
+
+        // when
+        long restored = bookmarkService.restore(entries);
+
+        // then
+        assertThat(restored).isEqualTo(1);
+        assertThat(keys()).containsExactly(
+                RedisKeyUtil.bookmarkDirtyKey(),
+                RedisKeyUtil.userBookmarksKey(USER_ID),
+                RedisKeyUtil.userBookmarksKey(2L));
+        assertThat(args()).containsExactly(
+                "100", "1000", RedisKeyUtil.bookmarkDirtyMember(USER_ID, NOVEL_ID),
+                "200", "2000", RedisKeyUtil.bookmarkDirtyMember(2L, 200L));
+
+        String script = script();
+        assertThat(script.indexOf("SISMEMBER")).isPositive().isLessThan(script.indexOf("ZADD"));
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private void givenScriptReturns(Long result) {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willAnswer(invocation -> {
+                    executions.add(invocation);
+                    return result;
+                });
+    }
+
+
+    /**
+     * 집계 증감(ZINCRBY)이 모두 주어진 조건 블록 안에서만 일어나는지 확인합니다.
+     */
+    private boolean countersGuardedBy(String guard) {
+        String script = script();
+        int guardAt = script.indexOf(guard);
+        return guardAt > 0
+                && script.indexOf("ZINCRBY") > guardAt
+                && !script.substring(0, guardAt).contains("ZINCRBY");
+    }
+
+
+    private String script() {
+        return executions.get(0).<RedisScript<?>>getArgument(0).getScriptAsString();
+    }
+
+
+    private List<String> keys() {
+        return executions.get(0).getArgument(1);
+    }
+
+
+    private List<Object> args() {
+        Object[] arguments = executions.get(0).getArguments();
+        return Arrays.asList(Arrays.copyOfRange(arguments, 2, arguments.length));
+    }
+}
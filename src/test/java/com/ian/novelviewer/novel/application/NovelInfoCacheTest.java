@@ -0,0 +1,147 @@
+package com.ian.novelviewer.novel.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ian.novelviewer.common.redis.RedisKeyUtil;
+import com.ian.novelviewer.novel.domain.Category;
+import com.ian.novelviewer.novel.dto.NovelDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * NovelInfoCache 단위 테스트입니다.
+ * Redis는 Map 기반 ValueOperations/스크립트 스텁으로 대체합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class NovelInfoCacheTest {
+
+    private static final Long NOVEL_ID = 100L;
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    @Mock
+    RedisMessageListenerContainer listenerContainer;
+
+    Map<String, String> redis = new HashMap<>();
+    AtomicInteger loadCount = new AtomicInteger();
+
+    NovelInfoCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(anyString())).willAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(1);
+            Object[] args = invocation.getArguments();
+            if (!redis.getOrDefault(keys.get(1), "0").equals(args[2])) return 0L;
+            redis.put(keys.get(0), (String) args[3]);
+            return 1L;
+        });
+
+        cache = new NovelInfoCache(redisTemplate, listenerContainer, new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "localMaxSize", 100L);
+        ReflectionTestUtils.setField(cache, "localTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(cache, "redisTtl", Duration.ofMinutes(10));
+        cache.init();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB를 조회하지 않고 로컬 캐시에서 반환한다.")
+    void get_hits_local_cache() {
+        // when
+        NovelDto.NovelInfoResponse first = cache.get(NOVEL_ID, this::load);
+        NovelDto.NovelInfoResponse second = cache.get(NOVEL_ID, this::load);
+
+        // then
+        assertThat(second.getTitle()).isEqualTo(first.getTitle());
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(redis).containsKey(RedisKeyUtil.novelInfoKey(NOVEL_ID));
+        assertThat(cache.stats().localHits()).isEqualTo(1);
+        assertThat(cache.stats().redisMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시가 무효화되면 Redis 캐시에서 반환한다.")
+    void get_falls_back_to_redis_after_invalidation_message() {
+        // given
+        cache.get(NOVEL_ID, this::load);
+
+        // when
+        cache.onMessage(new DefaultMessage(new byte[0], NOVEL_ID.toString().getBytes(StandardCharsets.UTF_8)), null);
+        NovelDto.NovelInfoResponse response = cache.get(NOVEL_ID, this::load);
+
+        // then
+        assertThat(response.getTitle()).isEqualTo("테스트 소설");
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(cache.stats().redisHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시를 무효화하면 Redis 키를 삭제하고 다른 서버에 전파한다.")
+    void evict_deletes_redis_key_and_publishes() {
+        // given
+        cache.get(NOVEL_ID, this::load);
+
+        // when
+        cache.evict(NOVEL_ID);
+
+        // then
+        verify(valueOperations).increment(RedisKeyUtil.novelInfoVersionKey(NOVEL_ID));
+        verify(redisTemplate).delete(RedisKeyUtil.novelInfoKey(NOVEL_ID));
+        verify(redisTemplate).convertAndSend(RedisKeyUtil.novelCacheInvalidationChannel(), NOVEL_ID.toString());
+    }
+
+    @Test
+    @DisplayName("DB를 읽는 도중 무효화되면, 읽은 값을 Redis에 다시 쓰지 않는다.")
+    void get_skips_stale_write_back_after_eviction() {
+        // when
+        cache.get(NOVEL_ID, novelId -> {
+            redis.put(RedisKeyUtil.novelInfoVersionKey(NOVEL_ID), "1");
+            return load(novelId);
+        });
+
+        // then
+        assertThat(redis).doesNotContainKey(RedisKeyUtil.novelInfoKey(NOVEL_ID));
+    }
+
+    private NovelDto.NovelInfoResponse load(Long novelId) {
+        loadCount.incrementAndGet();
+        return NovelDto.NovelInfoResponse.builder()
+                .novelId(novelId)
+                .title("테스트 소설")
+                .thumbnail("thumbnail")
+                .description("설명")
+                .category(Category.FANTASY)
+                .author("작가")
+                .build();
+    }
+}
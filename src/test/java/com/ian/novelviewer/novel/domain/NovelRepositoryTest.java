@@ -0,0 +1,137 @@
+package com.ian.novelviewer.novel.domain;
+
+import com.ian.novelviewer.common.config.JpaConfig;
+import com.ian.novelviewer.novel.dto.NovelDto;
+import com.ian.novelviewer.user.domain.User;
+import com.ian.novelviewer.user.dto.UserDto;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.ian.novelviewer.common.enums.Role.ROLE_AUTHOR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 소설 목록 조회 시 작가 정보로 인한 추가 쿼리(N+1)가 발생하지 않는지 SQL 실행 횟수로 검증합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database=h2",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(JpaConfig.class)
+class NovelRepositoryTest {
+
+    private static final int NOVEL_COUNT = 30;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    NovelRepository novelRepository;
+
+    @Autowired
+    TestEntityManager em;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        User author = em.persist(User.builder()
+                .loginId("author")
+                .password("encodedPassword")
+                .userName("작가")
+                .email("author@example.com")
+                .authorName("테스트작가")
+                .roles(new ArrayList<>(List.of(ROLE_AUTHOR)))
+                .build());
+
+        for (long i = 1; i <= NOVEL_COUNT; i++) {
+            em.persist(Novel.builder()
+                    .novelId(i)
+                    .thumbnail("thumbnail-" + i)
+                    .title("소설 " + i)
+                    .description("설명")
+                    .category(i % 2 == 0 ? Category.FANTASY : Category.ROMANCE)
+                    .author(author)
+                    .build());
+        }
+
+        em.flush();
+        em.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("소설 목록 한 페이지는 목록 쿼리와 count 쿼리 2개로 조회된다.")
+    void getAllNovels_page_uses_two_statements() {
+        // when
+        List<NovelDto.NovelResponse> responses = novelRepository.findSummaries(PageRequest.of(0, PAGE_SIZE))
+                .map(NovelDto.NovelResponse::from)
+                .getContent();
+
+        // then
+        assertThat(responses).hasSize(PAGE_SIZE)
+                .allSatisfy(response -> assertThat(response.getAuthor()).isEqualTo("테스트작가"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커서 기반 목록은 count 쿼리 없이 1개의 쿼리로 조회된다.")
+    void getNovelsByCursor_uses_one_statement() {
+        // when
+        List<NovelDto.NovelResponse> responses = novelRepository.findLatest(PageRequest.of(0, PAGE_SIZE))
+                .map(NovelDto.NovelResponse::from)
+                .getContent();
+
+        // then
+        assertThat(responses).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검색 결과 id 목록은 1개의 쿼리로 작가명까지 조회된다.")
+    void searchNovel_by_ids_uses_one_statement() {
+        // given
+        List<Long> ids = novelRepository.findAll().stream().map(Novel::getId).limit(PAGE_SIZE).toList();
+        statistics.clear();
+
+        // when
+        List<NovelSummary> novels = novelRepository.findSummariesByIdIn(ids);
+
+        // then
+        assertThat(novels).hasSize(PAGE_SIZE)
+                .allSatisfy(novel -> assertThat(novel.authorName()).isEqualTo("테스트작가"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("북마크 목록 한 페이지의 소설은 1개의 쿼리로 작가명까지 조회된다.")
+    void getBookmarks_page_uses_one_statement() {
+        // given
+        List<Long> novelIds = LongStream.rangeClosed(1, PAGE_SIZE).boxed().toList();
+
+        // when
+        List<UserDto.BookmarksResponse> responses = novelRepository.findSummariesByNovelIds(novelIds).stream()
+                .map(UserDto.BookmarksResponse::from)
+                .toList();
+
+        // then
+        assertThat(responses).hasSize(PAGE_SIZE)
+                .allSatisfy(response -> assertThat(response.getAuthor()).isEqualTo("테스트작가"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}